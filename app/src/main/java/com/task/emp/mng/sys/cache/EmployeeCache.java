@@ -0,0 +1,118 @@
+package com.task.emp.mng.sys.cache;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.task.emp.mng.sys.entity.Employee;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * In-process read-through cache of {@link Employee} entities keyed by ID.
+ * 
+ * <p>
+ * The cache is bounded by entry count and evicts using Caffeine's W-TinyLFU
+ * policy, which keeps a hot working set resident even when it is scanned by
+ * one-off lookups. Entries also expire a fixed time after they were loaded, which
+ * bounds how stale an entry can become if an invalidation is missed, for
+ * example when the row is changed by another application instance.
+ * </p>
+ * 
+ * <p>
+ * Lookups for IDs that do not exist are not cached.
+ * </p>
+ * 
+ * <p>
+ * The cache statistics are also exposed as the {@code cache.*} meters tagged
+ * with {@code cache=employees}.
+ * </p>
+ * 
+ * @author agent
+ * @since 2026-10-17
+ */
+@Component
+public class EmployeeCache implements MeterBinder {
+
+	private final Cache<Long, Employee> cache;
+
+	/**
+	 * Creates the cache with the configured bounds.
+	 *
+	 * @param maximumSize      the maximum number of employees kept in the cache
+	 * @param expireAfterWrite how long an employee stays cached after it was loaded
+	 */
+	public EmployeeCache(@Value("${employee.cache.maximum-size:10000}") long maximumSize,
+			@Value("${employee.cache.expire-after-write:10m}") Duration expireAfterWrite) {
+		this.cache = Caffeine.newBuilder().maximumSize(maximumSize).expireAfterWrite(expireAfterWrite).recordStats().build();
+	}
+
+	/**
+	 * Returns the cached employee for the given ID, loading it with the given
+	 * loader on a miss. Concurrent misses for the same ID share a single load.
+	 *
+	 * @param id     the ID of the employee
+	 * @param loader the function loading the employee, returning null if it does not exist
+	 * @return the employee, or null if it does not exist
+	 */
+	public Employee get(Long id, Function<Long, Employee> loader) {
+		return cache.get(id, loader);
+	}
+
+	/**
+	 * Returns the cached employee for the given ID without loading it.
+	 *
+	 * @param id the ID of the employee
+	 * @return the employee, or null if it is not cached
+	 */
+	public Employee getIfPresent(Long id) {
+		return cache.getIfPresent(id);
+	}
+
+	/**
+	 * Removes the employee with the given ID from the cache, so the next lookup
+	 * reads it from the database.
+	 *
+	 * @param id the ID of the employee
+	 */
+	public void invalidate(Long id) {
+		cache.invalidate(id);
+	}
+
+	/**
+	 * Registers the cache meters.
+	 *
+	 * @param registry the registry the meters are registered with
+	 */
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		CaffeineCacheMetrics.monitor(registry, cache, "employees");
+	}
+
+	/**
+	 * Returns a snapshot of the cache counters, for sizing the cache.
+	 *
+	 * @return the current size and the hit, miss and eviction counters
+	 */
+	public Map<String, Number> getStatistics() {
+		CacheStats stats = cache.stats();
+		Map<String, Number> statistics = new LinkedHashMap<>();
+		statistics.put("size", cache.estimatedSize());
+		statistics.put("hitCount", stats.hitCount());
+		statistics.put("missCount", stats.missCount());
+		statistics.put("hitRate", stats.hitRate());
+		statistics.put("evictionCount", stats.evictionCount());
+		statistics.put("loadCount", stats.loadCount());
+		return statistics;
+	}
+
+}
@@ -0,0 +1,244 @@
+package com.task.emp.mng.sys.cache;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.task.emp.mng.sys.repository.EmployeeRepository;
+import com.task.emp.mng.sys.utils.UsernameUtils;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PostConstruct;
+
+/**
+ * In-memory Bloom filter over the usernames of all employees, used to skip the
+ * duplicate check when an employee is created or renamed.
+ * 
+ * <p>
+ * If the filter does not contain a username, no employee known to this
+ * instance has it, and the write goes ahead without a lookup. If the filter
+ * might contain it, one indexed existence query decides. The unique constraint
+ * on the username column remains the final guard, so a username taken through
+ * another instance since the last build still ends in a constraint violation
+ * rather than a duplicate.
+ * </p>
+ * 
+ * <p>
+ * The bits are kept in an {@link AtomicLongArray} and set with compare and
+ * set, so usernames are added and looked up without locking. Each username is
+ * hashed once to 64 bits, and the bit positions are derived from the two
+ * halves of the hash. Usernames are hashed in lower case, since the unique
+ * index ignores case and "JDoe" must therefore be found once "jdoe" is taken.
+ * Deleted and renamed usernames cannot be removed and only
+ * raise the false positive rate, so the filter is rebuilt from the database on
+ * startup and then periodically, sized for twice the current number of
+ * employees. Usernames added during a rebuild go into both filters.
+ * </p>
+ * 
+ * <p>
+ * Until the first build completes, every username might be contained. The
+ * outcome of every check is counted by the {@code employee.username.filter}
+ * counter, tagged with {@code result=negative} or {@code result=positive}.
+ * </p>
+ * 
+ * @author agent
+ * @since 2026-10-17
+ */
+@Component
+public class UsernameBloomFilter implements MeterBinder {
+
+	@Autowired
+	private EmployeeRepository employeeRepository;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	private final long minExpectedInsertions;
+
+	private final double falsePositiveRate;
+
+	private volatile Bits bits;
+
+	private volatile Bits building;
+
+	private final LongAdder negatives = new LongAdder();
+
+	private final LongAdder positives = new LongAdder();
+
+	/**
+	 * Creates an empty filter, which might contain every username until it is
+	 * built.
+	 *
+	 * @param minExpectedInsertions the minimum number of usernames the filter is sized for
+	 * @param falsePositiveRate     the targeted probability that an absent username might be contained
+	 */
+	public UsernameBloomFilter(@Value("${employee.username-filter.min-expected-insertions:100000}") long minExpectedInsertions,
+			@Value("${employee.username-filter.false-positive-rate:0.01}") double falsePositiveRate) {
+		this.minExpectedInsertions = minExpectedInsertions;
+		this.falsePositiveRate = falsePositiveRate;
+	}
+
+	/**
+	 * Builds the filter from every username in the database, replacing the
+	 * current filter once done. The usernames are read in a read-write
+	 * transaction, which always goes to the primary database rather than a
+	 * possibly lagging replica.
+	 */
+	@PostConstruct
+	@Scheduled(initialDelayString = "${employee.username-filter.rebuild-interval-ms:3600000}", fixedDelayString = "${employee.username-filter.rebuild-interval-ms:3600000}")
+	public void rebuild() {
+		TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+		try {
+			transaction.executeWithoutResult(status -> {
+				Bits next = new Bits(Math.max(minExpectedInsertions, 2 * employeeRepository.count()), falsePositiveRate);
+				building = next;
+				try (Stream<String> usernames = employeeRepository.streamUsernamesBy()) {
+					usernames.forEach(next::add);
+				}
+				bits = next;
+			});
+		} finally {
+			building = null;
+		}
+	}
+
+	/**
+	 * Adds a username to the filter.
+	 *
+	 * @param username the username of a created or renamed employee
+	 */
+	public void add(String username) {
+		Bits current = bits;
+		if (current != null) {
+			current.add(username);
+		}
+		Bits next = building;
+		if (next != null) {
+			next.add(username);
+		}
+	}
+
+	/**
+	 * Tells whether a username might be taken. A false result means the username
+	 * is not taken by any employee created through this instance or present at
+	 * the last build.
+	 *
+	 * @param username the username to check
+	 * @return false if the username is certainly not contained, true if it might be
+	 */
+	public boolean mightContain(String username) {
+		Bits current = bits;
+		boolean result = current == null || current.mightContain(username);
+		(result ? positives : negatives).increment();
+		return result;
+	}
+
+	/**
+	 * Registers the filter meters.
+	 *
+	 * @param registry the registry the meters are registered with
+	 */
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		FunctionCounter.builder("employee.username.filter", negatives, LongAdder::sum).tag("result", "negative")
+				.description("Username checks answered by the filter alone").register(registry);
+		FunctionCounter.builder("employee.username.filter", positives, LongAdder::sum).tag("result", "positive")
+				.description("Username checks that needed a database lookup").register(registry);
+		Gauge.builder("employee.username.filter.bits", this, filter -> filter.bits != null ? filter.bits.size() : 0)
+				.description("Size of the username filter in bits").register(registry);
+	}
+
+	/**
+	 * The bit array of one filter generation.
+	 */
+	private static final class Bits {
+
+		private final AtomicLongArray words;
+
+		private final long size;
+
+		private final int hashCount;
+
+		/**
+		 * Creates a bit array sized for the given number of usernames and false
+		 * positive rate.
+		 *
+		 * @param expectedInsertions the number of usernames to size for
+		 * @param falsePositiveRate  the targeted false positive rate
+		 */
+		Bits(long expectedInsertions, double falsePositiveRate) {
+			double ln2 = Math.log(2);
+			long bitCount = Math.max(64, (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (ln2 * ln2)));
+			this.words = new AtomicLongArray(Math.toIntExact((bitCount + 63) / 64));
+			this.size = words.length() * 64L;
+			this.hashCount = Math.max(1, (int) Math.round((double) size / expectedInsertions * ln2));
+		}
+
+		long size() {
+			return size;
+		}
+
+		void add(String username) {
+			long hash = hash(username);
+			for (int i = 0; i < hashCount; i++) {
+				long bit = position(hash, i);
+				int index = (int) (bit >>> 6);
+				long mask = 1L << bit;
+				long word = words.get(index);
+				while ((word & mask) == 0 && !words.weakCompareAndSetVolatile(index, word, word | mask)) {
+					word = words.get(index);
+				}
+			}
+		}
+
+		boolean mightContain(String username) {
+			long hash = hash(username);
+			for (int i = 0; i < hashCount; i++) {
+				long bit = position(hash, i);
+				if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		/**
+		 * Derives the i-th bit position from the two halves of the hash.
+		 */
+		private long position(long hash, int i) {
+			long combined = (hash >>> 32) + i * (hash & 0xFFFFFFFFL);
+			return Math.floorMod(combined, size);
+		}
+
+		/**
+		 * Hashes the normalized username with 64-bit FNV-1a over its characters,
+		 * followed by the MurmurHash3 finalizer to spread the bits of short strings.
+		 */
+		private static long hash(String username) {
+			String normalized = UsernameUtils.normalize(username);
+			long hash = 0xcbf29ce484222325L;
+			for (int i = 0; i < normalized.length(); i++) {
+				hash ^= normalized.charAt(i);
+				hash *= 0x100000001b3L;
+			}
+			hash ^= hash >>> 33;
+			hash *= 0xff51afd7ed558ccdL;
+			hash ^= hash >>> 33;
+			hash *= 0xc4ceb9fe1a85ec53L;
+			hash ^= hash >>> 33;
+			return hash;
+		}
+
+	}
+
+}
@@ -0,0 +1,266 @@
+package com.task.emp.mng.sys.compression;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+
+/**
+ * Filter making {@code server.compression.min-response-size} apply to
+ * responses written without a {@code Content-Length}.
+ *
+ * <p>
+ * Tomcat only compares the threshold with the declared length of a response,
+ * and compresses every response of unknown length. Spring MVC writes JSON
+ * without declaring its length, so without this filter even a body of a few
+ * bytes is compressed. The filter holds the body back until it reaches the
+ * threshold: a body that ends below it is sent with its length and stays
+ * uncompressed, while a larger body is passed on as it is written and Tomcat
+ * compresses it. At most the threshold is held in memory per request.
+ * </p>
+ *
+ * <p>
+ * Flushes are held back with the body, so that the final flush of a message
+ * converter does not commit the response before its length is known. Once a
+ * request goes asynchronous, as the streaming export does, the held bytes are
+ * sent and everything written afterwards passes straight through. If the
+ * request fails, the held bytes are dropped, as the container resets the
+ * uncommitted response to render the error anyway.
+ * </p>
+ *
+ * @author agent
+ * @since 2026-10-17
+ */
+public class CompressionThresholdFilter extends OncePerRequestFilter {
+
+	private final int threshold;
+
+	/**
+	 * Creates the filter.
+	 *
+	 * @param threshold the size in bytes from which responses are compressed
+	 */
+	public CompressionThresholdFilter(int threshold) {
+		this.threshold = threshold;
+	}
+
+	/**
+	 * Handles the request, holding back the body of its response until the
+	 * threshold or the end of the request.
+	 */
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+			throws ServletException, IOException {
+		ThresholdResponse wrapper = new ThresholdResponse(response, threshold);
+		filterChain.doFilter(request, wrapper);
+		if (request.isAsyncStarted()) {
+			wrapper.passThrough();
+		} else {
+			wrapper.finish();
+		}
+	}
+
+	/**
+	 * Response holding back its body until the threshold.
+	 */
+	private static final class ThresholdResponse extends HttpServletResponseWrapper {
+
+		private final int threshold;
+
+		private ByteArrayOutputStream buffer;
+
+		private boolean flushRequested;
+
+		private ThresholdOutputStream outputStream;
+
+		private PrintWriter writer;
+
+		ThresholdResponse(HttpServletResponse response, int threshold) {
+			super(response);
+			this.threshold = threshold;
+			this.buffer = new ByteArrayOutputStream();
+		}
+
+		@Override
+		public ServletOutputStream getOutputStream() throws IOException {
+			if (writer != null) {
+				throw new IllegalStateException("getWriter() has already been called for this response");
+			}
+			return stream();
+		}
+
+		@Override
+		public PrintWriter getWriter() throws IOException {
+			if (writer == null) {
+				if (outputStream != null) {
+					throw new IllegalStateException("getOutputStream() has already been called for this response");
+				}
+				writer = new PrintWriter(new OutputStreamWriter(stream(), getCharacterEncoding()));
+			}
+			return writer;
+		}
+
+		@Override
+		public void flushBuffer() throws IOException {
+			if (writer != null) {
+				writer.flush();
+			}
+			if (buffer != null) {
+				flushRequested = true;
+			} else {
+				super.flushBuffer();
+			}
+		}
+
+		@Override
+		public void resetBuffer() {
+			super.resetBuffer();
+			if (buffer != null) {
+				buffer.reset();
+			}
+		}
+
+		@Override
+		public void reset() {
+			super.reset();
+			if (buffer != null) {
+				buffer.reset();
+			}
+		}
+
+		@Override
+		public void sendError(int sc, String msg) throws IOException {
+			resetBuffer();
+			super.sendError(sc, msg);
+		}
+
+		@Override
+		public void sendError(int sc) throws IOException {
+			resetBuffer();
+			super.sendError(sc);
+		}
+
+		private ThresholdOutputStream stream() throws IOException {
+			if (outputStream == null) {
+				outputStream = new ThresholdOutputStream(this);
+			}
+			return outputStream;
+		}
+
+		/**
+		 * Writes bytes of the body, holding them back while the body is below the
+		 * threshold.
+		 */
+		void write(byte[] bytes, int offset, int length) throws IOException {
+			if (buffer != null) {
+				if (buffer.size() + length < threshold) {
+					buffer.write(bytes, offset, length);
+					return;
+				}
+				passThrough();
+			}
+			getResponse().getOutputStream().write(bytes, offset, length);
+		}
+
+		/**
+		 * Flushes the body if it is no longer held back.
+		 */
+		void flush() throws IOException {
+			if (buffer != null) {
+				flushRequested = true;
+			} else {
+				getResponse().getOutputStream().flush();
+			}
+		}
+
+		/**
+		 * Sends the held bytes without a length, and stops holding back the body.
+		 */
+		void passThrough() throws IOException {
+			if (writer != null) {
+				writer.flush();
+			}
+			if (buffer == null) {
+				return;
+			}
+			ByteArrayOutputStream held = buffer;
+			buffer = null;
+			if (held.size() > 0) {
+				getResponse().getOutputStream().write(held.toByteArray());
+			}
+			if (flushRequested) {
+				getResponse().flushBuffer();
+			}
+		}
+
+		/**
+		 * Sends the body held back at the end of the request, with its length.
+		 */
+		void finish() throws IOException {
+			if (writer != null) {
+				writer.flush();
+			}
+			if (buffer == null) {
+				return;
+			}
+			ByteArrayOutputStream held = buffer;
+			buffer = null;
+			if (held.size() > 0) {
+				if (!isCommitted() && !containsHeader("Content-Length")) {
+					setContentLength(held.size());
+				}
+				getResponse().getOutputStream().write(held.toByteArray());
+			}
+		}
+
+	}
+
+	/**
+	 * Output stream handing the body to its {@link ThresholdResponse}.
+	 */
+	private static final class ThresholdOutputStream extends ServletOutputStream {
+
+		private final ThresholdResponse response;
+
+		ThresholdOutputStream(ThresholdResponse response) {
+			this.response = response;
+		}
+
+		@Override
+		public void write(int b) throws IOException {
+			response.write(new byte[] { (byte) b }, 0, 1);
+		}
+
+		@Override
+		public void write(byte[] bytes, int offset, int length) throws IOException {
+			response.write(bytes, offset, length);
+		}
+
+		@Override
+		public void flush() throws IOException {
+			response.flush();
+		}
+
+		@Override
+		public boolean isReady() {
+			return true;
+		}
+
+		@Override
+		public void setWriteListener(WriteListener writeListener) {
+			throw new UnsupportedOperationException("Non-blocking writes are not supported");
+		}
+
+	}
+
+}
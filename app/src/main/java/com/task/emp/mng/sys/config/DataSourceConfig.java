@@ -0,0 +1,145 @@
+package com.task.emp.mng.sys.config;
+
+import java.time.Duration;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.task.emp.mng.sys.datasource.ReadYourWritesFilter;
+import com.task.emp.mng.sys.datasource.ReplicaLagMonitor;
+import com.task.emp.mng.sys.datasource.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * Data source configuration splitting reads and writes between the primary
+ * database and a read replica. It is only active when
+ * {@code spring.datasource.replica.enabled} is true; otherwise the single
+ * data source configured under {@code spring.datasource} is used for
+ * everything.
+ * 
+ * <p>
+ * The primary pool is configured under {@code spring.datasource} as usual and
+ * the replica pool under {@code spring.datasource.replica}. The application
+ * data source is a {@link ReplicaRoutingDataSource} over both, and a
+ * {@link ReadYourWritesFilter} tracks the last write of each client.
+ * </p>
+ * 
+ * @author agent
+ * @since 2026-10-17
+ */
+@Configuration
+@ConditionalOnProperty(name = "spring.datasource.replica.enabled", havingValue = "true")
+public class DataSourceConfig {
+
+	/**
+	 * Binds the connection properties of the primary database.
+	 *
+	 * @return the properties under {@code spring.datasource}
+	 */
+	@Bean
+	@Primary
+	@ConfigurationProperties("spring.datasource")
+	public DataSourceProperties primaryDataSourceProperties() {
+		return new DataSourceProperties();
+	}
+
+	/**
+	 * Creates the connection pool of the primary database.
+	 *
+	 * @param properties the properties under {@code spring.datasource}
+	 * @return the primary pool
+	 */
+	@Bean
+	@ConfigurationProperties("spring.datasource.hikari")
+	public HikariDataSource primaryDataSource(@Qualifier("primaryDataSourceProperties") DataSourceProperties properties) {
+		return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+	}
+
+	/**
+	 * Binds the connection properties of the read replica.
+	 *
+	 * @return the properties under {@code spring.datasource.replica}
+	 */
+	@Bean
+	@ConfigurationProperties("spring.datasource.replica")
+	public DataSourceProperties replicaDataSourceProperties() {
+		return new DataSourceProperties();
+	}
+
+	/**
+	 * Creates the connection pool of the read replica. Replica connections are
+	 * read-only.
+	 *
+	 * @param properties the properties under {@code spring.datasource.replica}
+	 * @return the replica pool
+	 */
+	@Bean
+	@ConfigurationProperties("spring.datasource.replica.hikari")
+	public HikariDataSource replicaDataSource(@Qualifier("replicaDataSourceProperties") DataSourceProperties properties) {
+		HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+		dataSource.setReadOnly(true);
+		return dataSource;
+	}
+
+	/**
+	 * Creates the monitor of the replica lag.
+	 *
+	 * @param primary the primary pool
+	 * @param replica the replica pool
+	 * @param maxLag  the maximum lag at which the replica is still used
+	 * @return the lag monitor
+	 */
+	@Bean
+	public ReplicaLagMonitor replicaLagMonitor(@Qualifier("primaryDataSource") DataSource primary, @Qualifier("replicaDataSource") DataSource replica,
+			@Value("${spring.datasource.replica.max-lag:2s}") Duration maxLag) {
+		return new ReplicaLagMonitor(new JdbcTemplate(primary), new JdbcTemplate(replica), maxLag);
+	}
+
+	/**
+	 * Creates the data source routing read-only transactions to the replica.
+	 *
+	 * @param primary    the primary pool
+	 * @param replica    the replica pool
+	 * @param lagMonitor the monitor of the replica lag
+	 * @return the routing data source
+	 */
+	@Bean
+	public ReplicaRoutingDataSource routingDataSource(@Qualifier("primaryDataSource") DataSource primary,
+			@Qualifier("replicaDataSource") DataSource replica, ReplicaLagMonitor lagMonitor) {
+		return new ReplicaRoutingDataSource(primary, replica, lagMonitor);
+	}
+
+	/**
+	 * Creates the application data source, which picks the target of the routing
+	 * data source on the first statement of a transaction.
+	 *
+	 * @param routingDataSource the routing data source
+	 * @return the lazily routing data source
+	 */
+	@Bean
+	@Primary
+	public DataSource dataSource(ReplicaRoutingDataSource routingDataSource) {
+		return routingDataSource.lazy();
+	}
+
+	/**
+	 * Creates the filter tracking the last write of each client.
+	 *
+	 * @param maxLag the maximum lag at which the replica is still used
+	 * @return the read-your-writes filter
+	 */
+	@Bean
+	public ReadYourWritesFilter readYourWritesFilter(@Value("${spring.datasource.replica.max-lag:2s}") Duration maxLag) {
+		return new ReadYourWritesFilter(maxLag);
+	}
+
+}
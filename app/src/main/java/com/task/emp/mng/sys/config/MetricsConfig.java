@@ -0,0 +1,38 @@
+package com.task.emp.mng.sys.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.micrometer.core.annotation.Timed;
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Metrics configuration of the application.
+ * 
+ * <p>
+ * Registers the {@link TimedAspect}, which records the latency of every
+ * method of a bean annotated with {@link Timed}, tagged with the class and
+ * method name. Repository calls, Kafka sends and Kafka listeners are timed by
+ * Spring Boot and Spring for Apache Kafka themselves, and components with
+ * meters of their own register them as {@code MeterBinder}s.
+ * </p>
+ * 
+ * @author agent
+ * @since 2026-10-17
+ */
+@Configuration
+public class MetricsConfig {
+
+	/**
+	 * Creates the aspect timing {@link Timed} beans.
+	 *
+	 * @param meterRegistry the registry the timers are registered with
+	 * @return the timed aspect
+	 */
+	@Bean
+	public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+		return new TimedAspect(meterRegistry);
+	}
+
+}
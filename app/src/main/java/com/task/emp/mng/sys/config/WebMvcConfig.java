@@ -0,0 +1,85 @@
+package com.task.emp.mng.sys.config;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import com.task.emp.mng.sys.compression.CompressionThresholdFilter;
+import com.task.emp.mng.sys.limiter.AdaptiveConcurrencyLimiter;
+import com.task.emp.mng.sys.limiter.JdbcConcurrencyLimiter;
+import com.task.emp.mng.sys.utils.ApiPathConstants;
+
+/**
+ * Web MVC configuration registering the request interceptors and the response
+ * compression filter of the application.
+ * 
+ * <p>
+ * The {@link AdaptiveConcurrencyLimiter}, when enabled, applies to the employee
+ * endpoints and runs first, so that a request it sheds is rejected before it
+ * waits for a JDBC permit. The {@link JdbcConcurrencyLimiter}, when enabled,
+ * applies to every endpoint. Both skip the endpoints served from memory, which
+ * never wait on the database.
+ * </p>
+ * 
+ * <p>
+ * When response compression is enabled, the {@link CompressionThresholdFilter}
+ * makes its minimum response size apply to JSON responses, which are written
+ * without a length.
+ * </p>
+ * 
+ * @author agent
+ * @since 2026-10-17
+ */
+@Configuration
+public class WebMvcConfig implements WebMvcConfigurer {
+
+	/**
+	 * The endpoints served from memory.
+	 */
+	private static final String[] IN_MEMORY_PATHS = { ApiPathConstants.EMPLOYEES + ApiPathConstants.SEARCH,
+			ApiPathConstants.EMPLOYEES + ApiPathConstants.CACHE_STATS,
+			ApiPathConstants.EMPLOYEES + ApiPathConstants.DEPARTMENT_ANALYTICS,
+			ApiPathConstants.EMPLOYEES + ApiPathConstants.READ_MODEL_STATUS };
+
+	@Autowired(required = false)
+	private AdaptiveConcurrencyLimiter adaptiveConcurrencyLimiter;
+
+	@Autowired(required = false)
+	private JdbcConcurrencyLimiter jdbcConcurrencyLimiter;
+
+	/**
+	 * Registers the enabled interceptors.
+	 *
+	 * @param registry the interceptor registry
+	 */
+	@Override
+	public void addInterceptors(InterceptorRegistry registry) {
+		if (adaptiveConcurrencyLimiter != null) {
+			registry.addInterceptor(adaptiveConcurrencyLimiter).addPathPatterns(ApiPathConstants.EMPLOYEES + "/**")
+					.excludePathPatterns(IN_MEMORY_PATHS);
+		}
+		if (jdbcConcurrencyLimiter != null) {
+			registry.addInterceptor(jdbcConcurrencyLimiter).excludePathPatterns(IN_MEMORY_PATHS);
+		}
+	}
+
+	/**
+	 * Creates the filter applying the compression threshold to responses of
+	 * unknown length.
+	 *
+	 * @param minResponseSize the size from which responses are compressed
+	 * @return the compression threshold filter
+	 */
+	@Bean
+	@ConditionalOnProperty(name = "server.compression.enabled", havingValue = "true")
+	public CompressionThresholdFilter compressionThresholdFilter(
+			@Value("${server.compression.min-response-size:2KB}") DataSize minResponseSize) {
+		return new CompressionThresholdFilter((int) minResponseSize.toBytes());
+	}
+
+}
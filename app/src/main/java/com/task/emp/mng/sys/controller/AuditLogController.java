@@ -0,0 +1,58 @@
+package com.task.emp.mng.sys.controller;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.task.emp.mng.sys.entity.AuditLog;
+import com.task.emp.mng.sys.response.ApiResponseContainer;
+import com.task.emp.mng.sys.response.KeysetPage;
+import com.task.emp.mng.sys.response.ResponseContainerEntity;
+import com.task.emp.mng.sys.service.AuditLogService;
+import com.task.emp.mng.sys.utils.ApiPathConstants;
+
+/**
+ * Controller class for querying the audit log. It maps requests to the
+ * "/audit-logs" API path.
+ *
+ * @author agent
+ * @since 2026-10-17
+ */
+@RestController
+@RequestMapping(ApiPathConstants.AUDIT_LOGS)
+public class AuditLogController {
+
+	@Autowired
+	private AuditLogService auditLogService;
+
+	/**
+	 * Retrieves one page of audit log entries, ordered by event time, optionally
+	 * filtered by time range, event type and entity ID. Clients walk the results by
+	 * passing the returned next cursor back as {@code after} until no cursor is
+	 * returned.
+	 *
+	 * @param from      the inclusive lower bound of the event time, as an ISO-8601 instant
+	 * @param to        the exclusive upper bound of the event time, as an ISO-8601 instant
+	 * @param eventType the event type to match, for example "UPDATE"
+	 * @param entityId  the entity ID to match
+	 * @param after     the cursor returned with the previous page, or absent for the first page
+	 * @param limit     the maximum number of entries to return, or absent for the default page size
+	 * @return a response containing a page of audit log entries and the next cursor, or a no content response if none match
+	 */
+	@GetMapping
+	public ResponseContainerEntity<List<AuditLog>> getAuditLogs(@RequestParam(required = false) Instant from,
+			@RequestParam(required = false) Instant to, @RequestParam(required = false) String eventType,
+			@RequestParam(required = false) String entityId, @RequestParam(required = false) String after,
+			@RequestParam(required = false) Integer limit) {
+		KeysetPage<AuditLog> page = auditLogService.getAuditLogs(from, to, eventType, entityId, after, limit);
+		List<AuditLog> logs = page.getContent();
+		return ApiResponseContainer.getResponse("Success", logs, logs.isEmpty() ? HttpStatus.NO_CONTENT : HttpStatus.OK, page.getNextCursor());
+	}
+
+}
@@ -0,0 +1,378 @@
+package com.task.emp.mng.sys.controller;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+
+import com.task.emp.mng.sys.cache.EmployeeCache;
+import com.task.emp.mng.sys.entity.Employee;
+import com.task.emp.mng.sys.idempotency.IdempotencyStore;
+import com.task.emp.mng.sys.readmodel.EmployeeReadModel;
+import com.task.emp.mng.sys.repository.EmployeeSummary;
+import com.task.emp.mng.sys.response.ApiResponseContainer;
+import com.task.emp.mng.sys.response.BulkItemResult;
+import com.task.emp.mng.sys.response.DepartmentStatistics;
+import com.task.emp.mng.sys.response.KeysetPage;
+import com.task.emp.mng.sys.response.ResponseContainerEntity;
+import com.task.emp.mng.sys.response.SearchResult;
+import com.task.emp.mng.sys.search.EmployeeSearchIndex;
+import com.task.emp.mng.sys.service.DepartmentAnalyticsService;
+import com.task.emp.mng.sys.service.EmployeeService;
+import com.task.emp.mng.sys.utils.ApiPathConstants;
+import com.task.emp.mng.sys.utils.Constants;
+
+import jakarta.validation.Valid;
+
+/**
+ * Controller class for managing Employee-related operations. This class
+ * provides endpoints for creating, updating, deleting, and retrieving
+ * employees. It maps requests to the "/employees" API path, following RESTful
+ * conventions.
+ * 
+ * <p>
+ * Employee lookups by ID and the employee listings carry entity tags: the
+ * version of the employee row and the version of the employee collection
+ * respectively. The tags are weak, since the same version may be sent
+ * compressed or uncompressed, and the server does not compress responses with
+ * strong tags. A request whose {@code If-None-Match} header holds the current
+ * tag is answered with 304 Not Modified before the response is built, so a
+ * client polling unchanged data costs neither a database query nor
+ * serialization.
+ * </p>
+ *
+ * @author Jatin
+ * @since 2024-10-11
+ */
+@RestController
+@RequestMapping(ApiPathConstants.EMPLOYEES)
+public class EmployeeController {
+
+	@Autowired
+	private EmployeeService employeeService;
+
+	@Autowired
+	private EmployeeCache employeeCache;
+
+	@Autowired(required = false)
+	private DepartmentAnalyticsService departmentAnalyticsService;
+
+	@Autowired(required = false)
+	private EmployeeReadModel employeeReadModel;
+
+	@Autowired
+	private EmployeeSearchIndex employeeSearchIndex;
+
+	@Autowired
+	private IdempotencyStore idempotencyStore;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	/**
+	 * Creates a new employee. A client that may retry the request sends an
+	 * {@code Idempotency-Key} header; a retry with the same key and body then
+	 * returns the employee created by the first attempt, without creating it or
+	 * publishing its event again.
+	 *
+	 * @param idempotencyKey the idempotency key chosen by the client, or absent
+	 * @param employee the employee object to be created, validated before processing
+	 * @return a response containing the newly created employee and a success message
+	 */
+	@PostMapping
+	public ResponseContainerEntity<Employee> createEmployee(@RequestHeader(name = Constants.IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+			@Valid @RequestBody Employee employee) {
+		Employee createdEmployee = idempotencyKey == null ? employeeService.createEmployee(employee)
+				: idempotencyStore.execute(idempotencyKey, employee, () -> employeeService.createEmployee(employee));
+		return ApiResponseContainer.getResponse(Constants.CREATED, createdEmployee, HttpStatus.CREATED);
+	}
+
+	/**
+	 * Creates several employees in one request. The response lists the outcome of
+	 * every submitted employee in submission order, including username conflicts.
+	 *
+	 * @param employees the employees to be created
+	 * @return a created response if every employee was created, otherwise a multi-status response with the per-item results
+	 */
+	@PostMapping(ApiPathConstants.BULK)
+	public ResponseContainerEntity<List<BulkItemResult>> createEmployees(@RequestBody List<Employee> employees) {
+		List<BulkItemResult> results = employeeService.createEmployees(employees);
+		boolean allCreated = results.stream().allMatch(result -> BulkItemResult.CREATED.equals(result.getStatus()));
+		return ApiResponseContainer.getResponse(Constants.BULK_PROCESSED, results, allCreated ? HttpStatus.CREATED : HttpStatus.MULTI_STATUS);
+	}
+
+	/**
+	 * Updates an existing employee based on the given ID.
+	 *
+	 * @param id the ID of the employee to be updated
+	 * @param employee the updated employee data, validated before processing
+	 * @return a response containing the updated employee and a success message, or a not found response if the employee doesn't exist
+	 */
+	@PutMapping(ApiPathConstants.ID)
+	public ResponseContainerEntity<Employee> updateEmployee(@PathVariable Long id, @Valid @RequestBody Employee employee) {
+		return ApiResponseContainer.getResponse(Constants.UPDATED, employeeService.updateEmployee(id, employee), HttpStatus.CREATED);
+	}
+
+	/**
+	 * Partially updates an existing employee. Only the fields present in the
+	 * request body are changed, and the body must carry the version of the
+	 * employee the client last read.
+	 *
+	 * @param id the ID of the employee to be updated
+	 * @param patch the fields to change together with the expected version
+	 * @return a response containing the updated employee, or a conflict response if the employee was modified in the meantime
+	 */
+	@PatchMapping(ApiPathConstants.ID)
+	public ResponseContainerEntity<Employee> patchEmployee(@PathVariable Long id, @RequestBody Employee patch) {
+		return ApiResponseContainer.getResponse(Constants.UPDATED, employeeService.patchEmployee(id, patch), HttpStatus.OK);
+	}
+
+	/**
+	 * Deletes an employee based on the given ID.
+	 *
+	 * @param id the ID of the employee to be deleted
+	 * @return a response indicating the success of the deletion, or a not found response if the employee doesn't exist
+	 */
+	@DeleteMapping(ApiPathConstants.ID)
+	public ResponseContainerEntity<Employee> deleteEmployee(@PathVariable Long id) {
+		employeeService.deleteEmployee(id);
+		return ApiResponseContainer.getResponse(Constants.EMPLOYEE_DELETED, HttpStatus.NO_CONTENT);
+	}
+
+	/**
+	 * Deletes the employees with the given IDs in one statement, for example
+	 * during an offboarding run. IDs that do not exist are reported per item.
+	 *
+	 * @param ids the IDs of the employees to be deleted
+	 * @return an OK response if every employee was deleted, otherwise a multi-status response with the per-item results
+	 */
+	@DeleteMapping(ApiPathConstants.BULK)
+	public ResponseContainerEntity<List<BulkItemResult>> deleteEmployees(@RequestBody List<Long> ids) {
+		List<BulkItemResult> results = employeeService.deleteEmployees(ids);
+		boolean allDeleted = results.stream().allMatch(result -> BulkItemResult.DELETED.equals(result.getStatus()));
+		return ApiResponseContainer.getResponse(Constants.BULK_PROCESSED, results, allDeleted ? HttpStatus.OK : HttpStatus.MULTI_STATUS);
+	}
+
+	/**
+	 * Retrieves one page of employees ordered by ID. Clients walk the full list by
+	 * passing the returned next cursor back as {@code after} until no cursor is
+	 * returned.
+	 *
+	 * <p>
+	 * The entity tag is the collection version, which changes whenever any
+	 * employee changes.
+	 * </p>
+	 *
+	 * @param after the cursor returned with the previous page, or absent for the first page
+	 * @param limit the maximum number of employees to return, or absent for the default page size
+	 * @param request the request, checked against the entity tag
+	 * @return a response containing a page of employees and the next cursor, a no content response if no employees are found, or null
+	 *         if the client's copy is current
+	 */
+	@GetMapping
+	public ResponseContainerEntity<List<Employee>> getAllEmployees(@RequestParam(required = false) Long after, @RequestParam(required = false) Integer limit,
+			WebRequest request) {
+		// Take the version before reading, so the page is never older than its tag
+		if (request.checkNotModified(weakETagOf(employeeService.getCollectionVersion()))) {
+			return null;
+		}
+		KeysetPage<Employee> page = employeeService.getEmployees(after, limit);
+		List<Employee> listOfEmployees = page.getContent();
+		return ApiResponseContainer.getResponse("Success", listOfEmployees, listOfEmployees.isEmpty() ? HttpStatus.NO_CONTENT : HttpStatus.OK, page.getNextCursor());
+	}
+
+	/**
+	 * Retrieves one page of employees ordered by ID, holding only the fields
+	 * named in {@code fields}, for example {@code fields=id,name}. Only the
+	 * columns of those fields are read and serialized. The ID is always
+	 * included, and the entity tag is the collection version as for the full
+	 * listing.
+	 *
+	 * @param fields the names of the fields to return
+	 * @param after the cursor returned with the previous page, or absent for the first page
+	 * @param limit the maximum number of employees to return, or absent for the default page size
+	 * @param request the request, checked against the entity tag
+	 * @return a response containing a page of employee fields and the next cursor, a no content response if no employees are found, or
+	 *         null if the client's copy is current
+	 */
+	@GetMapping(params = { "fields", "!department" })
+	public ResponseContainerEntity<List<Map<String, Object>>> getEmployeeFields(@RequestParam List<String> fields,
+			@RequestParam(required = false) Long after, @RequestParam(required = false) Integer limit, WebRequest request) {
+		if (request.checkNotModified(weakETagOf(employeeService.getCollectionVersion()))) {
+			return null;
+		}
+		KeysetPage<Map<String, Object>> page = employeeService.getEmployeeFields(fields, after, limit);
+		List<Map<String, Object>> employees = page.getContent();
+		return ApiResponseContainer.getResponse("Success", employees, employees.isEmpty() ? HttpStatus.NO_CONTENT : HttpStatus.OK, page.getNextCursor());
+	}
+
+	/**
+	 * Retrieves one page of the employees of a department ordered by ID. Only the
+	 * ID, name, username and department of each employee are returned, read from
+	 * the department index.
+	 *
+	 * @param department the department to list
+	 * @param after the cursor returned with the previous page, or absent for the first page
+	 * @param limit the maximum number of employees to return, or absent for the default page size
+	 * @return a response containing a page of employee summaries and the next cursor, or a no content response if no employees are found
+	 */
+	@GetMapping(params = "department")
+	public ResponseContainerEntity<List<EmployeeSummary>> getEmployeesByDepartment(@RequestParam String department,
+			@RequestParam(required = false) Long after, @RequestParam(required = false) Integer limit) {
+		KeysetPage<EmployeeSummary> page = employeeService.getEmployeesByDepartment(department, after, limit);
+		List<EmployeeSummary> employees = page.getContent();
+		return ApiResponseContainer.getResponse("Success", employees, employees.isEmpty() ? HttpStatus.NO_CONTENT : HttpStatus.OK, page.getNextCursor());
+	}
+
+	/**
+	 * Searches employees by name and username for type-ahead. Words of the query
+	 * match words starting with them, and misspelled words match approximately.
+	 * The search is answered from an in-memory index.
+	 *
+	 * @param q the text typed by the user
+	 * @param limit the maximum number of results, or absent for the default
+	 * @return a response containing the best matching employees, best first
+	 */
+	@GetMapping(ApiPathConstants.SEARCH)
+	public ResponseContainerEntity<List<SearchResult>> searchEmployees(@RequestParam String q, @RequestParam(required = false) Integer limit) {
+		int resultLimit = limit == null ? Constants.DEFAULT_SEARCH_LIMIT : Math.max(1, Math.min(limit, Constants.MAX_SEARCH_LIMIT));
+		return ApiResponseContainer.getResponse("Success", employeeSearchIndex.search(q, resultLimit), HttpStatus.OK);
+	}
+
+	/**
+	 * Retrieves an employee based on the given username.
+	 *
+	 * @param username the username of the employee to be retrieved
+	 * @return a response containing the employee data, or a no content response if the employee is not found
+	 */
+	@GetMapping(ApiPathConstants.BY_USERNAME)
+	public ResponseContainerEntity<Employee> getEmployeeByUsername(@PathVariable String username) {
+		Employee employee = employeeService.getEmployeeByUsername(username);
+		return ApiResponseContainer.getResponse("Success", employee, Objects.nonNull(employee) ? HttpStatus.OK : HttpStatus.NO_CONTENT);
+	}
+
+	/**
+	 * Streams every employee as newline-delimited JSON, one employee object per
+	 * line. Rows are written to the response as they are read from the database,
+	 * so neither the full list nor the response body is ever held in memory.
+	 *
+	 * @return a streaming response of all employees in ID order
+	 */
+	@GetMapping(value = ApiPathConstants.EXPORT, produces = MediaType.APPLICATION_NDJSON_VALUE)
+	public ResponseEntity<StreamingResponseBody> exportEmployees() {
+		StreamingResponseBody body = outputStream -> {
+			try (SequenceWriter writer = objectMapper.writer().withRootValueSeparator("\n").writeValues(outputStream)) {
+				employeeService.exportEmployees(employee -> {
+					try {
+						writer.write(employee);
+					} catch (IOException e) {
+						throw new UncheckedIOException(e);
+					}
+				});
+				writer.flush();
+				outputStream.write('\n');
+			}
+		};
+		return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+	}
+
+	/**
+	 * Retrieves the headcount and the total, lowest, highest and average salary of
+	 * every department. The statistics are maintained in memory, so this does not
+	 * query the employees table.
+	 *
+	 * @return a response containing the statistics of every department, ordered by department name
+	 * @throws NoSuchElementException if the analytics are disabled
+	 */
+	@GetMapping(ApiPathConstants.DEPARTMENT_ANALYTICS)
+	public ResponseContainerEntity<List<DepartmentStatistics>> getDepartmentStatistics() {
+		if (departmentAnalyticsService == null) {
+			throw new NoSuchElementException(Constants.ANALYTICS_DISABLED);
+		}
+		return ApiResponseContainer.getResponse("Success", departmentAnalyticsService.getDepartmentStatistics(), HttpStatus.OK);
+	}
+
+	/**
+	 * Retrieves the state of the event-sourced employee read model.
+	 *
+	 * @return a response containing the readiness, size, lag and staleness of the read model, or only {@code enabled=false} if it is disabled
+	 */
+	@GetMapping(ApiPathConstants.READ_MODEL_STATUS)
+	public ResponseContainerEntity<Map<String, Object>> getReadModelStatus() {
+		Map<String, Object> status = new LinkedHashMap<>();
+		status.put("enabled", employeeReadModel != null);
+		if (employeeReadModel != null) {
+			status.putAll(employeeReadModel.getStatus());
+		}
+		return ApiResponseContainer.getResponse("Success", status, HttpStatus.OK);
+	}
+
+	/**
+	 * Retrieves the counters of the employee cache, used to size the cache.
+	 *
+	 * @return a response containing the cache size and its hit, miss and eviction counters
+	 */
+	@GetMapping(ApiPathConstants.CACHE_STATS)
+	public ResponseContainerEntity<Map<String, Number>> getCacheStatistics() {
+		return ApiResponseContainer.getResponse("Success", employeeCache.getStatistics(), HttpStatus.OK);
+	}
+
+	/**
+	 * Retrieves a specific employee by ID.
+	 *
+	 * <p>
+	 * The entity tag is the version of the employee. It is looked up before the
+	 * employee is loaded, from the cache, the read model or a version-only query,
+	 * so a not modified response neither loads the employee nor records a read.
+	 * </p>
+	 *
+	 * @param id the ID of the employee to retrieve
+	 * @param request the request, checked against the entity tag
+	 * @return a response containing the employee data, a no content response if the employee is not found, or null if the client's
+	 *         copy is current
+	 */
+	@GetMapping(ApiPathConstants.ID)
+	public ResponseContainerEntity<Employee> getEmployeeById(@PathVariable Long id, WebRequest request) {
+		Long version = employeeService.getEmployeeVersion(id);
+		if (version != null && request.checkNotModified(weakETagOf(version))) {
+			return null;
+		}
+		Employee employee = employeeService.getEmployeeById(id);
+		return ApiResponseContainer.getResponse("Success", employee, Objects.nonNull(employee) ? HttpStatus.OK : HttpStatus.NO_CONTENT);
+	}
+
+	/**
+	 * Formats a version as a weak entity tag.
+	 *
+	 * @param version the version
+	 * @return the entity tag
+	 */
+	private static String weakETagOf(Object version) {
+		return "W/\"" + version + "\"";
+	}
+
+}
@@ -0,0 +1,146 @@
+package com.task.emp.mng.sys.datasource;
+
+import java.io.IOException;
+import java.time.Duration;
+
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.task.emp.mng.sys.utils.Constants;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Filter giving every client read-your-writes consistency on its own writes,
+ * without sending the reads of other clients to the primary database.
+ *
+ * <p>
+ * When a request commits a write, the time of the commit is returned to the
+ * client in the {@value Constants#LAST_WRITE_COOKIE} cookie. While handling a
+ * later request carrying the cookie, read-only transactions only use the
+ * replica once it has applied a heartbeat written after that time, as checked
+ * by {@link ReplicaLagMonitor#isReplicaUsable(long)}. Requests without the
+ * cookie, and writes made outside a request, such as the outbox relay and the
+ * audit consumer, do not hold any reads back.
+ * </p>
+ *
+ * <p>
+ * The cookie expires after {@code spring.datasource.replica.max-lag}: the
+ * replica is only used while its heartbeat is at most that old, so by then
+ * every usable replica has applied the write. A cookie time in the future is
+ * treated as the current time, so a client cannot pin its reads to the
+ * primary for longer than that either. The comparison uses the clocks of the
+ * instances, so instances behind a load balancer should keep their clocks in
+ * sync.
+ * </p>
+ *
+ * @author agent
+ * @since 2026-10-17
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+	private static final ThreadLocal<Session> SESSION = new ThreadLocal<>();
+
+	private final int cookieMaxAgeSeconds;
+
+	/**
+	 * The write state of the request handled by the current thread.
+	 */
+	private static final class Session {
+
+		private final HttpServletResponse response;
+
+		private final int cookieMaxAgeSeconds;
+
+		private long lastWrite;
+
+		Session(HttpServletResponse response, int cookieMaxAgeSeconds, long lastWrite) {
+			this.response = response;
+			this.cookieMaxAgeSeconds = cookieMaxAgeSeconds;
+			this.lastWrite = lastWrite;
+		}
+
+	}
+
+	/**
+	 * Creates the filter.
+	 *
+	 * @param maxLag the maximum lag at which the replica is still used
+	 */
+	public ReadYourWritesFilter(Duration maxLag) {
+		this.cookieMaxAgeSeconds = (int) Math.max(1, (maxLag.toMillis() + 999) / 1000);
+	}
+
+	/**
+	 * Handles the request with the last write time of its client.
+	 */
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+			throws ServletException, IOException {
+		Session previous = SESSION.get();
+		SESSION.set(new Session(response, cookieMaxAgeSeconds, lastWriteOf(request)));
+		try {
+			filterChain.doFilter(request, response);
+		} finally {
+			if (previous != null) {
+				SESSION.set(previous);
+			} else {
+				SESSION.remove();
+			}
+		}
+	}
+
+	/**
+	 * Returns the time of the last write of the client whose request is handled
+	 * by the current thread.
+	 *
+	 * @return the last write time in milliseconds, or 0 if the client has not
+	 *         written recently or no request is handled
+	 */
+	static long currentLastWrite() {
+		Session session = SESSION.get();
+		return session != null ? session.lastWrite : 0L;
+	}
+
+	/**
+	 * Records that the request handled by the current thread has committed a
+	 * write, and returns the time of the write to its client. Does nothing
+	 * outside a request.
+	 */
+	static void recordWrite() {
+		Session session = SESSION.get();
+		if (session == null) {
+			return;
+		}
+		session.lastWrite = System.currentTimeMillis();
+		Cookie cookie = new Cookie(Constants.LAST_WRITE_COOKIE, String.valueOf(session.lastWrite));
+		cookie.setPath("/");
+		cookie.setHttpOnly(true);
+		cookie.setMaxAge(session.cookieMaxAgeSeconds);
+		session.response.addCookie(cookie);
+	}
+
+	/**
+	 * Returns the last write time sent by the client, no later than now.
+	 */
+	private static long lastWriteOf(HttpServletRequest request) {
+		Cookie[] cookies = request.getCookies();
+		if (cookies == null) {
+			return 0L;
+		}
+		for (Cookie cookie : cookies) {
+			if (Constants.LAST_WRITE_COOKIE.equals(cookie.getName())) {
+				try {
+					return Math.min(Long.parseLong(cookie.getValue()), System.currentTimeMillis());
+				} catch (NumberFormatException exception) {
+					return 0L;
+				}
+			}
+		}
+		return 0L;
+	}
+
+}
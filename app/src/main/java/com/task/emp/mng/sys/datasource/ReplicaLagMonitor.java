@@ -0,0 +1,140 @@
+package com.task.emp.mng.sys.datasource;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Tracks how far the read replica is behind the primary database and whether
+ * it has caught up with a given write.
+ * 
+ * <p>
+ * Lag is measured with a heartbeat row: every probe stamps the current time
+ * into the {@code replica_heartbeat} table on the primary and reads the stamp
+ * back from the replica; the table is created by the
+ * {@code V5__CreateReplicaHeartbeat} migration. Replication applies commits in
+ * order, so the stamp read from the replica is the time up to which the
+ * replica has applied every earlier commit of the primary.
+ * </p>
+ * 
+ * <p>
+ * The replica is usable when such a stamp has been read, it is no older than
+ * {@code spring.datasource.replica.max-lag}, and it was written after the
+ * last write of the client whose read is routed, as tracked by the
+ * {@link ReadYourWritesFilter}. The last condition gives read-your-writes:
+ * after a mutation, the reads of that client stay on the primary until the
+ * replica has applied it. If probing stops or fails, the stamp ages and reads
+ * fall back to the primary. Until the first probe, after the application has
+ * started, every read goes to the primary.
+ * </p>
+ * 
+ * <p>
+ * The measured lag is exposed as the {@code datasource.replica.lag} gauge.
+ * </p>
+ * 
+ * @author agent
+ * @since 2026-10-17
+ */
+public class ReplicaLagMonitor implements MeterBinder {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+
+	private static final String UPDATE_HEARTBEAT = "update replica_heartbeat set beat_time = ? where id = 1";
+
+	private static final String INSERT_HEARTBEAT = "insert into replica_heartbeat (id, beat_time) values (1, ?)";
+
+	private static final String SELECT_HEARTBEAT = "select beat_time from replica_heartbeat where id = 1";
+
+	private final JdbcTemplate primary;
+
+	private final JdbcTemplate replica;
+
+	private final long maxLagMillis;
+
+	private volatile long replicaHeartbeat = -1;
+
+	private volatile long lagMillis = -1;
+
+	/**
+	 * Creates the monitor.
+	 *
+	 * @param primary the JDBC template of the primary database
+	 * @param replica the JDBC template of the replica
+	 * @param maxLag  the maximum lag at which the replica is still used
+	 */
+	public ReplicaLagMonitor(JdbcTemplate primary, JdbcTemplate replica, Duration maxLag) {
+		this.primary = primary;
+		this.replica = replica;
+		this.maxLagMillis = maxLag.toMillis();
+	}
+
+	/**
+	 * Writes a heartbeat to the primary and reads the latest heartbeat the
+	 * replica has applied.
+	 */
+	@Scheduled(fixedDelayString = "${spring.datasource.replica.lag-probe-interval-ms:1000}", initialDelayString = "${spring.datasource.replica.lag-probe-interval-ms:1000}")
+	public void probe() {
+		long now = System.currentTimeMillis();
+		try {
+			if (primary.update(UPDATE_HEARTBEAT, now) == 0) {
+				primary.update(INSERT_HEARTBEAT, now);
+			}
+		} catch (DataAccessException exception) {
+			LOGGER.warn("Could not write the replica heartbeat to the primary: {}", exception.getMessage());
+		}
+		try {
+			Long heartbeat = replica.query(SELECT_HEARTBEAT, resultSet -> resultSet.next() ? resultSet.getLong(1) : null);
+			replicaHeartbeat = heartbeat != null ? heartbeat : -1;
+			lagMillis = heartbeat != null ? Math.max(0, now - heartbeat) : -1;
+		} catch (DataAccessException exception) {
+			if (replicaHeartbeat >= 0) {
+				LOGGER.warn("Could not read the replica heartbeat, reads fall back to the primary: {}", exception.getMessage());
+			}
+			replicaHeartbeat = -1;
+			lagMillis = -1;
+		}
+	}
+
+	/**
+	 * Tells whether a read-only transaction may currently use the replica.
+	 *
+	 * @param lastWrite the time of the last write the reader must see, in
+	 *                  milliseconds, or 0 if it does not need to see any
+	 * @return true if the replica is reachable, within the maximum lag, and has
+	 *         applied that write
+	 */
+	public boolean isReplicaUsable(long lastWrite) {
+		long heartbeat = replicaHeartbeat;
+		return heartbeat >= 0 && heartbeat > lastWrite && System.currentTimeMillis() - heartbeat <= maxLagMillis;
+	}
+
+	/**
+	 * Registers the replica lag gauge.
+	 *
+	 * @param registry the registry the gauge is registered with
+	 */
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		TimeGauge.builder("datasource.replica.lag", this, TimeUnit.MILLISECONDS, ReplicaLagMonitor::getLagMillis)
+				.description("Replica lag measured by the last probe, -1 if the replica could not be probed").register(registry);
+	}
+
+	/**
+	 * Returns the replica lag measured by the last probe.
+	 *
+	 * @return the lag in milliseconds, or -1 if the replica could not be probed
+	 */
+	public long getLagMillis() {
+		return lagMillis;
+	}
+
+}
@@ -0,0 +1,147 @@
+package com.task.emp.mng.sys.datasource;
+
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Data source sending read-only transactions to a read replica and everything
+ * else to the primary database.
+ * 
+ * <p>
+ * A connection of a transaction declared with
+ * {@code @Transactional(readOnly = true)} is taken from the replica whenever
+ * the {@link ReplicaLagMonitor} considers it usable, that is when it is
+ * reachable, not lagging too far behind, and has applied the last write of the
+ * client whose request is handled. Every other connection comes from the
+ * primary. Committing a read-write transaction while handling a request
+ * records a write of its client with the {@link ReadYourWritesFilter}.
+ * </p>
+ * 
+ * <p>
+ * The connections taken from each database are counted by the
+ * {@code datasource.routing} counter, tagged with the {@code target}.
+ * </p>
+ * 
+ * <p>
+ * The transaction manager takes a connection before it marks the transaction
+ * read-only, so this data source must be wrapped in a
+ * {@link LazyConnectionDataSourceProxy}, which defers picking the target
+ * until the first statement, as done by {@link #lazy(DataSource, DataSource, ReplicaLagMonitor)}.
+ * </p>
+ * 
+ * @author agent
+ * @since 2026-10-17
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements MeterBinder {
+
+	/**
+	 * The lookup key of the primary database.
+	 */
+	public static final String PRIMARY = "primary";
+
+	/**
+	 * The lookup key of the read replica.
+	 */
+	public static final String REPLICA = "replica";
+
+	private final ReplicaLagMonitor lagMonitor;
+
+	private final LongAdder primaryRoutes = new LongAdder();
+
+	private final LongAdder replicaRoutes = new LongAdder();
+
+	/**
+	 * Creates the data source.
+	 *
+	 * @param primary    the primary database
+	 * @param replica    the read replica
+	 * @param lagMonitor the monitor telling whether the replica is usable
+	 */
+	public ReplicaRoutingDataSource(DataSource primary, DataSource replica, ReplicaLagMonitor lagMonitor) {
+		this.lagMonitor = lagMonitor;
+		setTargetDataSources(Map.of(PRIMARY, primary, REPLICA, replica));
+		setDefaultTargetDataSource(primary);
+		afterPropertiesSet();
+	}
+
+	/**
+	 * Creates a routing data source that picks its target on the first statement
+	 * of a transaction.
+	 *
+	 * @param primary    the primary database
+	 * @param replica    the read replica
+	 * @param lagMonitor the monitor telling whether the replica is usable
+	 * @return the lazily routing data source
+	 */
+	public static DataSource lazy(DataSource primary, DataSource replica, ReplicaLagMonitor lagMonitor) {
+		return new ReplicaRoutingDataSource(primary, replica, lagMonitor).lazy();
+	}
+
+	/**
+	 * Wraps this data source so that it picks its target on the first statement
+	 * of a transaction.
+	 *
+	 * @return the lazily routing data source
+	 */
+	public DataSource lazy() {
+		return new LazyConnectionDataSourceProxy(this);
+	}
+
+	/**
+	 * Registers the routing counters.
+	 *
+	 * @param registry the registry the counters are registered with
+	 */
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		FunctionCounter.builder("datasource.routing", primaryRoutes, LongAdder::sum).tag("target", PRIMARY)
+				.description("Connections taken from each database").register(registry);
+		FunctionCounter.builder("datasource.routing", replicaRoutes, LongAdder::sum).tag("target", REPLICA)
+				.description("Connections taken from each database").register(registry);
+	}
+
+	/**
+	 * Returns the number of connections taken from a database.
+	 *
+	 * @param target {@link #PRIMARY} or {@link #REPLICA}
+	 * @return the connection count
+	 */
+	public long getRouteCount(String target) {
+		return (REPLICA.equals(target) ? replicaRoutes : primaryRoutes).sum();
+	}
+
+	/**
+	 * Picks the replica for read-only transactions if it is usable, and the
+	 * primary otherwise.
+	 */
+	@Override
+	protected Object determineCurrentLookupKey() {
+		if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+				&& lagMonitor.isReplicaUsable(ReadYourWritesFilter.currentLastWrite())) {
+			replicaRoutes.increment();
+			return REPLICA;
+		}
+		if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly() && TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					ReadYourWritesFilter.recordWrite();
+				}
+			});
+		}
+		primaryRoutes.increment();
+		return PRIMARY;
+	}
+
+}
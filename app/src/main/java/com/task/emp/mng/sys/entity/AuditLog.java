@@ -0,0 +1,86 @@
+package com.task.emp.mng.sys.entity;
+
+import java.time.Instant;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Entity class representing an audit log in the system. This class is mapped to
+ * the "audit_logs" table in the database and is used to store information
+ * related to changes or events that occur within the system, such as employee
+ * creation, update, or deletion.
+ * 
+ * <p>
+ * The {@code AuditLog} captures details such as event type, the name of the
+ * entity affected, the entity ID, and the timestamp of when the event occurred.
+ * </p>
+ * 
+ * <p>
+ * The table is indexed for time range queries: on the event time alone, and on
+ * the event time within a single entity ID or event type. Every index ends with
+ * the ID, so that results ordered by event time and ID can be paged with a
+ * keyset cursor.
+ * </p>
+ * 
+ * @author Jatin
+ * @since 2024-10-11
+ */
+@Entity
+@Table(name = "audit_logs", indexes = {
+		@Index(name = "idx_audit_logs_event_time", columnList = "event_time, id"),
+		@Index(name = "idx_audit_logs_entity_time", columnList = "entity_id, event_time, id"),
+		@Index(name = "idx_audit_logs_type_time", columnList = "event_type, event_time, id") })
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AuditLog {
+
+	/**
+	 * The unique identifier for the audit log entry. This value is automatically generated using the {@link GenerationType#SEQUENCE} strategy
+	 * with a pooled allocation, so that audit entries saved together are inserted as JDBC batches.
+	 */
+	@Id
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "audit_log_seq")
+	@SequenceGenerator(name = "audit_log_seq", sequenceName = "audit_log_seq", allocationSize = 100)
+	private Long id;
+
+	/**
+	 * The type of event being recorded (e.g., "CREATE", "UPDATE", "DELETE"). This field represents the type of action performed on an entity.
+	 */
+	@Column(name = "event_type")
+	private String eventType;
+
+	/**
+	 * The name of the entity affected by the event (e.g., "Employee").
+	 */
+	private String entityName;
+
+	/**
+	 * The unique identifier of the entity affected by the event. This field records the ID of the entity being audited.
+	 */
+	@Column(name = "entity_id")
+	private String entityId;
+
+	/**
+	 * The time at which the event occurred, as stamped by the producer of the event. Stored as a timestamp column so it can be
+	 * indexed and range scanned.
+	 */
+	@Column(name = "event_time", nullable = false)
+	private Instant eventTime;
+
+	/**
+	 * The number of occurrences summarized by this entry. This is 1 for individual events and the number of reads for an
+	 * aggregated read event.
+	 */
+	private Long eventCount;
+}
@@ -0,0 +1,103 @@
+package com.task.emp.mng.sys.entity;
+
+import org.hibernate.annotations.ColumnDefault;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Entity class representing an Employee in the system. This class is mapped to
+ * the "employees" table in the database and contains details related to an
+ * employee, such as their ID, name, username, department, and salary.
+ * 
+ * <p>
+ * Each field in this class corresponds to a column in the database table, with
+ * validation constraints enforced via annotations such as {@link Column} for
+ * uniqueness and non-nullability.
+ * </p>
+ * 
+ * <p>
+ * Lookups by username use the unique index on that column. Department listings
+ * use a covering index on the department, ID, name and username, so that a page
+ * of a department is read from the index alone, in ID order.
+ * </p>
+ * 
+ * @author Jatin
+ * @since 2024-10-11
+ */
+@Entity
+@Table(name = "employees", indexes = {
+		@Index(name = "idx_employees_department_id", columnList = "department, id, name, username") })
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class Employee {
+
+	/**
+	 * The unique identifier for the employee. This value is automatically generated using the {@link GenerationType#SEQUENCE} strategy
+	 * with a pooled allocation, so IDs are assigned without a round trip per insert and inserts can be sent as JDBC batches.
+	 * On databases without native sequences, such as MySQL, the sequence is emulated with the "employee_seq" table.
+	 */
+	@Id
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "employee_seq")
+	@SequenceGenerator(name = "employee_seq", sequenceName = "employee_seq", allocationSize = 50)
+	private Long id;
+
+	/**
+	 * The name of the employee. This field is mandatory and cannot be null.
+	 */
+	@Column(nullable = false)
+	private String name;
+
+	/**
+	 * The unique username of the employee. This field is mandatory and must be unique.
+	 */
+	@Column(nullable = false, unique = true)
+	private String username;
+
+	/**
+	 * The department in which the employee works. This field is mandatory and cannot be null.
+	 */
+	@Column(nullable = false)
+	private String department;
+
+	/**
+	 * The salary of the employee. This field is mandatory and cannot be null.
+	 */
+	@Column(nullable = false)
+	private Double salary;
+
+	/**
+	 * The version of the employee, incremented on every update. It is used for optimistic locking, so that concurrent
+	 * updates based on the same version cannot silently overwrite each other. Rows created before this column existed
+	 * start at version 0.
+	 */
+	@Version
+	@ColumnDefault("0")
+	@Column(nullable = false)
+	private Long version;
+
+	/**
+	 * Creates an employee with the given details and no version yet.
+	 *
+	 * @param id         the ID of the employee, or null for a new employee
+	 * @param name       the name of the employee
+	 * @param username   the unique username of the employee
+	 * @param department the department of the employee
+	 * @param salary     the salary of the employee
+	 */
+	public Employee(Long id, String name, String username, String department, Double salary) {
+		this(id, name, username, department, salary, null);
+	}
+
+}
@@ -0,0 +1,49 @@
+package com.task.emp.mng.sys.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Entity class representing the version of the employee collection. This class
+ * is mapped to the "employee_collection_version" table in the database, which
+ * holds a single row.
+ * 
+ * <p>
+ * The version is incremented in the same transaction as every create, update
+ * and delete of employees, through any instance, and is read by primary key to
+ * tag employee listings.
+ * </p>
+ * 
+ * @author agent
+ * @since 2026-10-17
+ */
+@Entity
+@Table(name = "employee_collection_version")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeeCollectionVersion {
+
+	/**
+	 * The ID of the single row.
+	 */
+	public static final Integer ID = 1;
+
+	/**
+	 * The ID of the row, always {@link #ID}.
+	 */
+	@Id
+	private Integer id;
+
+	/**
+	 * The number of committed writes to the employee collection.
+	 */
+	@Column(nullable = false)
+	private Long version;
+
+}
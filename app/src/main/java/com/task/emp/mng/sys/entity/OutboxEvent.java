@@ -0,0 +1,78 @@
+package com.task.emp.mng.sys.entity;
+
+import java.time.Instant;
+
+import com.task.emp.mng.sys.event.EmployeeEvent;
+import com.task.emp.mng.sys.event.EmployeeEventConverter;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Convert;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Entity class representing an employee event waiting to be published to
+ * Kafka. This class is mapped to the "employee_outbox" table in the database.
+ * 
+ * <p>
+ * Outbox rows are written in the same transaction as the employee change they
+ * describe, so an event exists if and only if the change was committed. A
+ * background relay later publishes the rows in ID order and deletes them once
+ * the broker has acknowledged them.
+ * </p>
+ * 
+ * @author agent
+ * @since 2026-10-17
+ */
+@Entity
+@Table(name = "employee_outbox")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OutboxEvent {
+
+	/**
+	 * The unique identifier for the outbox entry, generated by the database. Every event is recorded after the transaction has
+	 * locked or inserted the employee row it describes, so of two events of one employee, the later one always gets the higher
+	 * ID, whichever instance recorded it. Events are published in ID order, which therefore preserves the order per employee.
+	 * Events of different employees may commit out of ID order, which does not matter since they are keyed separately.
+	 */
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	/**
+	 * The ID of the employee the event belongs to. It is used as the Kafka record key, so all events of one employee land on the same partition in order.
+	 */
+	@Column(nullable = false)
+	private Long aggregateId;
+
+	/**
+	 * The event to be published, stored in its binary encoding.
+	 */
+	@Convert(converter = EmployeeEventConverter.class)
+	@Column(nullable = false, length = 4096)
+	private EmployeeEvent payload;
+
+	/**
+	 * The time the event was recorded.
+	 */
+	@Column(nullable = false)
+	private Instant createdAt;
+
+	/**
+	 * Creates a new outbox entry for the given event.
+	 *
+	 * @param payload the event to be published
+	 */
+	public OutboxEvent(EmployeeEvent payload) {
+		this(null, payload.getEntityId(), payload, Instant.ofEpochMilli(payload.getTimestamp()));
+	}
+
+}
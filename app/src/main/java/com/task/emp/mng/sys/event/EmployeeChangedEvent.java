@@ -0,0 +1,100 @@
+package com.task.emp.mng.sys.event;
+
+import com.task.emp.mng.sys.entity.Employee;
+import com.task.emp.mng.sys.repository.EmployeeSalary;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * Application event published within the transaction that creates, updates or
+ * deletes an employee. It carries the department and salary before and after
+ * the change, so that in-memory aggregates can be maintained by deltas once the
+ * transaction commits, as well as the name and username after the change for
+ * in-memory indexes.
+ * 
+ * <p>
+ * The old values are {@code null} for a created employee and the new values,
+ * name and username are {@code null} for a deleted employee. The old values of
+ * a deleted employee are also {@code null} when they were not read, because
+ * the department analytics are disabled.
+ * </p>
+ * 
+ * @author agent
+ * @since 2026-10-17
+ */
+@Getter
+@ToString
+@AllArgsConstructor
+public class EmployeeChangedEvent {
+
+	private final Long id;
+
+	private final String oldDepartment;
+
+	private final Double oldSalary;
+
+	private final String newDepartment;
+
+	private final Double newSalary;
+
+	private final String name;
+
+	private final String username;
+
+	/**
+	 * Tells whether the event describes a deleted employee.
+	 *
+	 * @return true if the employee was deleted
+	 */
+	public boolean isDeleted() {
+		return newDepartment == null;
+	}
+
+	/**
+	 * Creates the event for a newly created employee.
+	 *
+	 * @param employee the created employee
+	 * @return the event
+	 */
+	public static EmployeeChangedEvent created(Employee employee) {
+		return new EmployeeChangedEvent(employee.getId(), null, null, employee.getDepartment(), employee.getSalary(), employee.getName(),
+				employee.getUsername());
+	}
+
+	/**
+	 * Creates the event for an updated employee.
+	 *
+	 * @param oldDepartment the department before the update
+	 * @param oldSalary     the salary before the update
+	 * @param employee      the employee after the update
+	 * @return the event
+	 */
+	public static EmployeeChangedEvent updated(String oldDepartment, Double oldSalary, Employee employee) {
+		return new EmployeeChangedEvent(employee.getId(), oldDepartment, oldSalary, employee.getDepartment(), employee.getSalary(),
+				employee.getName(), employee.getUsername());
+	}
+
+	/**
+	 * Creates the event for a deleted employee.
+	 *
+	 * @param before the department and salary of the deleted employee
+	 * @return the event
+	 */
+	public static EmployeeChangedEvent deleted(EmployeeSalary before) {
+		return new EmployeeChangedEvent(before.getId(), before.getDepartment(), before.getSalary(), null, null, null, null);
+	}
+
+	/**
+	 * Creates the event for a deleted employee whose department and salary were
+	 * not read.
+	 *
+	 * @param id the ID of the deleted employee
+	 * @return the event
+	 */
+	public static EmployeeChangedEvent deleted(Long id) {
+		return new EmployeeChangedEvent(id, null, null, null, null, null, null);
+	}
+
+}
@@ -0,0 +1,137 @@
+package com.task.emp.mng.sys.event;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+/**
+ * An event describing a change to, or an access of, an employee. Events are
+ * published to the "employee_events" Kafka topic in the compact binary format
+ * implemented by {@link EmployeeEventCodec}.
+ * 
+ * <p>
+ * Besides the event type and the employee ID, an event carries a unique event
+ * ID, the time at which it happened in epoch milliseconds, and optionally the
+ * employee fields it refers to, keyed by the {@code FIELD_*} names.
+ * </p>
+ * 
+ * <p>
+ * Events decoded from the legacy {@code "TYPE: id"} text format have no event
+ * ID and a timestamp of {@code 0}, since the text format carries neither.
+ * </p>
+ * 
+ * @author agent
+ * @since 2026-10-17
+ */
+@Getter
+@EqualsAndHashCode
+@ToString
+public class EmployeeEvent {
+
+	/**
+	 * Field key for the employee name.
+	 */
+	public static final String FIELD_NAME = "name";
+
+	/**
+	 * Field key for the employee username.
+	 */
+	public static final String FIELD_USERNAME = "username";
+
+	/**
+	 * Field key for the employee department.
+	 */
+	public static final String FIELD_DEPARTMENT = "department";
+
+	/**
+	 * Field key for the employee salary.
+	 */
+	public static final String FIELD_SALARY = "salary";
+
+	/**
+	 * Field key for the employee version after the change.
+	 */
+	public static final String FIELD_VERSION = "version";
+
+	/**
+	 * Field key for the number of reads summarized by an aggregated read event.
+	 */
+	public static final String FIELD_READ_COUNT = "count";
+
+	/**
+	 * Field key for the start of the window, in epoch milliseconds, summarized by
+	 * an aggregated read event.
+	 */
+	public static final String FIELD_WINDOW_START = "windowStart";
+
+	/**
+	 * The kind of event.
+	 */
+	private final EmployeeEventType type;
+
+	/**
+	 * The ID of the employee the event refers to.
+	 */
+	private final long entityId;
+
+	/**
+	 * The unique ID of this event, or {@code null} for legacy events.
+	 */
+	private final UUID eventId;
+
+	/**
+	 * The time at which the event happened, in epoch milliseconds, or {@code 0} for legacy events.
+	 */
+	private final long timestamp;
+
+	/**
+	 * The employee fields carried by the event, keyed by field name. Never null.
+	 */
+	private final Map<String, String> fields;
+
+	/**
+	 * Creates an event with the given attributes.
+	 *
+	 * @param type      the kind of event
+	 * @param entityId  the ID of the employee the event refers to
+	 * @param eventId   the unique ID of the event, or null if unknown
+	 * @param timestamp the time at which the event happened, in epoch milliseconds
+	 * @param fields    the employee fields carried by the event, or null if none
+	 */
+	public EmployeeEvent(EmployeeEventType type, long entityId, UUID eventId, long timestamp, Map<String, String> fields) {
+		this.type = type;
+		this.entityId = entityId;
+		this.eventId = eventId;
+		this.timestamp = timestamp;
+		this.fields = fields == null || fields.isEmpty() ? Collections.emptyMap() : Collections.unmodifiableMap(new LinkedHashMap<>(fields));
+	}
+
+	/**
+	 * Creates a new event happening now, without fields.
+	 *
+	 * @param type     the kind of event
+	 * @param entityId the ID of the employee the event refers to
+	 * @return the new event
+	 */
+	public static EmployeeEvent of(EmployeeEventType type, long entityId) {
+		return of(type, entityId, null);
+	}
+
+	/**
+	 * Creates a new event happening now, carrying the given fields.
+	 *
+	 * @param type     the kind of event
+	 * @param entityId the ID of the employee the event refers to
+	 * @param fields   the employee fields carried by the event, or null if none
+	 * @return the new event
+	 */
+	public static EmployeeEvent of(EmployeeEventType type, long entityId, Map<String, String> fields) {
+		return new EmployeeEvent(type, entityId, UUID.randomUUID(), System.currentTimeMillis(), fields);
+	}
+
+}
@@ -0,0 +1,278 @@
+package com.task.emp.mng.sys.event;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Binary encoding of {@link EmployeeEvent} instances.
+ *
+ * <p>
+ * An encoded event has the following layout:
+ * </p>
+ * <ol>
+ * <li>a magic byte ({@code 0xE7}) and a format version byte,</li>
+ * <li>the one-byte event type code,</li>
+ * <li>a flags byte, whose lowest bit tells whether an event ID follows,</li>
+ * <li>the employee ID and the timestamp as unsigned variable-length
+ * integers,</li>
+ * <li>the event ID as two big-endian longs, if present,</li>
+ * <li>the number of fields, then each field name and value as length-prefixed
+ * UTF-8 strings.</li>
+ * </ol>
+ *
+ * <p>
+ * For compatibility with producers that still send the legacy
+ * {@code "TYPE: id"} text messages, {@link #decode(byte[])} recognizes such
+ * messages by the missing magic byte and parses them without regular
+ * expressions or intermediate strings.
+ * </p>
+ *
+ * @author agent
+ * @since 2026-10-17
+ */
+public final class EmployeeEventCodec {
+
+	/**
+	 * The first byte of every binary encoded event. It is not a printable ASCII
+	 * character, so it never starts a legacy text message.
+	 */
+	static final byte MAGIC = (byte) 0xE7;
+
+	/**
+	 * The version of the binary format written by {@link #encode(EmployeeEvent)}.
+	 */
+	static final byte VERSION = 1;
+
+	private static final int FLAG_EVENT_ID = 1;
+
+	private static final EmployeeEventType[] TYPES = EmployeeEventType.values();
+
+	private static final byte[][] LEGACY_TYPE_NAMES = new byte[TYPES.length][];
+
+	static {
+		for (int i = 0; i < TYPES.length; i++) {
+			LEGACY_TYPE_NAMES[i] = TYPES[i].name().getBytes(StandardCharsets.US_ASCII);
+		}
+	}
+
+	private EmployeeEventCodec() {
+	}
+
+	/**
+	 * Encodes the given event in the binary format.
+	 *
+	 * @param event the event to encode
+	 * @return the encoded event
+	 */
+	public static byte[] encode(EmployeeEvent event) {
+		Writer writer = new Writer(32 + event.getFields().size() * 24);
+		writer.writeByte(MAGIC);
+		writer.writeByte(VERSION);
+		writer.writeByte(event.getType().getCode());
+		writer.writeByte(event.getEventId() != null ? FLAG_EVENT_ID : 0);
+		writer.writeVarLong(event.getEntityId());
+		writer.writeVarLong(event.getTimestamp());
+		if (event.getEventId() != null) {
+			writer.writeLong(event.getEventId().getMostSignificantBits());
+			writer.writeLong(event.getEventId().getLeastSignificantBits());
+		}
+		writer.writeVarLong(event.getFields().size());
+		for (Map.Entry<String, String> field : event.getFields().entrySet()) {
+			writer.writeString(field.getKey());
+			writer.writeString(field.getValue());
+		}
+		return writer.toByteArray();
+	}
+
+	/**
+	 * Decodes an event from either the binary format or the legacy
+	 * {@code "TYPE: id"} text format.
+	 *
+	 * @param data the encoded event
+	 * @return the decoded event
+	 * @throws IllegalArgumentException if the data is not a valid event in either format
+	 */
+	public static EmployeeEvent decode(byte[] data) {
+		if (data == null || data.length == 0) {
+			throw new IllegalArgumentException("Empty employee event");
+		}
+		return data[0] == MAGIC ? decodeBinary(data) : decodeLegacy(data);
+	}
+
+	private static EmployeeEvent decodeBinary(byte[] data) {
+		Reader reader = new Reader(data);
+		reader.readByte();
+		byte version = reader.readByte();
+		if (version != VERSION) {
+			throw new IllegalArgumentException("Unsupported employee event version: " + version);
+		}
+		EmployeeEventType type = EmployeeEventType.fromCode(reader.readByte());
+		int flags = reader.readByte();
+		long entityId = reader.readVarLong();
+		long timestamp = reader.readVarLong();
+		UUID eventId = (flags & FLAG_EVENT_ID) != 0 ? new UUID(reader.readLong(), reader.readLong()) : null;
+		long fieldCount = reader.readVarLong();
+		// Every field takes at least two bytes, its empty name and value, so a larger count cannot be genuine
+		if (fieldCount < 0 || fieldCount > reader.remaining() / 2) {
+			throw new IllegalArgumentException("Invalid field count in employee event: " + fieldCount);
+		}
+		Map<String, String> fields = null;
+		if (fieldCount > 0) {
+			// The map grows with the fields actually read rather than trusting the count
+			fields = new LinkedHashMap<>();
+			for (long i = 0; i < fieldCount; i++) {
+				fields.put(reader.readString(), reader.readString());
+			}
+		}
+		return new EmployeeEvent(type, entityId, eventId, timestamp, fields);
+	}
+
+	/**
+	 * Decodes a legacy {@code "TYPE: id"} message, for example {@code "CREATE: 42"}.
+	 */
+	private static EmployeeEvent decodeLegacy(byte[] data) {
+		for (int i = 0; i < TYPES.length; i++) {
+			byte[] name = LEGACY_TYPE_NAMES[i];
+			int idStart = name.length + 2;
+			if (data.length > idStart && startsWith(data, name) && data[name.length] == ':' && data[name.length + 1] == ' ') {
+				return new EmployeeEvent(TYPES[i], parseId(data, idStart), null, 0L, null);
+			}
+		}
+		throw new IllegalArgumentException("Unrecognized employee event: " + new String(data, StandardCharsets.UTF_8));
+	}
+
+	private static boolean startsWith(byte[] data, byte[] prefix) {
+		return Arrays.equals(data, 0, prefix.length, prefix, 0, prefix.length);
+	}
+
+	private static long parseId(byte[] data, int start) {
+		long id = 0;
+		for (int i = start; i < data.length; i++) {
+			int digit = data[i] - '0';
+			if (digit < 0 || digit > 9 || i - start >= 18) {
+				throw new IllegalArgumentException("Invalid entity ID in employee event: " + new String(data, StandardCharsets.UTF_8));
+			}
+			id = id * 10 + digit;
+		}
+		return id;
+	}
+
+	/**
+	 * Growable byte buffer used while encoding.
+	 */
+	private static final class Writer {
+
+		private byte[] buffer;
+
+		private int position;
+
+		Writer(int initialCapacity) {
+			this.buffer = new byte[initialCapacity];
+		}
+
+		void writeByte(int value) {
+			ensureCapacity(1);
+			buffer[position++] = (byte) value;
+		}
+
+		void writeLong(long value) {
+			ensureCapacity(8);
+			for (int shift = 56; shift >= 0; shift -= 8) {
+				buffer[position++] = (byte) (value >>> shift);
+			}
+		}
+
+		void writeVarLong(long value) {
+			ensureCapacity(10);
+			while ((value & ~0x7FL) != 0) {
+				buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+				value >>>= 7;
+			}
+			buffer[position++] = (byte) value;
+		}
+
+		void writeString(String value) {
+			byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+			writeVarLong(bytes.length);
+			ensureCapacity(bytes.length);
+			System.arraycopy(bytes, 0, buffer, position, bytes.length);
+			position += bytes.length;
+		}
+
+		byte[] toByteArray() {
+			return Arrays.copyOf(buffer, position);
+		}
+
+		private void ensureCapacity(int additional) {
+			if (position + additional > buffer.length) {
+				buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, position + additional));
+			}
+		}
+
+	}
+
+	/**
+	 * Bounds-checked cursor over an encoded event.
+	 */
+	private static final class Reader {
+
+		private final byte[] data;
+
+		private int position;
+
+		Reader(byte[] data) {
+			this.data = data;
+		}
+
+		byte readByte() {
+			require(1);
+			return data[position++];
+		}
+
+		long readLong() {
+			require(8);
+			long value = 0;
+			for (int i = 0; i < 8; i++) {
+				value = (value << 8) | (data[position++] & 0xFF);
+			}
+			return value;
+		}
+
+		long readVarLong() {
+			long value = 0;
+			for (int shift = 0; shift < 64; shift += 7) {
+				byte b = readByte();
+				value |= (long) (b & 0x7F) << shift;
+				if ((b & 0x80) == 0) {
+					return value;
+				}
+			}
+			throw new IllegalArgumentException("Malformed variable-length integer in employee event");
+		}
+
+		String readString() {
+			long length = readVarLong();
+			if (length < 0 || length > data.length - position) {
+				throw new IllegalArgumentException("Truncated employee event");
+			}
+			String value = new String(data, position, (int) length, StandardCharsets.UTF_8);
+			position += (int) length;
+			return value;
+		}
+
+		int remaining() {
+			return data.length - position;
+		}
+
+		private void require(int length) {
+			if (position + length > data.length) {
+				throw new IllegalArgumentException("Truncated employee event");
+			}
+		}
+
+	}
+
+}
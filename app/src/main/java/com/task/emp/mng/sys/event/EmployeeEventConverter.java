@@ -0,0 +1,33 @@
+package com.task.emp.mng.sys.event;
+
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/**
+ * JPA {@link AttributeConverter} storing an {@link EmployeeEvent} as its
+ * binary encoding, so that queued events are persisted in exactly the form in
+ * which they are published.
+ * 
+ * @author agent
+ * @since 2026-10-17
+ */
+@Converter
+public class EmployeeEventConverter implements AttributeConverter<EmployeeEvent, byte[]> {
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public byte[] convertToDatabaseColumn(EmployeeEvent event) {
+		return event == null ? null : EmployeeEventCodec.encode(event);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public EmployeeEvent convertToEntityAttribute(byte[] data) {
+		return data == null ? null : EmployeeEventCodec.decode(data);
+	}
+
+}
@@ -0,0 +1,40 @@
+package com.task.emp.mng.sys.event;
+
+import org.apache.kafka.common.serialization.Deserializer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Kafka {@link Deserializer} reading {@link EmployeeEvent} values written in
+ * the binary format of {@link EmployeeEventCodec} or in the legacy
+ * {@code "TYPE: id"} text format.
+ * 
+ * <p>
+ * Malformed records are logged and deserialized as {@code null}, so that a
+ * single bad record cannot block the partition it was written to.
+ * </p>
+ * 
+ * @author agent
+ * @since 2026-10-17
+ */
+public class EmployeeEventDeserializer implements Deserializer<EmployeeEvent> {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(EmployeeEventDeserializer.class);
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public EmployeeEvent deserialize(String topic, byte[] data) {
+		if (data == null) {
+			return null;
+		}
+		try {
+			return EmployeeEventCodec.decode(data);
+		} catch (IllegalArgumentException e) {
+			LOGGER.error("Skipping malformed employee event on topic {}: {}", topic, e.getMessage());
+			return null;
+		}
+	}
+
+}
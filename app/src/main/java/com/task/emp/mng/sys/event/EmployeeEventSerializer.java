@@ -0,0 +1,22 @@
+package com.task.emp.mng.sys.event;
+
+import org.apache.kafka.common.serialization.Serializer;
+
+/**
+ * Kafka {@link Serializer} writing {@link EmployeeEvent} values in the binary
+ * format of {@link EmployeeEventCodec}.
+ * 
+ * @author agent
+ * @since 2026-10-17
+ */
+public class EmployeeEventSerializer implements Serializer<EmployeeEvent> {
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public byte[] serialize(String topic, EmployeeEvent event) {
+		return event == null ? null : EmployeeEventCodec.encode(event);
+	}
+
+}
@@ -0,0 +1,65 @@
+package com.task.emp.mng.sys.event;
+
+/**
+ * The kinds of change or access recorded as an {@link EmployeeEvent}. Each
+ * type has a stable one-byte code used by the binary event encoding, so the
+ * declaration order of the constants can change without breaking stored or
+ * in-flight events.
+ * 
+ * @author agent
+ * @since 2026-10-17
+ */
+public enum EmployeeEventType {
+
+	/**
+	 * An employee was created.
+	 */
+	CREATE((byte) 1),
+
+	/**
+	 * An employee was updated.
+	 */
+	UPDATE((byte) 2),
+
+	/**
+	 * An employee was deleted.
+	 */
+	DELETE((byte) 3),
+
+	/**
+	 * An employee was read.
+	 */
+	READ((byte) 4);
+
+	private final byte code;
+
+	EmployeeEventType(byte code) {
+		this.code = code;
+	}
+
+	/**
+	 * Returns the code identifying this type in the binary encoding.
+	 *
+	 * @return the one-byte code of this type
+	 */
+	public byte getCode() {
+		return code;
+	}
+
+	/**
+	 * Returns the type identified by the given code.
+	 *
+	 * @param code the one-byte code of the type
+	 * @return the matching type
+	 * @throws IllegalArgumentException if no type has the given code
+	 */
+	public static EmployeeEventType fromCode(byte code) {
+		for (EmployeeEventType type : values()) {
+			if (type.code == code) {
+				return type;
+			}
+		}
+		throw new IllegalArgumentException("Unknown employee event type code: " + code);
+	}
+
+}
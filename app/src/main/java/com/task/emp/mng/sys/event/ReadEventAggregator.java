@@ -0,0 +1,143 @@
+package com.task.emp.mng.sys.event;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.task.emp.mng.sys.utils.Constants;
+
+import jakarta.annotation.PreDestroy;
+
+/**
+ * Records employee reads for the audit log.
+ * 
+ * <p>
+ * In the default {@code aggregated} mode, reads are only counted in memory,
+ * per employee, using striped {@link LongAdder} counters that scale with
+ * concurrent readers. Once per flush interval, a single {@link EmployeeEventType#READ}
+ * event is published for every employee read during the window. It carries the
+ * number of reads in the {@link EmployeeEvent#FIELD_READ_COUNT} field and the
+ * window start in the {@link EmployeeEvent#FIELD_WINDOW_START} field. Reads
+ * counted since the last flush are lost if the process crashes.
+ * </p>
+ * 
+ * <p>
+ * In {@code per-read} mode, which is meant for deployments that must audit
+ * every single access, one event is published per read, as before.
+ * </p>
+ * 
+ * <p>
+ * The mode and the flush interval are configured with the
+ * {@code audit.read.mode} and {@code audit.read.flush-interval-ms} properties.
+ * </p>
+ * 
+ * @author agent
+ * @since 2026-10-17
+ */
+@Component
+public class ReadEventAggregator {
+
+	/**
+	 * Mode publishing one event per read.
+	 */
+	public static final String PER_READ = "per-read";
+
+	@Autowired
+	private KafkaTemplate<String, EmployeeEvent> kafkaTemplate;
+
+	@Value("${audit.read.mode:aggregated}")
+	private String mode;
+
+	private final Map<Long, ReadCounter> readCounts = new ConcurrentHashMap<>();
+
+	private volatile long windowStart = System.currentTimeMillis();
+
+	/**
+	 * Records a read of the given employee.
+	 *
+	 * @param id the ID of the employee that was read
+	 */
+	public void recordRead(Long id) {
+		if (PER_READ.equals(mode)) {
+			kafkaTemplate.send(Constants.EMPLOYEE_EVENTS, String.valueOf(id), EmployeeEvent.of(EmployeeEventType.READ, id));
+			return;
+		}
+		ReadCounter counter = readCounts.get(id);
+		while (true) {
+			if (counter == null) {
+				counter = readCounts.computeIfAbsent(id, key -> new ReadCounter());
+			}
+			counter.reads.increment();
+			if (!counter.retired) {
+				return;
+			}
+			// A flush is removing this counter as idle: take the read back and count it on the live counter
+			counter.reads.decrement();
+			counter = null;
+		}
+	}
+
+	/**
+	 * Publishes one aggregated read event per employee read since the previous
+	 * flush. Counters of employees that were not read during the window are
+	 * dropped, so the map only holds recently read employees.
+	 */
+	@Scheduled(fixedDelayString = "${audit.read.flush-interval-ms:10000}")
+	@PreDestroy
+	public void flush() {
+		long start = windowStart;
+		windowStart = System.currentTimeMillis();
+		String window = String.valueOf(start);
+		for (Map.Entry<Long, ReadCounter> entry : readCounts.entrySet()) {
+			Long id = entry.getKey();
+			long count = entry.getValue().reads.sumThenReset();
+			if (count <= 0) {
+				readCounts.computeIfPresent(id, (key, counter) -> counter.retireIfIdle() ? null : counter);
+				continue;
+			}
+			kafkaTemplate.send(Constants.EMPLOYEE_EVENTS, String.valueOf(id), EmployeeEvent.of(EmployeeEventType.READ, id,
+					Map.of(EmployeeEvent.FIELD_READ_COUNT, String.valueOf(count), EmployeeEvent.FIELD_WINDOW_START, window)));
+		}
+	}
+
+	/**
+	 * The reads of one employee since the last flush.
+	 *
+	 * <p>
+	 * An idle counter is removed by a flush, while a reader may already hold it.
+	 * The flush therefore retires the counter before checking that it is still
+	 * unused, and the reader checks for retirement after counting. Both are
+	 * volatile accesses, so either the flush sees the read and keeps the counter,
+	 * or the reader sees the retirement and counts the read again on the counter
+	 * that replaces it. The removal runs in {@code computeIfPresent}, so no
+	 * reader can fetch the counter through {@code computeIfAbsent} meanwhile.
+	 * </p>
+	 */
+	private static final class ReadCounter {
+
+		private final LongAdder reads = new LongAdder();
+
+		private volatile boolean retired;
+
+		/**
+		 * Retires the counter if it has no reads.
+		 *
+		 * @return true if the counter was retired and must be removed
+		 */
+		boolean retireIfIdle() {
+			retired = true;
+			if (reads.sum() != 0) {
+				retired = false;
+			}
+			return retired;
+		}
+
+	}
+
+}
@@ -0,0 +1,39 @@
+package com.task.emp.mng.sys.exception;
+
+/**
+ * Exception thrown when an employee would be created or renamed with a
+ * username that another employee already has.
+ * 
+ * @author agent
+ * @since 2026-10-17
+ */
+public class DuplicateUsernameException extends RuntimeException {
+
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * The username that is already taken.
+	 */
+	private final String username;
+
+	/**
+	 * Creates the exception.
+	 *
+	 * @param message  the reason the request was rejected
+	 * @param username the username that is already taken
+	 */
+	public DuplicateUsernameException(String message, String username) {
+		super(message);
+		this.username = username;
+	}
+
+	/**
+	 * Returns the username that is already taken.
+	 *
+	 * @return the username
+	 */
+	public String getUsername() {
+		return username;
+	}
+
+}
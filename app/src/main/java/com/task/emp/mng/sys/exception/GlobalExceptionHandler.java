@@ -6,6 +6,8 @@ import java.util.NoSuchElementException;
 import java.util.stream.Collectors;
 
 import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.web.HttpRequestMethodNotSupportedException;
@@ -18,6 +20,8 @@ import com.task.emp.mng.sys.response.ApiResponseContainer;
 import com.task.emp.mng.sys.response.ResponseContainerEntity;
 import com.task.emp.mng.sys.utils.Constants;
 
+import jakarta.servlet.http.HttpServletResponse;
+
 /**
  * Global exception handler that handles various exceptions throughout the
  * application. This class provides centralized exception handling and returns
@@ -25,9 +29,13 @@ import com.task.emp.mng.sys.utils.Constants;
  * 
  * <p>
  * The class includes methods to handle common exceptions such as
- * {@link DataIntegrityViolationException}, {@link NoSuchElementException},
+ * {@link DataIntegrityViolationException},
+ * {@link OptimisticLockingFailureException}, {@link DuplicateUsernameException},
+ * {@link IdempotencyKeyMismatchException}, {@link ServiceOverloadedException},
+ * {@link NoSuchElementException},
  * {@link NoResourceFoundException},
- * {@link HttpRequestMethodNotSupportedException}, and
+ * {@link HttpRequestMethodNotSupportedException},
+ * {@link InvalidRequestException}, and
  * {@link HttpMessageNotReadableException}.
  * </p>
  * 
@@ -58,6 +66,71 @@ public class GlobalExceptionHandler {
 		return ApiResponseContainer.getResponse(Constants.INVALID_REQUEST_CONTENT, errors, HttpStatus.BAD_REQUEST, Boolean.TRUE);
 	}
 
+	/**
+	 * Handles {@link OptimisticLockingFailureException}, which occurs when an
+	 * update is based on a version of an entity that has since been modified.
+	 *
+	 * @param exception the exception thrown when the version check fails
+	 * @return a structured response containing the error message
+	 */
+	@ExceptionHandler(OptimisticLockingFailureException.class)
+	@ResponseStatus(HttpStatus.CONFLICT)
+	public ResponseContainerEntity<Map<String, String>> handleOptimisticLockingFailureException(OptimisticLockingFailureException exception) {
+		Map<String, String> errors = new HashMap<>();
+		errors.put(Constants.ERROR, Constants.VERSION_CONFLICT);
+		return ApiResponseContainer.getResponse(Constants.CONFLICT, errors, HttpStatus.CONFLICT, Boolean.TRUE);
+	}
+
+	/**
+	 * Handles {@link DuplicateUsernameException}, which occurs when an employee
+	 * would get a username that is already taken. It is detected before the
+	 * database write, so no constraint violation has to be parsed.
+	 *
+	 * @param exception the exception thrown for the taken username
+	 * @return a structured response containing the error message and the username
+	 */
+	@ExceptionHandler(DuplicateUsernameException.class)
+	@ResponseStatus(HttpStatus.CONFLICT)
+	public ResponseContainerEntity<Map<String, String>> handleDuplicateUsernameException(DuplicateUsernameException exception) {
+		Map<String, String> errors = new HashMap<>();
+		errors.put(Constants.ERROR, exception.getMessage());
+		errors.put(Constants.USERNAME, exception.getUsername());
+		return ApiResponseContainer.getResponse(Constants.CONFLICT, errors, HttpStatus.CONFLICT, Boolean.TRUE);
+	}
+
+	/**
+	 * Handles {@link IdempotencyKeyMismatchException}, which occurs when an
+	 * idempotency key is reused for a different request.
+	 *
+	 * @param exception the exception thrown for the reused key
+	 * @return a structured response containing the error message
+	 */
+	@ExceptionHandler(IdempotencyKeyMismatchException.class)
+	@ResponseStatus(HttpStatus.UNPROCESSABLE_ENTITY)
+	public ResponseContainerEntity<Map<String, String>> handleIdempotencyKeyMismatchException(IdempotencyKeyMismatchException exception) {
+		Map<String, String> errors = new HashMap<>();
+		errors.put(Constants.ERROR, exception.getMessage());
+		return ApiResponseContainer.getResponse(Constants.UNPROCESSABLE_ENTITY, errors, HttpStatus.UNPROCESSABLE_ENTITY, Boolean.TRUE);
+	}
+
+	/**
+	 * Handles {@link ServiceOverloadedException}, which occurs when a request is
+	 * rejected because too many requests are being handled. The response tells the
+	 * client when to retry with a {@code Retry-After} header.
+	 *
+	 * @param exception the exception thrown when the request was rejected
+	 * @param response  the HTTP response
+	 * @return a structured response containing the error message
+	 */
+	@ExceptionHandler(ServiceOverloadedException.class)
+	@ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+	public ResponseContainerEntity<Map<String, String>> handleServiceOverloadedException(ServiceOverloadedException exception, HttpServletResponse response) {
+		response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(exception.getRetryAfterSeconds()));
+		Map<String, String> errors = new HashMap<>();
+		errors.put(Constants.ERROR, exception.getMessage());
+		return ApiResponseContainer.getResponse(Constants.SERVICE_UNAVAILABLE, errors, HttpStatus.SERVICE_UNAVAILABLE, Boolean.TRUE);
+	}
+
 	/**
 	 * Extracts the specific error message from the original exception message.
 	 * Splits the message based on a predefined pattern for easier debugging.
@@ -84,10 +157,8 @@ public class GlobalExceptionHandler {
 	@ResponseStatus(HttpStatus.NOT_FOUND)
 	public ResponseContainerEntity<Map<String, String>> handleNoSuchElementException(NoSuchElementException noSuchElementException) {
 		Map<String, String> errors = new HashMap<>();
-		String fieldName = noSuchElementException.fillInStackTrace().getMessage();
-		String message = noSuchElementException.getLocalizedMessage();
-		errors.put(fieldName, message);
-		return ApiResponseContainer.getResponse(Constants.NO_SUCH_ELEMENT, errors, HttpStatus.BAD_REQUEST, Boolean.TRUE);
+		errors.put(Constants.ERROR, noSuchElementException.getMessage());
+		return ApiResponseContainer.getResponse(Constants.NO_SUCH_ELEMENT, errors, HttpStatus.NOT_FOUND, Boolean.TRUE);
 	}
 
 	/**
@@ -126,6 +197,21 @@ public class GlobalExceptionHandler {
 		return ApiResponseContainer.getResponse(Constants.METHOD_NOT_ALLOWED, errors, HttpStatus.METHOD_NOT_ALLOWED, Boolean.TRUE);
 	}
 
+	/**
+	 * Handles {@link InvalidRequestException}, which occurs when a request is
+	 * well formed but its content is not acceptable.
+	 *
+	 * @param exception the exception thrown when the request is rejected
+	 * @return a structured response containing the error details and message
+	 */
+	@ExceptionHandler(InvalidRequestException.class)
+	@ResponseStatus(HttpStatus.BAD_REQUEST)
+	public ResponseContainerEntity<Map<String, String>> handleInvalidRequestException(InvalidRequestException exception) {
+		Map<String, String> errors = new HashMap<>();
+		errors.put(Constants.ERROR, exception.getMessage());
+		return ApiResponseContainer.getResponse(Constants.BAD_REQUEST, errors, HttpStatus.BAD_REQUEST, Boolean.TRUE);
+	}
+
 	/**
 	 * Handles {@link HttpMessageNotReadableException}, which occurs when the
 	 * request body is malformed or missing.
@@ -0,0 +1,23 @@
+package com.task.emp.mng.sys.exception;
+
+/**
+ * Exception thrown when an idempotency key is reused for a request that differs
+ * from the request the key was first used for.
+ * 
+ * @author agent
+ * @since 2026-10-17
+ */
+public class IdempotencyKeyMismatchException extends RuntimeException {
+
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * Creates the exception.
+	 *
+	 * @param message the reason the request was rejected
+	 */
+	public IdempotencyKeyMismatchException(String message) {
+		super(message);
+	}
+
+}
@@ -0,0 +1,25 @@
+package com.task.emp.mng.sys.exception;
+
+/**
+ * Exception thrown when a request is well formed but its content is not
+ * acceptable, for example a bulk request with too many items or an invalid
+ * pagination cursor. It is answered with 400 Bad Request, whereas other
+ * runtime exceptions, which indicate a fault of the application, are not.
+ * 
+ * @author agent
+ * @since 2026-10-17
+ */
+public class InvalidRequestException extends RuntimeException {
+
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * Creates the exception.
+	 *
+	 * @param message the reason the request was rejected
+	 */
+	public InvalidRequestException(String message) {
+		super(message);
+	}
+
+}
@@ -0,0 +1,40 @@
+package com.task.emp.mng.sys.exception;
+
+/**
+ * Exception thrown when a request is rejected because the application is
+ * already handling as many requests as it can serve. Clients should retry the
+ * request after the given delay.
+ * 
+ * @author agent
+ * @since 2026-10-17
+ */
+public class ServiceOverloadedException extends RuntimeException {
+
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * The number of seconds after which the client may retry.
+	 */
+	private final long retryAfterSeconds;
+
+	/**
+	 * Creates the exception.
+	 *
+	 * @param message           the reason the request was rejected
+	 * @param retryAfterSeconds the number of seconds after which the client may retry
+	 */
+	public ServiceOverloadedException(String message, long retryAfterSeconds) {
+		super(message);
+		this.retryAfterSeconds = retryAfterSeconds;
+	}
+
+	/**
+	 * Returns the number of seconds after which the client may retry.
+	 *
+	 * @return the retry delay in seconds
+	 */
+	public long getRetryAfterSeconds() {
+		return retryAfterSeconds;
+	}
+
+}
@@ -0,0 +1,185 @@
+package com.task.emp.mng.sys.idempotency;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.task.emp.mng.sys.exception.IdempotencyKeyMismatchException;
+import com.task.emp.mng.sys.exception.InvalidRequestException;
+import com.task.emp.mng.sys.exception.ServiceOverloadedException;
+import com.task.emp.mng.sys.utils.Constants;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Bounded in-memory store of the results of requests sent with an
+ * {@code Idempotency-Key} header, so that a retried request returns the result
+ * of the first attempt instead of being executed again.
+ * 
+ * <p>
+ * Each key is stored with a SHA-256 fingerprint of the request body and a
+ * future of the result. The first request with a key executes and completes
+ * the future; requests with the same key that arrive while it runs wait for it,
+ * and later ones return the stored result at once. A key reused with a
+ * different body is rejected. Failed executions are not stored, so a request
+ * that failed can be retried with the same key; requests already waiting for
+ * it receive the same failure.
+ * </p>
+ * 
+ * <p>
+ * Completed results expire a fixed time after they were stored, and the
+ * number of completed results is bounded, evicting with Caffeine's W-TinyLFU
+ * policy. Requests that are still executing carry no weight, so they are
+ * never evicted. The store is local to this instance, so retries are only
+ * recognised when they reach the same instance; the unique username still
+ * prevents a duplicate employee otherwise.
+ * </p>
+ * 
+ * @author agent
+ * @since 2026-10-17
+ */
+@Component
+public class IdempotencyStore implements MeterBinder {
+
+	/**
+	 * A stored request: the fingerprint of its body and its result.
+	 *
+	 * @param fingerprint the SHA-256 digest of the request body
+	 * @param result      the result of the request, completed once it has executed
+	 */
+	private record Entry(byte[] fingerprint, CompletableFuture<Object> result) {
+	}
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	private final Cache<String, Entry> entries;
+
+	private final Duration waitTimeout;
+
+	private final LongAdder replays = new LongAdder();
+
+	/**
+	 * Creates the store with the configured bounds.
+	 *
+	 * @param maximumSize      the maximum number of completed results kept
+	 * @param expireAfterWrite how long a completed result is kept
+	 * @param waitTimeout      how long a request waits for a concurrent request with the same key
+	 */
+	public IdempotencyStore(@Value("${idempotency.maximum-size:100000}") long maximumSize,
+			@Value("${idempotency.expire-after-write:24h}") Duration expireAfterWrite, @Value("${idempotency.wait-timeout:10s}") Duration waitTimeout) {
+		this.entries = Caffeine.newBuilder().maximumWeight(maximumSize).<String, Entry>weigher((key, entry) -> entry.result().isDone() ? 1 : 0)
+				.expireAfterWrite(expireAfterWrite).build();
+		this.waitTimeout = waitTimeout;
+	}
+
+	/**
+	 * Executes a request once per idempotency key. If a request with the key has
+	 * already completed, its result is returned without executing the action; if
+	 * one is executing, its result is awaited.
+	 *
+	 * @param <T>     the type of the result
+	 * @param key     the idempotency key sent by the client
+	 * @param request the request body, whose fingerprint must match that of the first request with the key
+	 * @param action  the action executing the request
+	 * @return the result of the first request with the key
+	 * @throws InvalidRequestException         if the key is blank or too long
+	 * @throws IdempotencyKeyMismatchException if the key was used for a different request body
+	 * @throws ServiceOverloadedException      if the request with the key is still executing after the wait timeout
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> T execute(String key, Object request, Supplier<T> action) {
+		if (key.isBlank() || key.length() > Constants.MAX_IDEMPOTENCY_KEY_LENGTH) {
+			throw new InvalidRequestException(Constants.INVALID_IDEMPOTENCY_KEY);
+		}
+		Entry entry = new Entry(fingerprintOf(request), new CompletableFuture<>());
+		Entry existing = entries.asMap().putIfAbsent(key, entry);
+		if (existing != null) {
+			if (!Arrays.equals(existing.fingerprint(), entry.fingerprint())) {
+				throw new IdempotencyKeyMismatchException(Constants.IDEMPOTENCY_KEY_REUSED);
+			}
+			replays.increment();
+			return (T) await(existing.result());
+		}
+
+		T result;
+		try {
+			result = action.get();
+		} catch (RuntimeException | Error exception) {
+			entries.asMap().remove(key, entry);
+			entry.result().completeExceptionally(exception);
+			throw exception;
+		}
+		entry.result().complete(result);
+		// Store the entry again so that it is weighed as completed and its expiry starts now
+		entries.asMap().replace(key, entry, entry);
+		return result;
+	}
+
+	/**
+	 * Waits for the result of a request with the same key.
+	 *
+	 * @param result the result of the other request
+	 * @return the result
+	 */
+	private Object await(CompletableFuture<Object> result) {
+		try {
+			return result.get(waitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+		} catch (TimeoutException exception) {
+			throw new ServiceOverloadedException(Constants.IDEMPOTENT_REQUEST_IN_PROGRESS, 1);
+		} catch (InterruptedException exception) {
+			Thread.currentThread().interrupt();
+			throw new ServiceOverloadedException(Constants.IDEMPOTENT_REQUEST_IN_PROGRESS, 1);
+		} catch (ExecutionException exception) {
+			if (exception.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			throw (Error) exception.getCause();
+		}
+	}
+
+	/**
+	 * Computes the SHA-256 digest of the JSON form of a request body.
+	 *
+	 * @param request the request body
+	 * @return the fingerprint of the request
+	 */
+	private byte[] fingerprintOf(Object request) {
+		try {
+			return MessageDigest.getInstance("SHA-256").digest(objectMapper.writeValueAsBytes(request));
+		} catch (JsonProcessingException | NoSuchAlgorithmException exception) {
+			throw new IllegalStateException(exception);
+		}
+	}
+
+	/**
+	 * Registers the store meters.
+	 *
+	 * @param registry the registry the meters are registered with
+	 */
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		FunctionCounter.builder("idempotency.replays", replays, LongAdder::sum).description("Requests answered with the result of an earlier request")
+				.register(registry);
+		Gauge.builder("idempotency.keys", entries, Cache::estimatedSize).description("Idempotency keys held").register(registry);
+	}
+
+}
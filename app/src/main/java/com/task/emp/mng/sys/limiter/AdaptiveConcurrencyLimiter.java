@@ -0,0 +1,369 @@
+package com.task.emp.mng.sys.limiter;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import com.task.emp.mng.sys.exception.ServiceOverloadedException;
+import com.task.emp.mng.sys.utils.Constants;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Interceptor shedding employee requests when the application has more work
+ * in flight than it can complete without queueing, with a concurrency limit
+ * that adapts to the observed latency.
+ * 
+ * <p>
+ * Reads ({@code GET} and {@code HEAD}) and writes have separate limits, so a
+ * slow write path, for example a locked table or a backed-up outbox, does not
+ * shed reads, and a burst of reads does not starve writes. A request is
+ * admitted if fewer requests of its kind than the current limit are in flight;
+ * otherwise it is rejected at once with a {@link ServiceOverloadedException},
+ * which is answered with 503 and a {@code Retry-After} header. The header
+ * carries the average latency of the last window of requests of that kind,
+ * rounded up to whole seconds and at least
+ * {@code adaptive.limiter.min-retry-after}, since that is about how long the
+ * requests in flight take to make room.
+ * </p>
+ * 
+ * <p>
+ * Each limit follows the gradient algorithm. The latencies of the completed
+ * requests are averaged over short windows of at least
+ * {@code adaptive.limiter.window}, and compared with a long-term average that
+ * moves slowly. While the short-term latency stays within
+ * {@code adaptive.limiter.tolerance} times the long-term latency, the limit
+ * grows by its square root per window, which leaves room for a small queue.
+ * When the short-term latency rises above it, for example because the
+ * database slows down, the limit shrinks in proportion, by at most half per
+ * window. Changes are smoothed, and the limit stays between
+ * {@code adaptive.limiter.min-limit} and {@code adaptive.limiter.max-limit}.
+ * It starts at {@code adaptive.limiter.initial-limit}, by default the number
+ * of Tomcat worker threads, so that nothing is shed before the latency has
+ * been observed to rise.
+ * The limit does not grow in windows where fewer than half of the allowed
+ * requests were in flight, so that an idle period does not leave it
+ * arbitrarily high. When the latency returns to normal after a long overload,
+ * the long-term average is pulled back down so that the limit can recover.
+ * </p>
+ * 
+ * <p>
+ * Asynchronous requests, such as the streaming export, leave the limit when
+ * their handler returns, and their latency is not sampled.
+ * </p>
+ * 
+ * <p>
+ * The limits, the requests in flight and the rejected requests are exposed as
+ * the {@code adaptive.limiter.limit} and {@code adaptive.limiter.inflight}
+ * gauges and the {@code adaptive.limiter.rejected} counter, each tagged with
+ * {@code type=read} or {@code type=write}.
+ * </p>
+ * 
+ * @author agent
+ * @since 2026-10-17
+ */
+@Component
+@ConditionalOnProperty(name = "adaptive.limiter.enabled", havingValue = "true")
+public class AdaptiveConcurrencyLimiter implements AsyncHandlerInterceptor, MeterBinder {
+
+	/**
+	 * The kinds of requests with separate limits.
+	 */
+	public enum Type {
+		READ, WRITE
+	}
+
+	/**
+	 * The request attribute holding the admission of a request.
+	 */
+	private static final String ADMISSION_ATTRIBUTE = AdaptiveConcurrencyLimiter.class.getName() + ".ADMISSION";
+
+	/**
+	 * The minimum number of samples of a window.
+	 */
+	private static final int MIN_WINDOW_SAMPLES = 10;
+
+	/**
+	 * The weight of a window in the long-term latency average, so that the
+	 * average follows about the last 50 windows.
+	 */
+	private static final double LONG_TERM_WEIGHT = 0.02;
+
+	private final GradientLimit readLimit;
+
+	private final GradientLimit writeLimit;
+
+	private LongSupplier nanoClock = System::nanoTime;
+
+	/**
+	 * The admission of a request: the limit it was admitted to and when.
+	 *
+	 * @param limit     the limit the request counts against
+	 * @param startTime the time of admission in nanoseconds
+	 */
+	private record Admission(GradientLimit limit, long startTime) {
+	}
+
+	/**
+	 * Creates the limiter.
+	 *
+	 * @param initialLimit the limit of each kind of request at startup
+	 * @param minLimit     the lowest limit
+	 * @param maxLimit     the highest limit
+	 * @param tolerance    how many times the long-term latency the short-term latency may reach before the limit shrinks
+	 * @param smoothing    the weight of a newly computed limit against the current one, between 0 and 1
+	 * @param window       the minimum duration of a sampling window
+	 * @param minRetryAfter the lowest delay announced in the {@code Retry-After} header of a rejected request
+	 */
+	@Autowired
+	public AdaptiveConcurrencyLimiter(@Value("${adaptive.limiter.initial-limit:${server.tomcat.threads.max:200}}") int initialLimit,
+			@Value("${adaptive.limiter.min-limit:4}") int minLimit, @Value("${adaptive.limiter.max-limit:200}") int maxLimit,
+			@Value("${adaptive.limiter.tolerance:1.5}") double tolerance, @Value("${adaptive.limiter.smoothing:0.2}") double smoothing,
+			@Value("${adaptive.limiter.window:100ms}") Duration window, @Value("${adaptive.limiter.min-retry-after:1s}") Duration minRetryAfter) {
+		long minRetryAfterSeconds = Math.max(1, minRetryAfter.toSeconds());
+		this.readLimit = new GradientLimit(initialLimit, minLimit, maxLimit, tolerance, smoothing, window.toNanos(), minRetryAfterSeconds);
+		this.writeLimit = new GradientLimit(initialLimit, minLimit, maxLimit, tolerance, smoothing, window.toNanos(), minRetryAfterSeconds);
+	}
+
+	/**
+	 * Creates the limiter with the given clock, for tests.
+	 */
+	AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, double tolerance, double smoothing, Duration window,
+			Duration minRetryAfter, LongSupplier nanoClock) {
+		this(initialLimit, minLimit, maxLimit, tolerance, smoothing, window, minRetryAfter);
+		this.nanoClock = nanoClock;
+	}
+
+	/**
+	 * Admits the request if fewer requests of its kind than the limit are in
+	 * flight.
+	 *
+	 * @throws ServiceOverloadedException if the limit is reached
+	 */
+	@Override
+	public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws Exception {
+		GradientLimit limit = limitOf(typeOf(request));
+		if (!limit.tryAcquire()) {
+			throw new ServiceOverloadedException(Constants.SERVER_BUSY, limit.getRetryAfterSeconds());
+		}
+		request.setAttribute(ADMISSION_ATTRIBUTE, new Admission(limit, nanoClock.getAsLong()));
+		return true;
+	}
+
+	/**
+	 * Releases a request whose handler started asynchronous processing, without
+	 * sampling its latency.
+	 */
+	@Override
+	public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+		Admission admission = (Admission) request.getAttribute(ADMISSION_ATTRIBUTE);
+		if (admission != null) {
+			request.removeAttribute(ADMISSION_ATTRIBUTE);
+			admission.limit().release();
+		}
+	}
+
+	/**
+	 * Releases a completed request and samples its latency.
+	 */
+	@Override
+	public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+		Admission admission = (Admission) request.getAttribute(ADMISSION_ATTRIBUTE);
+		if (admission != null) {
+			request.removeAttribute(ADMISSION_ATTRIBUTE);
+			long now = nanoClock.getAsLong();
+			admission.limit().release();
+			admission.limit().sample(now, now - admission.startTime());
+		}
+	}
+
+	/**
+	 * Registers the limiter meters.
+	 *
+	 * @param registry the registry the meters are registered with
+	 */
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		for (Type type : Type.values()) {
+			GradientLimit limit = limitOf(type);
+			String tag = type.name().toLowerCase(Locale.ROOT);
+			Gauge.builder("adaptive.limiter.limit", limit, GradientLimit::getLimit).tag("type", tag).description("Current concurrency limit")
+					.register(registry);
+			Gauge.builder("adaptive.limiter.inflight", limit, GradientLimit::getInflight).tag("type", tag).description("Requests in flight")
+					.register(registry);
+			FunctionCounter.builder("adaptive.limiter.rejected", limit.rejected, LongAdder::sum).tag("type", tag)
+					.description("Requests rejected by the adaptive concurrency limiter").register(registry);
+		}
+	}
+
+	/**
+	 * Returns the current limit of a kind of request.
+	 *
+	 * @param type the kind of request
+	 * @return the number of requests of that kind admitted at the same time
+	 */
+	public int getLimit(Type type) {
+		return limitOf(type).getLimit();
+	}
+
+	/**
+	 * Returns the number of requests of a kind in flight.
+	 *
+	 * @param type the kind of request
+	 * @return the number of admitted requests of that kind not yet released
+	 */
+	public int getInflight(Type type) {
+		return limitOf(type).getInflight();
+	}
+
+	/**
+	 * Returns the number of requests of a kind rejected since startup.
+	 *
+	 * @param type the kind of request
+	 * @return the rejected request count
+	 */
+	public long getRejectedCount(Type type) {
+		return limitOf(type).rejected.sum();
+	}
+
+	private GradientLimit limitOf(Type type) {
+		return type == Type.READ ? readLimit : writeLimit;
+	}
+
+	private static Type typeOf(HttpServletRequest request) {
+		String method = request.getMethod();
+		return "GET".equals(method) || "HEAD".equals(method) ? Type.READ : Type.WRITE;
+	}
+
+	/**
+	 * The concurrency limit of one kind of request.
+	 */
+	private static final class GradientLimit {
+
+		private final int minLimit;
+
+		private final int maxLimit;
+
+		private final double tolerance;
+
+		private final double smoothing;
+
+		private final long windowNanos;
+
+		private final long minRetryAfterSeconds;
+
+		private final AtomicInteger inflight = new AtomicInteger();
+
+		private final LongAdder rejected = new LongAdder();
+
+		private volatile double limit;
+
+		private volatile double lastWindowRtt;
+
+		// The fields below are guarded by this
+
+		private double longTermRtt;
+
+		private long windowStart;
+
+		private long windowRttSum;
+
+		private int windowSamples;
+
+		private int windowMaxInflight;
+
+		GradientLimit(int initialLimit, int minLimit, int maxLimit, double tolerance, double smoothing, long windowNanos,
+				long minRetryAfterSeconds) {
+			this.minLimit = minLimit;
+			this.maxLimit = maxLimit;
+			this.tolerance = tolerance;
+			this.smoothing = smoothing;
+			this.windowNanos = windowNanos;
+			this.minRetryAfterSeconds = minRetryAfterSeconds;
+			this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+		}
+
+		int getLimit() {
+			return (int) limit;
+		}
+
+		int getInflight() {
+			return inflight.get();
+		}
+
+		long getRetryAfterSeconds() {
+			return Math.max(minRetryAfterSeconds, (long) Math.ceil(lastWindowRtt / TimeUnit.SECONDS.toNanos(1)));
+		}
+
+		boolean tryAcquire() {
+			int current = inflight.incrementAndGet();
+			if (current > (int) limit) {
+				inflight.decrementAndGet();
+				rejected.increment();
+				return false;
+			}
+			synchronized (this) {
+				windowMaxInflight = Math.max(windowMaxInflight, current);
+			}
+			return true;
+		}
+
+		void release() {
+			inflight.decrementAndGet();
+		}
+
+		/**
+		 * Adds the latency of a completed request to the current window, and
+		 * updates the limit once the window is complete.
+		 *
+		 * @param now the current time in nanoseconds
+		 * @param rtt the latency of the request in nanoseconds
+		 */
+		synchronized void sample(long now, long rtt) {
+			if (windowSamples == 0) {
+				windowStart = now;
+			}
+			windowRttSum += Math.max(1, rtt);
+			windowSamples++;
+			if (windowSamples < MIN_WINDOW_SAMPLES || now - windowStart < windowNanos) {
+				return;
+			}
+			double shortTermRtt = (double) windowRttSum / windowSamples;
+			lastWindowRtt = shortTermRtt;
+			int maxInflight = Math.max(windowMaxInflight, inflight.get());
+			windowRttSum = 0;
+			windowSamples = 0;
+			windowMaxInflight = 0;
+
+			longTermRtt = longTermRtt == 0 ? shortTermRtt : longTermRtt * (1 - LONG_TERM_WEIGHT) + shortTermRtt * LONG_TERM_WEIGHT;
+			if (longTermRtt > 2 * shortTermRtt) {
+				// Latency is back to normal after a long overload; let the baseline catch up
+				longTermRtt *= 0.9;
+			}
+			double current = limit;
+			if (maxInflight < current / 2) {
+				return;
+			}
+			double gradient = Math.max(0.5, Math.min(1.0, tolerance * longTermRtt / shortTermRtt));
+			double target = current * gradient + Math.sqrt(current);
+			double next = current * (1 - smoothing) + target * smoothing;
+			limit = Math.max(minLimit, Math.min(maxLimit, next));
+		}
+
+	}
+
+}
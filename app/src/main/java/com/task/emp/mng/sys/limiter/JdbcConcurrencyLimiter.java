@@ -0,0 +1,215 @@
+package com.task.emp.mng.sys.limiter;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+import com.task.emp.mng.sys.exception.ServiceOverloadedException;
+import com.task.emp.mng.sys.utils.Constants;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Interceptor bounding the number of requests that are handled at the same
+ * time to the size of the JDBC connection pool.
+ * 
+ * <p>
+ * With virtual threads every request gets its own thread, so nothing bounds
+ * how many requests wait on the connection pool at once. A burst then queues
+ * thousands of threads on the pool, each holding its request open until the
+ * pool times out. This interceptor admits at most
+ * {@code jdbc.limiter.permits} requests at a time, which defaults to the
+ * maximum pool size. A request that cannot be admitted within
+ * {@code jdbc.limiter.max-wait} is rejected with a
+ * {@link ServiceOverloadedException}, so that clients back off instead of
+ * piling up.
+ * </p>
+ * 
+ * <p>
+ * A permit is held until the request completes. Asynchronous requests, such
+ * as the streaming export, keep reading from the database after the handler
+ * returns, so they keep their permit until the asynchronous processing has
+ * completed, failed or timed out, and the dispatch of their result does not
+ * take a second one.
+ * </p>
+ * 
+ * <p>
+ * The free permits and the rejected requests are exposed as the
+ * {@code jdbc.limiter.available} gauge and the {@code jdbc.limiter.rejected}
+ * counter.
+ * </p>
+ * 
+ * @author agent
+ * @since 2026-10-17
+ */
+@Component
+@ConditionalOnProperty(name = "jdbc.limiter.enabled", havingValue = "true")
+public class JdbcConcurrencyLimiter implements AsyncHandlerInterceptor, MeterBinder {
+
+	/**
+	 * The request attribute holding the permit of a request, released at most
+	 * once.
+	 */
+	private static final String PERMIT_ATTRIBUTE = JdbcConcurrencyLimiter.class.getName() + ".PERMIT";
+
+	private final Semaphore permits;
+
+	private final int maxPermits;
+
+	private final Duration maxWait;
+
+	private final LongAdder rejected = new LongAdder();
+
+	/**
+	 * Creates the limiter.
+	 *
+	 * @param maxPermits the maximum number of requests handled at the same time
+	 * @param maxWait    how long a request may wait to be admitted
+	 */
+	public JdbcConcurrencyLimiter(@Value("${jdbc.limiter.permits:${spring.datasource.hikari.maximum-pool-size:10}}") int maxPermits,
+			@Value("${jdbc.limiter.max-wait:1s}") Duration maxWait) {
+		this.permits = new Semaphore(maxPermits, true);
+		this.maxPermits = maxPermits;
+		this.maxWait = maxWait;
+	}
+
+	/**
+	 * Admits the request, waiting up to the configured time for a permit.
+	 *
+	 * @throws ServiceOverloadedException if no permit became available in time
+	 */
+	@Override
+	public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws Exception {
+		if (request.getDispatcherType() == DispatcherType.ASYNC && request.getAttribute(PERMIT_ATTRIBUTE) != null) {
+			// The result of an asynchronous request is dispatched with the permit it still holds
+			return true;
+		}
+		boolean acquired;
+		try {
+			acquired = permits.tryAcquire(maxWait.toNanos(), TimeUnit.NANOSECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			acquired = false;
+		}
+		if (!acquired) {
+			rejected.increment();
+			throw new ServiceOverloadedException(Constants.SERVER_BUSY, Math.max(1, maxWait.toSeconds()));
+		}
+		request.setAttribute(PERMIT_ATTRIBUTE, new AtomicBoolean());
+		return true;
+	}
+
+	/**
+	 * Keeps the permit of a request whose handler started asynchronous
+	 * processing, and releases it once the processing ends. The result is
+	 * normally dispatched back and released on completion of the dispatch;
+	 * the listener covers requests that end without one.
+	 */
+	@Override
+	public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response, Object handler) {
+		Object permit = request.getAttribute(PERMIT_ATTRIBUTE);
+		if (permit == null || !request.isAsyncStarted()) {
+			return;
+		}
+		request.getAsyncContext().addListener(new AsyncListener() {
+
+			@Override
+			public void onComplete(AsyncEvent event) {
+				release(permit);
+			}
+
+			@Override
+			public void onTimeout(AsyncEvent event) {
+				release(permit);
+			}
+
+			@Override
+			public void onError(AsyncEvent event) {
+				release(permit);
+			}
+
+			@Override
+			public void onStartAsync(AsyncEvent event) {
+				// The permit stays with the request
+			}
+
+		});
+	}
+
+	/**
+	 * Releases the permit of a completed request, unless its asynchronous
+	 * processing has only started.
+	 */
+	@Override
+	public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+		if (!request.isAsyncStarted()) {
+			release(request.getAttribute(PERMIT_ATTRIBUTE));
+		}
+	}
+
+	/**
+	 * Registers the limiter meters.
+	 *
+	 * @param registry the registry the meters are registered with
+	 */
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		Gauge.builder("jdbc.limiter.available", permits, Semaphore::availablePermits).description("Requests that can be admitted without waiting").register(registry);
+		FunctionCounter.builder("jdbc.limiter.rejected", rejected, LongAdder::sum).description("Requests rejected by the JDBC concurrency limiter").register(registry);
+	}
+
+	/**
+	 * Returns the number of requests that can currently be admitted without
+	 * waiting.
+	 *
+	 * @return the number of free permits
+	 */
+	public int getAvailablePermits() {
+		return permits.availablePermits();
+	}
+
+	/**
+	 * Returns the maximum number of requests handled at the same time.
+	 *
+	 * @return the number of permits
+	 */
+	public int getMaxPermits() {
+		return maxPermits;
+	}
+
+	/**
+	 * Returns the number of requests rejected since startup.
+	 *
+	 * @return the rejected request count
+	 */
+	public long getRejectedCount() {
+		return rejected.sum();
+	}
+
+	/**
+	 * Releases a permit unless it was already released. The dispatch of an
+	 * asynchronous result and the listener of the asynchronous processing may
+	 * both try, from different threads.
+	 */
+	private void release(Object permit) {
+		if (permit instanceof AtomicBoolean released && released.compareAndSet(false, true)) {
+			permits.release();
+		}
+	}
+
+}
@@ -0,0 +1,81 @@
+package com.task.emp.mng.sys.migration;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Locale;
+
+/**
+ * Schema lookups shared by the migrations, which must only change tables and
+ * columns that an earlier version of the application has created.
+ *
+ * @author agent
+ * @since 2026-10-17
+ */
+final class Schema {
+
+	private Schema() {
+	}
+
+	/**
+	 * Tells whether the database is MySQL or MariaDB, the only databases whose
+	 * existing schemas the migrations change.
+	 *
+	 * @param connection the connection to the database
+	 * @return true for MySQL and MariaDB
+	 * @throws SQLException if the metadata cannot be read
+	 */
+	static boolean isMySql(Connection connection) throws SQLException {
+		String product = connection.getMetaData().getDatabaseProductName().toLowerCase(Locale.ROOT);
+		return product.contains("mysql") || product.contains("mariadb");
+	}
+
+	/**
+	 * Tells whether a table exists in the current schema.
+	 *
+	 * @param connection the connection to the database
+	 * @param table      the name of the table
+	 * @return true if the table exists
+	 * @throws SQLException if the metadata cannot be read
+	 */
+	static boolean tableExists(Connection connection, String table) throws SQLException {
+		DatabaseMetaData metaData = connection.getMetaData();
+		try (ResultSet tables = metaData.getTables(connection.getCatalog(), connection.getSchema(), identifier(metaData, table), null)) {
+			return tables.next();
+		}
+	}
+
+	/**
+	 * Tells whether a column exists in a table of the current schema.
+	 *
+	 * @param connection the connection to the database
+	 * @param table      the name of the table
+	 * @param column     the name of the column
+	 * @return true if the column exists
+	 * @throws SQLException if the metadata cannot be read
+	 */
+	static boolean columnExists(Connection connection, String table, String column) throws SQLException {
+		DatabaseMetaData metaData = connection.getMetaData();
+		try (ResultSet columns = metaData.getColumns(connection.getCatalog(), connection.getSchema(), identifier(metaData, table),
+				identifier(metaData, column))) {
+			return columns.next();
+		}
+	}
+
+	/**
+	 * Returns a metadata search pattern matching exactly the given unquoted
+	 * identifier, in the case the database stores it in.
+	 */
+	private static String identifier(DatabaseMetaData metaData, String name) throws SQLException {
+		String stored = name;
+		if (metaData.storesUpperCaseIdentifiers()) {
+			stored = name.toUpperCase(Locale.ROOT);
+		} else if (metaData.storesLowerCaseIdentifiers()) {
+			stored = name.toLowerCase(Locale.ROOT);
+		}
+		String escape = metaData.getSearchStringEscape();
+		return escape == null || escape.isEmpty() ? stored : stored.replace("_", escape + "_").replace("%", escape + "%");
+	}
+
+}
@@ -0,0 +1,107 @@
+package com.task.emp.mng.sys.migration;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+/**
+ * Migration preparing the sequence of a table whose IDs used to be generated
+ * by the database ({@code IDENTITY}) and now come from a pooled sequence.
+ *
+ * <p>
+ * MySQL has no sequences, so Hibernate emulates them with a one-row table
+ * holding the next value. When the schema is updated, Hibernate creates that
+ * table starting at 1, and the first inserts would then collide with the
+ * existing rows. This migration runs before Hibernate and creates the table, or
+ * raises its value, above the highest ID in use. It leaves room for a whole
+ * allocation block, so that no ID of the first block can collide, however the
+ * pooled optimizer places the block around the stored value.
+ * </p>
+ *
+ * <p>
+ * Nothing is done if the table does not exist yet, since Hibernate then
+ * creates both from scratch, nor on databases with native sequences, which the
+ * application only uses as embedded test databases created empty.
+ * </p>
+ *
+ * @author agent
+ * @since 2026-10-17
+ */
+abstract class SequenceSeedMigration extends BaseJavaMigration {
+
+	private final String table;
+
+	private final String sequence;
+
+	private final int allocationSize;
+
+	/**
+	 * Creates the migration.
+	 *
+	 * @param table          the table whose IDs come from the sequence
+	 * @param sequence       the name of the sequence
+	 * @param allocationSize the allocation size of the sequence generator
+	 */
+	SequenceSeedMigration(String table, String sequence, int allocationSize) {
+		this.table = table;
+		this.sequence = sequence;
+		this.allocationSize = allocationSize;
+	}
+
+	/**
+	 * Seeds the sequence on MySQL.
+	 *
+	 * @param context the migration context holding the connection
+	 * @throws SQLException if the database cannot be read or updated
+	 */
+	@Override
+	public void migrate(Context context) throws SQLException {
+		Connection connection = context.getConnection();
+		if (Schema.isMySql(connection)) {
+			seedTableSequence(connection, table, sequence, allocationSize);
+		}
+	}
+
+	/**
+	 * Creates or raises the one-row table emulating a sequence, so that its next
+	 * value lies more than one allocation block above the highest ID of the
+	 * table.
+	 *
+	 * @param connection     the connection to the database
+	 * @param table          the table whose IDs come from the sequence
+	 * @param sequence       the name of the table emulating the sequence
+	 * @param allocationSize the allocation size of the sequence generator
+	 * @throws SQLException if the database cannot be read or updated
+	 */
+	static void seedTableSequence(Connection connection, String table, String sequence, int allocationSize) throws SQLException {
+		if (!Schema.tableExists(connection, table)) {
+			return;
+		}
+		long nextValue;
+		try (Statement statement = connection.createStatement(); ResultSet resultSet = statement.executeQuery("select max(id) from " + table)) {
+			resultSet.next();
+			nextValue = resultSet.getLong(1) + allocationSize + 1;
+		}
+		if (!Schema.tableExists(connection, sequence)) {
+			try (Statement statement = connection.createStatement()) {
+				statement.execute("create table " + sequence + " (next_val bigint)");
+			}
+			try (PreparedStatement insert = connection.prepareStatement("insert into " + sequence + " (next_val) values (?)")) {
+				insert.setLong(1, nextValue);
+				insert.executeUpdate();
+			}
+			return;
+		}
+		try (PreparedStatement update = connection.prepareStatement("update " + sequence + " set next_val = ? where next_val < ?")) {
+			update.setLong(1, nextValue);
+			update.setLong(2, nextValue);
+			update.executeUpdate();
+		}
+	}
+
+}
@@ -0,0 +1,19 @@
+package com.task.emp.mng.sys.migration;
+
+/**
+ * Seeds the {@code employee_seq} sequence above the highest employee ID, for
+ * databases created while employee IDs were generated by the database.
+ *
+ * @author agent
+ * @since 2026-10-17
+ */
+public class V1__SeedEmployeeSequence extends SequenceSeedMigration {
+
+	/**
+	 * Creates the migration.
+	 */
+	public V1__SeedEmployeeSequence() {
+		super("employees", "employee_seq", 50);
+	}
+
+}
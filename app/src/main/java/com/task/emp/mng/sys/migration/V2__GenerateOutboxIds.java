@@ -0,0 +1,73 @@
+package com.task.emp.mng.sys.migration;
+
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+/**
+ * Migration letting the database generate the IDs of the employee outbox.
+ *
+ * <p>
+ * Outbox IDs used to come from the pooled {@code employee_outbox_seq}
+ * sequence, whose blocks are handed to each instance in turn, so an instance
+ * could record a later event of an employee under a lower ID than another
+ * instance did. The IDs are now generated by the database
+ * ({@code AUTO_INCREMENT}), which Hibernate does not add to an existing
+ * column. MySQL continues the column above its highest ID. The sequence table
+ * is no longer used and is left in place.
+ * </p>
+ *
+ * @author agent
+ * @since 2026-10-17
+ */
+public class V2__GenerateOutboxIds extends BaseJavaMigration {
+
+	private static final String TABLE = "employee_outbox";
+
+	/**
+	 * Makes the outbox ID column generated on MySQL.
+	 *
+	 * @param context the migration context holding the connection
+	 * @throws SQLException if the database cannot be read or updated
+	 */
+	@Override
+	public void migrate(Context context) throws SQLException {
+		Connection connection = context.getConnection();
+		if (Schema.isMySql(connection)) {
+			generateIds(connection);
+		}
+	}
+
+	/**
+	 * Makes the ID column of the outbox {@code AUTO_INCREMENT}, unless the table
+	 * does not exist or its IDs are already generated.
+	 *
+	 * @param connection the connection to the database
+	 * @return true if the column was changed
+	 * @throws SQLException if the database cannot be read or updated
+	 */
+	static boolean generateIds(Connection connection) throws SQLException {
+		if (!Schema.tableExists(connection, TABLE) || isAutoIncrement(connection)) {
+			return false;
+		}
+		try (Statement statement = connection.createStatement()) {
+			statement.execute("alter table employee_outbox modify id bigint not null auto_increment");
+		}
+		return true;
+	}
+
+	/**
+	 * Tells whether the outbox IDs are generated by the database.
+	 */
+	private static boolean isAutoIncrement(Connection connection) throws SQLException {
+		try (Statement statement = connection.createStatement();
+				ResultSet resultSet = statement.executeQuery("select id from employee_outbox where 1 = 0")) {
+			return resultSet.getMetaData().isAutoIncrement(1);
+		}
+	}
+
+}
@@ -0,0 +1,19 @@
+package com.task.emp.mng.sys.migration;
+
+/**
+ * Seeds the {@code audit_log_seq} sequence above the highest audit log ID, for
+ * databases created while audit log IDs were generated by the database.
+ *
+ * @author agent
+ * @since 2026-10-17
+ */
+public class V3__SeedAuditLogSequence extends SequenceSeedMigration {
+
+	/**
+	 * Creates the migration.
+	 */
+	public V3__SeedAuditLogSequence() {
+		super("audit_logs", "audit_log_seq", 100);
+	}
+
+}
@@ -0,0 +1,148 @@
+package com.task.emp.mng.sys.migration;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
+import java.util.Calendar;
+import java.util.TimeZone;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Migration filling the {@code event_time} column of the audit logs recorded
+ * before it existed.
+ *
+ * <p>
+ * Audit logs used to record their time as text in the {@code timestamp}
+ * column, holding the local date and time of the consuming instance in ISO
+ * format. Hibernate would add {@code event_time} as a {@code NOT NULL} column,
+ * which fails, or fills in zero dates, on a table that already has rows. This
+ * migration adds the column as nullable, converts every text time from the
+ * default time zone of the JVM, which should be the zone the application ran
+ * in, and only then makes the column {@code NOT NULL}. Times that are missing
+ * or cannot be parsed become the epoch, so that they sort before every real
+ * event. The {@code timestamp} column is kept.
+ * </p>
+ *
+ * <p>
+ * The rows are converted in batches of {@value #BATCH_SIZE}, in ID order. MySQL
+ * commits every schema change, so the migration does not run in a transaction,
+ * and running it again after a failure converts the remaining rows.
+ * </p>
+ *
+ * @author agent
+ * @since 2026-10-17
+ */
+public class V4__BackfillAuditEventTime extends BaseJavaMigration {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(V4__BackfillAuditEventTime.class);
+
+	static final int BATCH_SIZE = 1000;
+
+	private static final String TABLE = "audit_logs";
+
+	/**
+	 * Back-fills the event times on MySQL.
+	 *
+	 * @param context the migration context holding the connection
+	 * @throws SQLException if the database cannot be read or updated
+	 */
+	@Override
+	public void migrate(Context context) throws SQLException {
+		Connection connection = context.getConnection();
+		if (Schema.isMySql(connection)) {
+			backfillEventTime(connection, ZoneId.systemDefault());
+		}
+	}
+
+	/**
+	 * Runs outside a transaction, since MySQL commits schema changes anyway.
+	 */
+	@Override
+	public boolean canExecuteInTransaction() {
+		return false;
+	}
+
+	/**
+	 * Adds the {@code event_time} column if needed, fills it from the
+	 * {@code timestamp} column and makes it {@code NOT NULL}. Does nothing if the
+	 * table does not exist or has no {@code timestamp} column.
+	 *
+	 * @param connection the connection to the database
+	 * @param zone       the time zone the text times were recorded in
+	 * @return the number of rows whose time could not be parsed
+	 * @throws SQLException if the database cannot be read or updated
+	 */
+	static int backfillEventTime(Connection connection, ZoneId zone) throws SQLException {
+		if (!Schema.tableExists(connection, TABLE) || !Schema.columnExists(connection, TABLE, "timestamp")) {
+			return 0;
+		}
+		if (!Schema.columnExists(connection, TABLE, "event_time")) {
+			try (Statement statement = connection.createStatement()) {
+				statement.execute("alter table audit_logs add column event_time datetime(6) null");
+			}
+		}
+		// Hibernate binds instants as timestamps in UTC, so the same is done here
+		Calendar utc = Calendar.getInstance(TimeZone.getTimeZone("UTC"));
+		int unparsable = 0;
+		long after = Long.MIN_VALUE;
+		try (PreparedStatement select = connection.prepareStatement(
+				"select id, `timestamp` from audit_logs where event_time is null and id > ? order by id limit " + BATCH_SIZE);
+				PreparedStatement update = connection.prepareStatement("update audit_logs set event_time = ? where id = ?")) {
+			int rows;
+			do {
+				rows = 0;
+				select.setLong(1, after);
+				try (ResultSet resultSet = select.executeQuery()) {
+					while (resultSet.next()) {
+						after = resultSet.getLong(1);
+						Instant eventTime = parse(resultSet.getString(2), zone);
+						if (eventTime == null) {
+							eventTime = Instant.EPOCH;
+							unparsable++;
+						}
+						update.setTimestamp(1, Timestamp.from(eventTime), utc);
+						update.setLong(2, after);
+						update.addBatch();
+						rows++;
+					}
+				}
+				if (rows > 0) {
+					update.executeBatch();
+				}
+			} while (rows == BATCH_SIZE);
+		}
+		try (Statement statement = connection.createStatement()) {
+			statement.execute("alter table audit_logs modify event_time datetime(6) not null");
+		}
+		if (unparsable > 0) {
+			LOGGER.warn("{} audit logs had no readable timestamp, their event time was set to {}", unparsable, Instant.EPOCH);
+		}
+		return unparsable;
+	}
+
+	/**
+	 * Parses a local date and time recorded as text in the given time zone.
+	 */
+	private static Instant parse(String value, ZoneId zone) {
+		if (value == null) {
+			return null;
+		}
+		try {
+			return LocalDateTime.parse(value.trim()).atZone(zone).toInstant();
+		} catch (DateTimeParseException exception) {
+			return null;
+		}
+	}
+
+}
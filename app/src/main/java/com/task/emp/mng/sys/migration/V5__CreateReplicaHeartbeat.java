@@ -0,0 +1,57 @@
+package com.task.emp.mng.sys.migration;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+/**
+ * Migration creating the {@code replica_heartbeat} table, into which the
+ * replica lag monitor stamps the time on the primary and from which it reads
+ * the stamp back on the replica.
+ *
+ * <p>
+ * The table is not mapped by any entity, so Hibernate does not create it, and
+ * unlike the other migrations this one runs on every database. Databases on
+ * which an earlier version of the monitor already created the table are left
+ * as they are.
+ * </p>
+ *
+ * @author agent
+ * @since 2026-10-17
+ */
+public class V5__CreateReplicaHeartbeat extends BaseJavaMigration {
+
+	private static final String TABLE = "replica_heartbeat";
+
+	/**
+	 * Creates the heartbeat table unless it exists.
+	 *
+	 * @param context the migration context holding the connection
+	 * @throws SQLException if the database cannot be read or updated
+	 */
+	@Override
+	public void migrate(Context context) throws SQLException {
+		createTable(context.getConnection());
+	}
+
+	/**
+	 * Creates the heartbeat table unless it exists.
+	 *
+	 * @param connection the connection to the database
+	 * @return true if the table was created
+	 * @throws SQLException if the database cannot be read or updated
+	 */
+	static boolean createTable(Connection connection) throws SQLException {
+		if (Schema.tableExists(connection, TABLE)) {
+			return false;
+		}
+		try (Statement statement = connection.createStatement()) {
+			statement.execute("create table replica_heartbeat (id int primary key, beat_time bigint not null)");
+		}
+		return true;
+	}
+
+}
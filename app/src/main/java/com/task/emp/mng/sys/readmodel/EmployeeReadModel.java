@@ -0,0 +1,401 @@
+package com.task.emp.mng.sys.readmodel;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.errors.WakeupException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.task.emp.mng.sys.entity.Employee;
+import com.task.emp.mng.sys.event.EmployeeEvent;
+import com.task.emp.mng.sys.repository.EmployeeRepository;
+import com.task.emp.mng.sys.utils.Constants;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+/**
+ * In-memory read model of all employees, built from the "employee_events"
+ * topic. When enabled with {@code employee.read-model.enabled}, the employee
+ * queries of the service are answered from this model instead of the database
+ * once it is ready.
+ * 
+ * <p>
+ * Bootstrapping runs on a background thread after startup. It first captures
+ * the end offsets of every partition of the topic, then loads a snapshot of the
+ * employees table, and finally consumes the topic from the captured offsets.
+ * Events are only published after their transaction commits, so every change
+ * missing from the snapshot is found after the captured offsets. Changes that
+ * are both in the snapshot and on the topic are resolved by the employee
+ * version: an event only replaces the held employee if it carries a newer
+ * version. A deleted employee leaves a tombstone, and employee IDs are never
+ * reused, so a create or update redelivered or reordered after the delete
+ * cannot bring the employee back.
+ * </p>
+ * 
+ * <p>
+ * The topic is read with manually assigned partitions and no committed
+ * offsets, so every instance builds its own complete model. Employees are held
+ * in an {@link EmployeeStore}, keyed by the primitive ID, which serves lookups
+ * and keyset pages in ID order.
+ * </p>
+ * 
+ * <p>
+ * The model is eventually consistent: a change becomes visible once the outbox
+ * relay has published it and this model has consumed it. The lag and the
+ * staleness are exposed by {@link #getStatus()} and as the
+ * {@code employee.read.model.*} gauges. If bootstrapping or consuming fails,
+ * for example because the topic does not exist yet or the broker is
+ * unreachable, the model stops serving reads, so the service falls back to the
+ * database, and bootstraps again after a backoff. The backoff starts at
+ * {@code employee.read-model.retry-backoff} and doubles with every failure in
+ * a row, up to {@value #MAX_BACKOFF_FACTOR} times that.
+ * </p>
+ * 
+ * @author agent
+ * @since 2026-10-17
+ */
+@Component
+@ConditionalOnProperty(name = "employee.read-model.enabled", havingValue = "true")
+public class EmployeeReadModel implements MeterBinder {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(EmployeeReadModel.class);
+
+	/**
+	 * The largest backoff between bootstrap attempts, as a multiple of the
+	 * initial backoff.
+	 */
+	private static final int MAX_BACKOFF_FACTOR = 32;
+
+	@Autowired
+	private ConsumerFactory<String, EmployeeEvent> consumerFactory;
+
+	@Autowired
+	private EmployeeRepository employeeRepository;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	@Value("${employee.read-model.poll-timeout:500ms}")
+	private Duration pollTimeout;
+
+	@Value("${employee.read-model.retry-backoff:1s}")
+	private Duration retryBackoff;
+
+	private final EmployeeStore employees = new EmployeeStore();
+
+	private volatile boolean ready;
+
+	private volatile boolean running = true;
+
+	private volatile long lag = -1;
+
+	private volatile long lastEventTimestamp;
+
+	private volatile int failures;
+
+	private volatile org.apache.kafka.clients.consumer.Consumer<String, EmployeeEvent> consumer;
+
+	/**
+	 * Starts bootstrapping and consuming on a background thread once the
+	 * application is ready.
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	public void start() {
+		Thread worker = new Thread(this::run, "employee-read-model");
+		worker.setDaemon(true);
+		worker.start();
+	}
+
+	/**
+	 * Stops consuming.
+	 */
+	@PreDestroy
+	public void stop() {
+		running = false;
+		org.apache.kafka.clients.consumer.Consumer<String, EmployeeEvent> current = consumer;
+		if (current != null) {
+			current.wakeup();
+		}
+	}
+
+	/**
+	 * Bootstraps the model and applies events until stopped, bootstrapping again
+	 * after a backoff whenever that fails.
+	 */
+	private void run() {
+		while (running) {
+			try {
+				bootstrapAndConsume();
+			} catch (WakeupException exception) {
+				// Raised by stop()
+			} catch (RuntimeException exception) {
+				failures++;
+				long backoffMillis = retryBackoff.toMillis() << Math.min(failures - 1, Integer.numberOfTrailingZeros(MAX_BACKOFF_FACTOR));
+				LOGGER.error("Employee read model failed, reads fall back to the database; bootstrapping again in {} ms", backoffMillis, exception);
+				try {
+					Thread.sleep(backoffMillis);
+				} catch (InterruptedException interrupted) {
+					Thread.currentThread().interrupt();
+					return;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Bootstraps the model with a new consumer and then applies events until
+	 * stopped or until consuming fails.
+	 */
+	private void bootstrapAndConsume() {
+		Properties overrides = new Properties();
+		overrides.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, "false");
+		try (org.apache.kafka.clients.consumer.Consumer<String, EmployeeEvent> kafkaConsumer = consumerFactory.createConsumer(null, null, null, overrides)) {
+			consumer = kafkaConsumer;
+			if (!running) {
+				return;
+			}
+			List<TopicPartition> partitions = new ArrayList<>();
+			List<PartitionInfo> partitionInfos = kafkaConsumer.partitionsFor(Constants.EMPLOYEE_EVENTS);
+			if (partitionInfos == null || partitionInfos.isEmpty()) {
+				throw new IllegalStateException("Topic " + Constants.EMPLOYEE_EVENTS + " does not exist");
+			}
+			for (PartitionInfo partition : partitionInfos) {
+				partitions.add(new TopicPartition(partition.topic(), partition.partition()));
+			}
+			kafkaConsumer.assign(partitions);
+
+			// Capture the catch-up offsets before the snapshot, so no change can fall between the two
+			Map<TopicPartition, Long> catchUpOffsets = kafkaConsumer.endOffsets(partitions);
+			employees.clear();
+			loadSnapshot();
+			catchUpOffsets.forEach(kafkaConsumer::seek);
+			ready = true;
+			failures = 0;
+			LOGGER.info("Employee read model ready with {} employees", employees.size());
+
+			while (running) {
+				for (ConsumerRecord<String, EmployeeEvent> record : kafkaConsumer.poll(pollTimeout)) {
+					apply(record.value());
+				}
+				updateLag(kafkaConsumer, partitions);
+			}
+		} finally {
+			ready = false;
+			consumer = null;
+		}
+	}
+
+	/**
+	 * Loads every employee from the database in a single streaming read. The
+	 * snapshot must not be older than the catch-up offsets, so it is read in a
+	 * read-write transaction, which always goes to the primary database.
+	 */
+	private void loadSnapshot() {
+		TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+		transaction.executeWithoutResult(status -> {
+			try (Stream<Employee> snapshot = employeeRepository.streamAllBy()) {
+				snapshot.forEach(employee -> {
+					employees.putIfNewer(copyOf(employee));
+					entityManager.detach(employee);
+				});
+			}
+		});
+	}
+
+	/**
+	 * Applies a single employee event. Create and update events replace the held
+	 * employee only if they carry a newer version and the employee was not
+	 * deleted, delete events remove it and leave a tombstone, and other events as
+	 * well as events without the full employee state are ignored.
+	 *
+	 * @param event the event to apply, or null if it could not be decoded
+	 */
+	public void apply(EmployeeEvent event) {
+		if (event == null) {
+			return;
+		}
+		switch (event.getType()) {
+		case CREATE, UPDATE -> {
+			Employee employee = toEmployee(event);
+			if (employee != null) {
+				employees.putIfNewer(employee);
+			}
+		}
+		case DELETE -> employees.delete(event.getEntityId());
+		default -> {
+			// Read events do not change the model
+		}
+		}
+		if (event.getTimestamp() > 0) {
+			lastEventTimestamp = event.getTimestamp();
+		}
+	}
+
+	/**
+	 * Returns the version of the held employees, derived from the employees
+	 * themselves, so that every instance holding the same employees reports the
+	 * same version. It changes once a
+	 * change is visible, so data read after taking the version is at least as new
+	 * as the version.
+	 *
+	 * @return the collection version of the model
+	 */
+	public String getCollectionVersion() {
+		return employees.collectionVersion();
+	}
+
+	/**
+	 * Tells whether the model has been bootstrapped and is consuming, and can
+	 * therefore serve reads.
+	 *
+	 * @return true if reads can be served from the model
+	 */
+	public boolean isReady() {
+		return ready;
+	}
+
+	/**
+	 * Returns the employee with the given ID.
+	 *
+	 * @param id the ID of the employee
+	 * @return a copy of the employee, or null if it does not exist
+	 */
+	public Employee get(Long id) {
+		Employee employee = id != null ? employees.get(id) : null;
+		return employee != null ? copyOf(employee) : null;
+	}
+
+	/**
+	 * Returns the employees whose ID is strictly greater than the given cursor,
+	 * in ascending ID order.
+	 *
+	 * @param after the last ID seen by the client
+	 * @param limit the maximum number of employees to return
+	 * @return copies of the next employees after the cursor
+	 */
+	public List<Employee> getPage(long after, int limit) {
+		List<Employee> page = employees.page(after, limit);
+		page.replaceAll(EmployeeReadModel::copyOf);
+		return page;
+	}
+
+	/**
+	 * Passes every employee to the given consumer in ID order.
+	 *
+	 * @param consumer the consumer receiving a copy of each employee
+	 */
+	public void forEach(Consumer<Employee> consumer) {
+		employees.forEach(employee -> consumer.accept(copyOf(employee)));
+	}
+
+	/**
+	 * Returns the state of the model. The lag is the number of records on the
+	 * topic not yet applied, or -1 before it is first measured. The staleness is
+	 * the time since the last applied event while the model lags behind, and 0
+	 * once it has caught up.
+	 *
+	 * @return the readiness, size, lag, staleness and failed bootstraps in a row of the model
+	 */
+	public Map<String, Object> getStatus() {
+		long currentLag = lag;
+		long lastTimestamp = lastEventTimestamp;
+		Map<String, Object> status = new LinkedHashMap<>();
+		status.put("ready", ready);
+		status.put("size", employees.size());
+		status.put("lag", currentLag);
+		status.put("stalenessMillis", stalenessMillisOf(currentLag, lastTimestamp));
+		status.put("lastEventTimestamp", lastTimestamp);
+		status.put("failures", failures);
+		return status;
+	}
+
+	/**
+	 * Registers gauges for the readiness, size, lag and staleness of the model.
+	 *
+	 * @param registry the registry the gauges are registered with
+	 */
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		Gauge.builder("employee.read.model.ready", this, model -> model.ready ? 1 : 0).description("Whether the read model serves queries").register(registry);
+		Gauge.builder("employee.read.model.size", employees, EmployeeStore::size).description("Employees held by the read model").register(registry);
+		Gauge.builder("employee.read.model.lag", this, model -> model.lag).description("Events on the topic not yet applied, -1 if unknown").register(registry);
+		TimeGauge.builder("employee.read.model.staleness", this, TimeUnit.MILLISECONDS, model -> stalenessMillisOf(model.lag, model.lastEventTimestamp))
+				.description("Time since the last applied event while the read model lags behind").register(registry);
+	}
+
+	/**
+	 * Returns the staleness of the model for the given lag and last event time.
+	 */
+	private static long stalenessMillisOf(long currentLag, long lastTimestamp) {
+		return currentLag > 0 && lastTimestamp > 0 ? System.currentTimeMillis() - lastTimestamp : 0L;
+	}
+
+	/**
+	 * Updates the lag from the positions known to the consumer, without a request
+	 * to the broker.
+	 */
+	private void updateLag(org.apache.kafka.clients.consumer.Consumer<String, EmployeeEvent> kafkaConsumer, List<TopicPartition> partitions) {
+		long total = 0;
+		for (TopicPartition partition : partitions) {
+			OptionalLong partitionLag = kafkaConsumer.currentLag(partition);
+			if (partitionLag.isEmpty()) {
+				return;
+			}
+			total += partitionLag.getAsLong();
+		}
+		lag = total;
+	}
+
+	/**
+	 * Creates the employee described by a create or update event.
+	 *
+	 * @return the employee, or null if the event does not carry the full employee state
+	 */
+	private Employee toEmployee(EmployeeEvent event) {
+		Map<String, String> fields = event.getFields();
+		String version = fields.get(EmployeeEvent.FIELD_VERSION);
+		String salary = fields.get(EmployeeEvent.FIELD_SALARY);
+		if (version == null || salary == null) {
+			return null;
+		}
+		return new Employee(event.getEntityId(), fields.get(EmployeeEvent.FIELD_NAME), fields.get(EmployeeEvent.FIELD_USERNAME),
+				fields.get(EmployeeEvent.FIELD_DEPARTMENT), Double.valueOf(salary), Long.valueOf(version));
+	}
+
+	private static Employee copyOf(Employee employee) {
+		return new Employee(employee.getId(), employee.getName(), employee.getUsername(), employee.getDepartment(), employee.getSalary(),
+				employee.getVersion());
+	}
+
+}
@@ -0,0 +1,303 @@
+package com.task.emp.mng.sys.readmodel;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+import com.task.emp.mng.sys.entity.Employee;
+
+/**
+ * Employees of the read model, keyed by their primitive {@code long} ID.
+ *
+ * <p>
+ * Employees are held in an open-addressing hash table with linear probing,
+ * whose keys are a plain {@code long[]}, so a lookup neither boxes the ID nor
+ * follows a chain of entry objects. The IDs of the live employees are also kept
+ * in a sorted {@code long[]}, which serves keyset pages by binary search.
+ * Employee IDs come from a sequence and mostly arrive in increasing order, so
+ * new IDs are usually appended.
+ * </p>
+ *
+ * <p>
+ * A deleted employee leaves a tombstone in the hash table. Employee IDs are
+ * never reused, so once an ID has a tombstone, every create or update event
+ * for it is an older event that was redelivered or reordered, and is rejected.
+ * A tombstone costs one slot of the table.
+ * </p>
+ *
+ * <p>
+ * Readers share a read lock and writers take the write lock. The read model
+ * has a single writer, its consumer thread, so readers are only blocked while
+ * an event is applied.
+ * </p>
+ *
+ * @author agent
+ * @since 2026-10-17
+ */
+final class EmployeeStore {
+
+	/**
+	 * The value marking a deleted employee.
+	 */
+	private static final Employee DELETED = new Employee();
+
+	private static final int INITIAL_CAPACITY = 1024;
+
+	private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+	private long[] keys = new long[INITIAL_CAPACITY];
+
+	private Employee[] values = new Employee[INITIAL_CAPACITY];
+
+	private int used;
+
+	private long[] sortedIds = new long[INITIAL_CAPACITY];
+
+	private int size;
+
+	private long versionSum;
+
+	/**
+	 * Returns the employee with the given ID.
+	 *
+	 * @param id the ID of the employee
+	 * @return the employee, or null if it does not exist or was deleted
+	 */
+	Employee get(long id) {
+		lock.readLock().lock();
+		try {
+			Employee employee = values[slotOf(id)];
+			return employee == DELETED ? null : employee;
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * Stores the employee unless a newer version of it is held or it was
+	 * deleted.
+	 *
+	 * @param employee the employee to store, with its ID and version set
+	 * @return true if the employee was stored
+	 */
+	boolean putIfNewer(Employee employee) {
+		long id = employee.getId();
+		lock.writeLock().lock();
+		try {
+			int slot = slotOf(id);
+			Employee current = values[slot];
+			if (current == DELETED || current != null && versionOf(employee) <= versionOf(current)) {
+				return false;
+			}
+			values[slot] = employee;
+			versionSum += summandOf(employee) - (current != null ? summandOf(current) : 0);
+			if (current == null) {
+				keys[slot] = id;
+				insertSortedId(id);
+				if (++used * 2 > keys.length) {
+					resize();
+				}
+			}
+			return true;
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * Deletes the employee with the given ID, leaving a tombstone that rejects
+	 * later events for it.
+	 *
+	 * @param id the ID of the employee
+	 */
+	void delete(long id) {
+		lock.writeLock().lock();
+		try {
+			int slot = slotOf(id);
+			Employee current = values[slot];
+			if (current == DELETED) {
+				return;
+			}
+			values[slot] = DELETED;
+			if (current == null) {
+				keys[slot] = id;
+				if (++used * 2 > keys.length) {
+					resize();
+				}
+			} else {
+				versionSum -= summandOf(current);
+				removeSortedId(id);
+			}
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * Returns the employees whose ID is strictly greater than the given cursor,
+	 * in ascending ID order.
+	 *
+	 * @param after the last ID seen by the client
+	 * @param limit the maximum number of employees to return
+	 * @return the next employees after the cursor
+	 */
+	List<Employee> page(long after, int limit) {
+		lock.readLock().lock();
+		try {
+			int position = Arrays.binarySearch(sortedIds, 0, size, after);
+			position = position >= 0 ? position + 1 : -position - 1;
+			int end = (int) Math.min(size, (long) position + limit);
+			List<Employee> page = new ArrayList<>(Math.max(0, end - position));
+			for (int i = position; i < end; i++) {
+				page.add(values[slotOf(sortedIds[i])]);
+			}
+			return page;
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * Passes every employee to the given consumer in ID order. The read lock is
+	 * taken for one page of employees at a time, so a long export does not hold
+	 * back the writer.
+	 *
+	 * @param consumer the consumer receiving each employee
+	 */
+	void forEach(Consumer<Employee> consumer) {
+		long after = Long.MIN_VALUE;
+		List<Employee> page;
+		do {
+			page = page(after, INITIAL_CAPACITY);
+			for (Employee employee : page) {
+				consumer.accept(employee);
+			}
+			if (!page.isEmpty()) {
+				after = page.get(page.size() - 1).getId();
+			}
+		} while (page.size() == INITIAL_CAPACITY);
+	}
+
+	/**
+	 * Returns the number of live employees.
+	 *
+	 * @return the employee count
+	 */
+	int size() {
+		lock.readLock().lock();
+		try {
+			return size;
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * Returns a version of the held employees made of their count, the sum of
+	 * their versions and the highest ID. A create raises the highest ID, a delete
+	 * lowers the count and an update raises the version sum, so every applied
+	 * change changes it, and it is kept up to date as employees are stored.
+	 *
+	 * @return the collection version
+	 */
+	String collectionVersion() {
+		lock.readLock().lock();
+		try {
+			return size + "-" + versionSum + "-" + (size > 0 ? sortedIds[size - 1] : 0);
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * Removes every employee and tombstone.
+	 */
+	void clear() {
+		lock.writeLock().lock();
+		try {
+			keys = new long[INITIAL_CAPACITY];
+			values = new Employee[INITIAL_CAPACITY];
+			sortedIds = new long[INITIAL_CAPACITY];
+			used = 0;
+			size = 0;
+			versionSum = 0;
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * Returns the slot holding the ID, or the free slot it would be stored in.
+	 */
+	private int slotOf(long id) {
+		int mask = keys.length - 1;
+		int slot = hash(id) & mask;
+		while (values[slot] != null && keys[slot] != id) {
+			slot = (slot + 1) & mask;
+		}
+		return slot;
+	}
+
+	/**
+	 * Doubles the hash table and re-inserts every entry.
+	 */
+	private void resize() {
+		long[] oldKeys = keys;
+		Employee[] oldValues = values;
+		keys = new long[oldKeys.length * 2];
+		values = new Employee[oldKeys.length * 2];
+		for (int i = 0; i < oldKeys.length; i++) {
+			if (oldValues[i] != null) {
+				int slot = slotOf(oldKeys[i]);
+				keys[slot] = oldKeys[i];
+				values[slot] = oldValues[i];
+			}
+		}
+	}
+
+	private void insertSortedId(long id) {
+		if (size == sortedIds.length) {
+			sortedIds = Arrays.copyOf(sortedIds, size * 2);
+		}
+		if (size == 0 || sortedIds[size - 1] < id) {
+			sortedIds[size++] = id;
+			return;
+		}
+		int position = -Arrays.binarySearch(sortedIds, 0, size, id) - 1;
+		System.arraycopy(sortedIds, position, sortedIds, position + 1, size - position);
+		sortedIds[position] = id;
+		size++;
+	}
+
+	private void removeSortedId(long id) {
+		int position = Arrays.binarySearch(sortedIds, 0, size, id);
+		if (position >= 0) {
+			System.arraycopy(sortedIds, position + 1, sortedIds, position, size - position - 1);
+			size--;
+		}
+	}
+
+	/**
+	 * Spreads the bits of the ID, so that consecutive IDs do not fill
+	 * consecutive slots.
+	 */
+	private static int hash(long id) {
+		long h = id * 0x9E3779B97F4A7C15L;
+		return (int) (h ^ (h >>> 32));
+	}
+
+	private static long versionOf(Employee employee) {
+		return employee.getVersion() != null ? employee.getVersion() : -1L;
+	}
+
+	/**
+	 * Returns the version of the employee as added to the version sum, which
+	 * like the SQL {@code sum} skips a missing version.
+	 */
+	private static long summandOf(Employee employee) {
+		return employee.getVersion() != null ? employee.getVersion() : 0L;
+	}
+
+}
@@ -1,6 +1,7 @@
 package com.task.emp.mng.sys.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 
 import com.task.emp.mng.sys.entity.AuditLog;
 
@@ -16,8 +17,14 @@ import com.task.emp.mng.sys.entity.AuditLog;
  * ID, saving an audit log, deleting, and more.
  * </p>
  * 
+ * <p>
+ * It also extends {@link JpaSpecificationExecutor}, so that audit queries only
+ * include the filters a caller actually supplied and can use the matching
+ * index.
+ * </p>
+ * 
  * @author Jatin
  * @since 2024-10-11
  */
-public interface AuditLogRepository extends JpaRepository<AuditLog, Long> {
+public interface AuditLogRepository extends JpaRepository<AuditLog, Long>, JpaSpecificationExecutor<AuditLog> {
 }
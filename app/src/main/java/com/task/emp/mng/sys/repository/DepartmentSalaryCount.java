@@ -0,0 +1,27 @@
+package com.task.emp.mng.sys.repository;
+
+/**
+ * Projection of the number of employees earning a given salary within a
+ * department.
+ * 
+ * @author agent
+ * @since 2026-10-17
+ */
+public interface DepartmentSalaryCount {
+
+	/**
+	 * @return the department
+	 */
+	String getDepartment();
+
+	/**
+	 * @return the salary
+	 */
+	Double getSalary();
+
+	/**
+	 * @return the number of employees of the department earning the salary
+	 */
+	Long getHeadcount();
+
+}
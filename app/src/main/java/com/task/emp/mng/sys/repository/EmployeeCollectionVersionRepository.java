@@ -0,0 +1,30 @@
+package com.task.emp.mng.sys.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.task.emp.mng.sys.entity.EmployeeCollectionVersion;
+
+/**
+ * Repository interface for the single {@link EmployeeCollectionVersion} row.
+ * 
+ * @author agent
+ * @since 2026-10-17
+ */
+public interface EmployeeCollectionVersionRepository extends JpaRepository<EmployeeCollectionVersion, Integer> {
+
+	/**
+	 * Increments the collection version with a single statement. The row stays
+	 * locked until the surrounding transaction ends, so the increment should be
+	 * the last statement of a write.
+	 *
+	 * @param id the ID of the row
+	 * @return the number of rows updated, 0 if the row does not exist
+	 */
+	@Modifying
+	@Query("update EmployeeCollectionVersion v set v.version = v.version + 1 where v.id = :id")
+	int increment(@Param("id") Integer id);
+
+}
@@ -0,0 +1,203 @@
+package com.task.emp.mng.sys.repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+
+import com.task.emp.mng.sys.entity.Employee;
+
+/**
+ * Repository interface for performing CRUD operations on {@link Employee}
+ * entities. This interface extends {@link JpaRepository}, providing several
+ * methods for managing {@code Employee} entries in the database, such as
+ * saving, deleting, updating, and finding employees.
+ * 
+ * <p>
+ * By extending {@code JpaRepository}, this interface provides access to
+ * built-in methods for employee persistence operations without requiring custom
+ * SQL queries or implementation logic.
+ * </p>
+ * 
+ * <p>
+ * Common operations include finding an employee by ID, saving a new employee,
+ * and deleting an existing one. Partial updates are provided by the
+ * {@link EmployeeRepositoryCustom} fragment.
+ * </p>
+ * 
+ * @author Jatin
+ * @since 2024-10-11
+ */
+public interface EmployeeRepository extends JpaRepository<Employee, Long>, EmployeeRepositoryCustom {
+
+	/**
+	 * Retrieves the employees whose ID is strictly greater than the given cursor,
+	 * in ascending ID order. This is served by a range scan on the primary key, so
+	 * the cost of a page does not depend on how far into the table it starts.
+	 *
+	 * @param id    the last ID seen by the client
+	 * @param limit the maximum number of rows to return
+	 * @return the next employees after the cursor
+	 */
+	List<Employee> findByIdGreaterThanOrderByIdAsc(Long id, Limit limit);
+
+	/**
+	 * Retrieves the employee with the given username, using the unique index on
+	 * the username column.
+	 *
+	 * @param username the username of the employee
+	 * @return the employee, or empty if no employee has the username
+	 */
+	Optional<Employee> findByUsername(String username);
+
+	/**
+	 * Retrieves the summaries of the employees of a department whose ID is
+	 * strictly greater than the given cursor, in ascending ID order. The query
+	 * only reads columns of the department index, so it is answered by a range
+	 * scan of that index.
+	 *
+	 * @param department the department
+	 * @param id         the last ID seen by the client
+	 * @param limit      the maximum number of rows to return
+	 * @return the next employee summaries of the department after the cursor
+	 */
+	@Query("select e.id as id, e.name as name, e.username as username, e.department as department from Employee e "
+			+ "where e.department = :department and e.id > :id order by e.id")
+	List<EmployeeSummary> findSummariesByDepartment(@Param("department") String department, @Param("id") Long id, Limit limit);
+
+	/**
+	 * Retrieves which of the given usernames are already taken, using the unique
+	 * index on the username column.
+	 *
+	 * @param usernames the usernames to check
+	 * @return the subset of the given usernames that already exist
+	 */
+	@Query("select e.username from Employee e where e.username in :usernames")
+	Set<String> findExistingUsernames(@Param("usernames") Collection<String> usernames);
+
+	/**
+	 * Checks whether any employee has the given username, using the unique index
+	 * on the username column.
+	 *
+	 * @param username the username to check
+	 * @return true if the username is taken
+	 */
+	boolean existsByUsername(String username);
+
+	/**
+	 * Checks whether an employee other than the given one has the given username,
+	 * using the unique index on the username column.
+	 *
+	 * @param username the username to check
+	 * @param id       the ID of the employee that may keep the username
+	 * @return true if the username is taken by another employee
+	 */
+	boolean existsByUsernameAndIdNot(String username, Long id);
+
+	/**
+	 * Retrieves the department and salary of the employees with the given IDs,
+	 * locking the matching rows until the end of the transaction so they cannot be
+	 * changed or deleted concurrently.
+	 *
+	 * @param ids the IDs to look up
+	 * @return the department and salary of the given IDs that exist
+	 */
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("select e.id as id, e.department as department, e.salary as salary, e.version as version from Employee e where e.id in :ids")
+	List<EmployeeSalary> lockSalariesByIdIn(@Param("ids") Collection<Long> ids);
+
+	/**
+	 * Retrieves the department, salary and version of an employee without loading
+	 * the whole entity.
+	 *
+	 * @param id the ID of the employee
+	 * @return the department and salary of the employee, or empty if it does not exist
+	 */
+	@Query("select e.id as id, e.department as department, e.salary as salary, e.version as version from Employee e where e.id = :id")
+	Optional<EmployeeSalary> findSalaryById(@Param("id") Long id);
+
+	/**
+	 * Retrieves the version of an employee without loading the entity.
+	 *
+	 * @param id the ID of the employee
+	 * @return the version of the employee, or empty if it does not exist
+	 */
+	@Query("select e.version from Employee e where e.id = :id")
+	Optional<Long> findVersionById(@Param("id") Long id);
+
+	/**
+	 * Counts the employees per department and salary, which is enough to derive
+	 * the headcount and the total, lowest and highest salary of every department.
+	 *
+	 * @return the number of employees for every department and salary
+	 */
+	@Query("select e.department as department, e.salary as salary, count(e) as headcount from Employee e group by e.department, e.salary")
+	List<DepartmentSalaryCount> countByDepartmentAndSalary();
+
+	/**
+	 * Deletes the employees with the given IDs with a single statement, without
+	 * loading them first.
+	 *
+	 * @param ids the IDs of the employees to delete
+	 * @return the number of employees deleted
+	 */
+	@Modifying
+	@Query("delete from Employee e where e.id in :ids")
+	int deleteByIdIn(@Param("ids") Collection<Long> ids);
+
+	/**
+	 * Streams every employee in ID order over a forward-only result set. Rows are
+	 * fetched from the database in chunks of the configured fetch size rather than
+	 * materialized up front, and are loaded read-only so Hibernate keeps no
+	 * snapshot for dirty checking.
+	 * 
+	 * <p>
+	 * The returned stream must be consumed inside a transaction and closed after
+	 * use.
+	 * </p>
+	 *
+	 * @return a stream over all employees
+	 */
+	@QueryHints({ @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+			@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+			@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false") })
+	@Query("select e from Employee e order by e.id")
+	Stream<Employee> streamAllBy();
+
+	/**
+	 * Streams the summaries of every employee in ID order over a forward-only
+	 * result set, without loading any entity. The returned stream must be
+	 * consumed inside a transaction and closed after use.
+	 *
+	 * @return a stream over the summaries of all employees
+	 */
+	@QueryHints({ @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+			@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false") })
+	@Query("select e.id as id, e.name as name, e.username as username, e.department as department from Employee e order by e.id")
+	Stream<EmployeeSummary> streamSummariesBy();
+
+	/**
+	 * Streams the username of every employee over a forward-only result set. The
+	 * returned stream must be consumed inside a transaction and closed after use.
+	 *
+	 * @return a stream over all usernames
+	 */
+	@QueryHints({ @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+			@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "false") })
+	@Query("select e.username from Employee e")
+	Stream<String> streamUsernamesBy();
+
+}
@@ -0,0 +1,44 @@
+package com.task.emp.mng.sys.repository;
+
+import java.util.List;
+import java.util.Map;
+
+import com.task.emp.mng.sys.entity.Employee;
+
+/**
+ * Custom repository fragment for {@link Employee} operations that cannot be
+ * expressed as derived or annotated queries, because the statement depends on
+ * which fields a request supplies or selects.
+ * 
+ * @author agent
+ * @since 2026-10-17
+ */
+public interface EmployeeRepositoryCustom {
+
+	/**
+	 * Applies a partial update with a single UPDATE statement. Only the non-blank
+	 * fields of the patch are written, together with an increment of the version.
+	 * The row is only updated if its version still equals the expected version.
+	 * Whether the supplied fields differ from the stored values is left to the
+	 * caller, since the database may compare text ignoring case.
+	 *
+	 * @param id              the ID of the employee to update
+	 * @param expectedVersion the version the client last read
+	 * @param patch           the employee holding the fields to update, other fields being null or blank
+	 * @return 1 if the row was updated, or 0 if it does not exist, its version differs or no field was supplied
+	 */
+	int patch(Long id, Long expectedVersion, Employee patch);
+
+	/**
+	 * Retrieves the given fields of the employees whose ID is strictly greater
+	 * than the given ID, in ascending ID order. Only the columns of the given
+	 * fields are selected, and no entities are loaded.
+	 *
+	 * @param fields the names of the fields to select, which must include the ID
+	 * @param id     the ID after which to start
+	 * @param limit  the maximum number of rows to return
+	 * @return one map per employee from field name to value, in the order of the given fields
+	 */
+	List<Map<String, Object>> findFieldsByIdGreaterThan(List<String> fields, Long id, int limit);
+
+}
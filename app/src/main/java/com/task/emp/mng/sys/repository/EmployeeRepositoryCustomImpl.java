@@ -0,0 +1,101 @@
+package com.task.emp.mng.sys.repository;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.task.emp.mng.sys.entity.Employee;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+
+/**
+ * Criteria API implementation of {@link EmployeeRepositoryCustom}.
+ * 
+ * @author agent
+ * @since 2026-10-17
+ */
+public class EmployeeRepositoryCustomImpl implements EmployeeRepositoryCustom {
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public int patch(Long id, Long expectedVersion, Employee patch) {
+		CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+		CriteriaUpdate<Employee> update = builder.createCriteriaUpdate(Employee.class);
+		Root<Employee> root = update.from(Employee.class);
+
+		// Only the supplied fields are written. Whether they change anything is decided by the caller, since the
+		// database may compare text ignoring case and would then skip a change of case.
+		boolean supplied = setIfSupplied(update, root, "name", patch.getName());
+		supplied |= setIfSupplied(update, root, "username", patch.getUsername());
+		supplied |= setIfSupplied(update, root, "department", patch.getDepartment());
+		if (patch.getSalary() != null) {
+			update.set(root.<Double>get("salary"), patch.getSalary());
+			supplied = true;
+		}
+		if (!supplied) {
+			return 0;
+		}
+
+		update.set(root.<Long>get("version"), builder.sum(root.<Long>get("version"), 1L));
+		update.where(builder.equal(root.get("id"), id), builder.equal(root.get("version"), expectedVersion));
+		return entityManager.createQuery(update).executeUpdate();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public List<Map<String, Object>> findFieldsByIdGreaterThan(List<String> fields, Long id, int limit) {
+		CriteriaBuilder builder = entityManager.getCriteriaBuilder();
+		CriteriaQuery<Tuple> query = builder.createTupleQuery();
+		Root<Employee> root = query.from(Employee.class);
+
+		List<Selection<?>> selections = new ArrayList<>(fields.size());
+		for (String field : fields) {
+			selections.add(root.get(field).alias(field));
+		}
+		query.multiselect(selections).where(builder.greaterThan(root.<Long>get("id"), id)).orderBy(builder.asc(root.get("id")));
+
+		List<Map<String, Object>> rows = new ArrayList<>();
+		for (Tuple tuple : entityManager.createQuery(query).setMaxResults(limit).getResultList()) {
+			Map<String, Object> row = new LinkedHashMap<>();
+			for (String field : fields) {
+				row.put(field, tuple.get(field));
+			}
+			rows.add(row);
+		}
+		return rows;
+	}
+
+	/**
+	 * Adds a text field to the update if it was supplied, that is, if it is neither
+	 * null nor blank.
+	 *
+	 * @param update the update being built
+	 * @param root   the updated entity
+	 * @param field  the name of the field
+	 * @param value  the requested value of the field
+	 * @return true if the field was supplied
+	 */
+	private boolean setIfSupplied(CriteriaUpdate<Employee> update, Root<Employee> root, String field, String value) {
+		if (value != null && !value.trim().isEmpty()) {
+			update.set(root.<String>get(field), value);
+			return true;
+		}
+		return false;
+	}
+
+}
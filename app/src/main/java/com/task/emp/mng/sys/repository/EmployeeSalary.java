@@ -0,0 +1,32 @@
+package com.task.emp.mng.sys.repository;
+
+/**
+ * Projection of the salary related columns of an employee, read without
+ * loading the whole entity.
+ * 
+ * @author agent
+ * @since 2026-10-17
+ */
+public interface EmployeeSalary {
+
+	/**
+	 * @return the ID of the employee
+	 */
+	Long getId();
+
+	/**
+	 * @return the department of the employee
+	 */
+	String getDepartment();
+
+	/**
+	 * @return the salary of the employee
+	 */
+	Double getSalary();
+
+	/**
+	 * @return the version of the employee
+	 */
+	Long getVersion();
+
+}
@@ -0,0 +1,33 @@
+package com.task.emp.mng.sys.repository;
+
+/**
+ * Projection of the identifying columns of an employee, used for listings. All
+ * of its columns are part of the department index, so listings built from it
+ * never load whole entities.
+ * 
+ * @author agent
+ * @since 2026-10-17
+ */
+public interface EmployeeSummary {
+
+	/**
+	 * @return the ID of the employee
+	 */
+	Long getId();
+
+	/**
+	 * @return the name of the employee
+	 */
+	String getName();
+
+	/**
+	 * @return the username of the employee
+	 */
+	String getUsername();
+
+	/**
+	 * @return the department of the employee
+	 */
+	String getDepartment();
+
+}
@@ -0,0 +1,30 @@
+package com.task.emp.mng.sys.repository;
+
+import java.util.List;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import com.task.emp.mng.sys.entity.OutboxEvent;
+
+/**
+ * Repository interface for performing CRUD operations on {@link OutboxEvent}
+ * entities. This interface extends {@link JpaRepository}, which provides the
+ * batch deletion used once events have been published, and
+ * {@link OutboxEventRepositoryCustom} for the batched inserts of bulk
+ * operations.
+ * 
+ * @author agent
+ * @since 2026-10-17
+ */
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long>, OutboxEventRepositoryCustom {
+
+	/**
+	 * Retrieves the oldest pending events in the order they were recorded.
+	 *
+	 * @param limit the maximum number of events to return
+	 * @return the oldest pending events
+	 */
+	List<OutboxEvent> findByOrderByIdAsc(Limit limit);
+
+}
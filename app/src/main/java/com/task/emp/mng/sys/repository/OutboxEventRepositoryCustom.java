@@ -0,0 +1,27 @@
+package com.task.emp.mng.sys.repository;
+
+import java.util.List;
+
+import com.task.emp.mng.sys.entity.OutboxEvent;
+
+/**
+ * Custom repository fragment for {@link OutboxEvent} operations that cannot be
+ * expressed through the entity manager efficiently.
+ *
+ * @author agent
+ * @since 2026-10-17
+ */
+public interface OutboxEventRepositoryCustom {
+
+	/**
+	 * Inserts the given events with multi-row INSERT statements. Outbox IDs are
+	 * generated by the database, which keeps Hibernate from batching the inserts
+	 * of {@code saveAll}, so bulk operations use this method instead. The rows of
+	 * one statement receive increasing IDs in list order. The IDs are not set on
+	 * the given events.
+	 *
+	 * @param events the events to insert, in the order they are published
+	 */
+	void insertAll(List<OutboxEvent> events);
+
+}
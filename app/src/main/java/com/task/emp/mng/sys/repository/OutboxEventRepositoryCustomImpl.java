@@ -0,0 +1,50 @@
+package com.task.emp.mng.sys.repository;
+
+import java.util.List;
+
+import com.task.emp.mng.sys.entity.OutboxEvent;
+import com.task.emp.mng.sys.event.EmployeeEventCodec;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+
+/**
+ * Native query implementation of {@link OutboxEventRepositoryCustom}.
+ *
+ * @author agent
+ * @since 2026-10-17
+ */
+public class OutboxEventRepositoryCustomImpl implements OutboxEventRepositoryCustom {
+
+	/**
+	 * The number of rows per INSERT statement, the same as the JDBC batch size.
+	 */
+	private static final int ROWS_PER_STATEMENT = 50;
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public void insertAll(List<OutboxEvent> events) {
+		for (int start = 0; start < events.size(); start += ROWS_PER_STATEMENT) {
+			List<OutboxEvent> rows = events.subList(start, Math.min(events.size(), start + ROWS_PER_STATEMENT));
+			StringBuilder sql = new StringBuilder("insert into employee_outbox (aggregate_id, payload, created_at) values ");
+			for (int i = 0; i < rows.size(); i++) {
+				sql.append(i == 0 ? "(?, ?, ?)" : ", (?, ?, ?)");
+			}
+			Query insert = entityManager.createNativeQuery(sql.toString());
+			int position = 1;
+			for (OutboxEvent event : rows) {
+				insert.setParameter(position++, event.getAggregateId());
+				insert.setParameter(position++, EmployeeEventCodec.encode(event.getPayload()));
+				insert.setParameter(position++, event.getCreatedAt());
+			}
+			insert.executeUpdate();
+		}
+	}
+
+}
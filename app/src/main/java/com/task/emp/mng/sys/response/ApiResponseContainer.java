@@ -107,4 +107,21 @@ public class ApiResponseContainer {
 		return new ResponseContainerEntity<>(message, body, httpStatus, isError);
 	}
 
+	/**
+	 * Create a response container with the specified message, body, httpStatus and
+	 * next page cursor.
+	 *
+	 * @param <T>        The type of the response body.
+	 * @param message    The response message.
+	 * @param body       The response body.
+	 * @param httpStatus The response httpStatus.
+	 * @param nextCursor The cursor for the next page, or {@code null} if none.
+	 * @return A response container with the provided message, body, httpStatus and
+	 *         next page cursor.
+	 */
+	public static <T> ResponseContainerEntity<T> getResponse(String message, T body, HttpStatus httpStatus,
+			String nextCursor) {
+		return new ResponseContainerEntity<>(message, body, httpStatus, nextCursor);
+	}
+
 }
@@ -0,0 +1,74 @@
+package com.task.emp.mng.sys.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * The outcome of a single item within a bulk request.
+ * <p>
+ * Bulk endpoints return one result per submitted item, in submission order, so
+ * that clients can tell which items succeeded and why the others were rejected
+ * without the whole request failing.
+ * </p>
+ * 
+ * @author agent
+ * @since 2026-10-17
+ */
+@Getter
+@AllArgsConstructor
+public class BulkItemResult {
+
+	/**
+	 * Status of an item that was created.
+	 */
+	public static final String CREATED = "CREATED";
+
+	/**
+	 * Status of an item rejected because it clashes with existing data.
+	 */
+	public static final String CONFLICT = "CONFLICT";
+
+	/**
+	 * Status of an item rejected because it is incomplete or malformed.
+	 */
+	public static final String INVALID = "INVALID";
+
+	/**
+	 * Status of an item that was deleted.
+	 */
+	public static final String DELETED = "DELETED";
+
+	/**
+	 * Status of an item rejected because it does not exist.
+	 */
+	public static final String NOT_FOUND = "NOT_FOUND";
+
+	/**
+	 * The position of the item in the submitted list.
+	 */
+	private final int index;
+
+	/**
+	 * The outcome of the item, one of {@link #CREATED}, {@link #CONFLICT},
+	 * {@link #INVALID}, {@link #DELETED} or {@link #NOT_FOUND}.
+	 */
+	private final String status;
+
+	/**
+	 * The ID of the item, or {@code null} if it was not created.
+	 */
+	private final Long id;
+
+	/**
+	 * The username of the submitted item, or {@code null} if the item was
+	 * submitted by ID.
+	 */
+	private final String username;
+
+	/**
+	 * A message explaining why the item was rejected, or {@code null} if it
+	 * succeeded.
+	 */
+	private final String message;
+
+}
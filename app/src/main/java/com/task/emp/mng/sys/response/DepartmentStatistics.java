@@ -0,0 +1,46 @@
+package com.task.emp.mng.sys.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Salary statistics of a single department.
+ * 
+ * @author agent
+ * @since 2026-10-17
+ */
+@Getter
+@AllArgsConstructor
+public class DepartmentStatistics {
+
+	/**
+	 * The name of the department.
+	 */
+	private final String department;
+
+	/**
+	 * The number of employees in the department.
+	 */
+	private final long headcount;
+
+	/**
+	 * The sum of the salaries of the department.
+	 */
+	private final double totalSalary;
+
+	/**
+	 * The lowest salary in the department.
+	 */
+	private final double minSalary;
+
+	/**
+	 * The highest salary in the department.
+	 */
+	private final double maxSalary;
+
+	/**
+	 * The average salary in the department.
+	 */
+	private final double averageSalary;
+
+}
@@ -0,0 +1,36 @@
+package com.task.emp.mng.sys.response;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * A single page of results produced by a keyset (cursor based) query.
+ * <p>
+ * Unlike offset pagination, a keyset page is addressed by the last key seen by
+ * the client, so every page is served by an indexed range scan regardless of
+ * how deep the client has paged.
+ * </p>
+ * 
+ * @param <T> The type of the page content.
+ * 
+ * @author agent
+ * @since 2026-10-17
+ */
+@Getter
+@AllArgsConstructor
+public class KeysetPage<T> {
+
+	/**
+	 * The rows belonging to this page, in key order.
+	 */
+	private final List<T> content;
+
+	/**
+	 * The cursor to pass back to fetch the next page, or {@code null} when this is
+	 * the last page.
+	 */
+	private final String nextCursor;
+
+}
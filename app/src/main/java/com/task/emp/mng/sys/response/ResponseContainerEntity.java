@@ -2,6 +2,8 @@ package com.task.emp.mng.sys.response;
 
 import org.springframework.http.HttpStatus;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
 import lombok.Getter;
 import lombok.Setter;
 
@@ -42,6 +44,13 @@ public class ResponseContainerEntity<T> {
 	 */
 	private String message;
 
+	/**
+	 * The cursor for the next page of a paginated response. Omitted from the
+	 * serialized response when there is no further page.
+	 */
+	@JsonInclude(JsonInclude.Include.NON_NULL)
+	private String nextCursor;
+
 	/**
 	 * Constructs a ResponseContainer with a given response body.
 	 *
@@ -127,4 +136,20 @@ public class ResponseContainerEntity<T> {
 		this.isError = isError;
 	}
 
-}
\ No newline at end of file
+	/**
+	 * Constructs a ResponseContainer with the specified message, response body,
+	 * HTTP status, and next page cursor.
+	 *
+	 * @param message    The message associated with the response.
+	 * @param body       The response body.
+	 * @param httpStatus The HTTP status code.
+	 * @param nextCursor The cursor for the next page, or {@code null} if none.
+	 */
+	public ResponseContainerEntity(String message, T body, HttpStatus httpStatus, String nextCursor) {
+		this.message = message;
+		this.body = body;
+		this.httpStatus = httpStatus;
+		this.nextCursor = nextCursor;
+	}
+
+}
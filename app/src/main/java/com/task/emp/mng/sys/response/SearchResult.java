@@ -0,0 +1,37 @@
+package com.task.emp.mng.sys.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * An employee matching a search query.
+ * 
+ * @author agent
+ * @since 2026-10-17
+ */
+@Getter
+@AllArgsConstructor
+public class SearchResult {
+
+	/**
+	 * The ID of the employee.
+	 */
+	private final long id;
+
+	/**
+	 * The name of the employee.
+	 */
+	private final String name;
+
+	/**
+	 * The username of the employee.
+	 */
+	private final String username;
+
+	/**
+	 * The fraction of the query trigrams found in the name or username, from 0
+	 * to 1.
+	 */
+	private final double score;
+
+}
@@ -0,0 +1,481 @@
+package com.task.emp.mng.sys.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.task.emp.mng.sys.event.EmployeeChangedEvent;
+import com.task.emp.mng.sys.repository.EmployeeRepository;
+import com.task.emp.mng.sys.repository.EmployeeSummary;
+import com.task.emp.mng.sys.response.SearchResult;
+
+import jakarta.annotation.PostConstruct;
+
+/**
+ * In-process trigram index over the name and username of every employee, used
+ * for type-ahead search.
+ *
+ * <p>
+ * Names and usernames are lower-cased and split into words. Every word is
+ * padded as {@code "$$word$"} and broken into trigrams, so the leading trigrams
+ * of a word also serve prefix queries. Each trigram maps to a posting list of
+ * document slots, kept as a sorted {@code int} array. A query is split the same
+ * way, without the trailing pad. Documents containing all query trigrams are
+ * prefix matches; they are found by intersecting the posting lists from the
+ * shortest one, stopping after the requested number of results. If there are
+ * not enough of them, documents containing at least {@value #MIN_SIMILARITY}
+ * of the query trigrams are returned as fuzzy matches, ranked by the fraction
+ * of trigrams they contain. Candidates are only taken from the shortest lists
+ * that every such document must appear in, so common trigrams such as the
+ * first letter of a word are probed rather than scanned. Equally ranked
+ * documents are returned in index order, which follows the ID order except
+ * for recently updated employees.
+ * </p>
+ *
+ * <p>
+ * An update that changes the name or username assigns the employee a new slot
+ * and marks the old one as deleted; other updates, such as salary changes,
+ * leave the index untouched. Once deleted slots outnumber live ones, whether
+ * through updates or removals, the index is compacted, so memory stays
+ * proportional to the number of employees: about four bytes per trigram of
+ * each name and username, plus the strings themselves.
+ * </p>
+ *
+ * <p>
+ * The index is built once on startup, before the application accepts requests,
+ * and then follows the committed changes made through this application
+ * instance. Readers share a read lock, writers take the write lock.
+ * </p>
+ *
+ * @author agent
+ * @since 2026-10-17
+ */
+@Component
+public class EmployeeSearchIndex {
+
+	/**
+	 * The fraction of the query trigrams a document must contain to be a fuzzy
+	 * match. Queries of up to two trigrams only have prefix matches.
+	 */
+	static final double MIN_SIMILARITY = 0.5;
+
+	private static final char PAD = '$';
+
+	private static final int MIN_COMPACTION_SLOTS = 1024;
+
+	@Autowired
+	private EmployeeRepository employeeRepository;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+	private final Map<Long, Postings> postings = new HashMap<>();
+
+	private final Map<Long, Integer> slotsById = new HashMap<>();
+
+	private final BitSet deleted = new BitSet();
+
+	private long[] ids = new long[MIN_COMPACTION_SLOTS];
+
+	private String[] names = new String[MIN_COMPACTION_SLOTS];
+
+	private String[] usernames = new String[MIN_COMPACTION_SLOTS];
+
+	private int slotCount;
+
+	private int deletedCount;
+
+	/**
+	 * Builds the index from the employees table in a single streaming read. Later
+	 * changes arrive as events, so the read uses a read-write transaction, which
+	 * always goes to the primary database rather than a possibly lagging replica.
+	 */
+	@PostConstruct
+	public void build() {
+		TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+		lock.writeLock().lock();
+		try {
+			transaction.executeWithoutResult(status -> {
+				try (Stream<EmployeeSummary> employees = employeeRepository.streamSummariesBy()) {
+					employees.forEach(employee -> add(employee.getId(), employee.getName(), employee.getUsername()));
+				}
+			});
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * Applies a committed employee change to the index. The event is also applied
+	 * when it is published outside a transaction.
+	 *
+	 * @param event the change of an employee
+	 */
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onEmployeeChanged(EmployeeChangedEvent event) {
+		if (event.isDeleted()) {
+			remove(event.getId());
+		} else {
+			put(event.getId(), event.getName(), event.getUsername());
+		}
+	}
+
+	/**
+	 * Adds an employee to the index, replacing its previous name and username.
+	 * Nothing changes if the employee is already indexed with the same name and
+	 * username.
+	 *
+	 * @param id       the ID of the employee
+	 * @param name     the name of the employee
+	 * @param username the username of the employee
+	 */
+	public void put(long id, String name, String username) {
+		lock.writeLock().lock();
+		try {
+			Integer slot = slotsById.get(id);
+			if (slot != null && Objects.equals(names[slot], name) && Objects.equals(usernames[slot], username)) {
+				return;
+			}
+			delete(id);
+			add(id, name, username);
+			compactIfSparse();
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * Removes an employee from the index.
+	 *
+	 * @param id the ID of the employee
+	 */
+	public void remove(long id) {
+		lock.writeLock().lock();
+		try {
+			delete(id);
+			compactIfSparse();
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * Returns the number of document slots in use, live or deleted.
+	 *
+	 * @return the slot count
+	 */
+	int getSlotCount() {
+		lock.readLock().lock();
+		try {
+			return slotCount;
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * Finds the employees whose name or username best matches the query, either
+	 * as a prefix of their words or approximately.
+	 *
+	 * @param query the text typed by the user
+	 * @param limit the maximum number of results
+	 * @return the best matches, best first
+	 */
+	public List<SearchResult> search(String query, int limit) {
+		long[] queryTrigrams = trigramsOf(query, false);
+		if (queryTrigrams.length == 0 || limit <= 0) {
+			return new ArrayList<>();
+		}
+
+		lock.readLock().lock();
+		try {
+			List<Postings> lists = new ArrayList<>(queryTrigrams.length);
+			for (long trigram : queryTrigrams) {
+				Postings list = postings.get(trigram);
+				if (list != null) {
+					lists.add(list);
+				}
+			}
+			lists.sort(Comparator.comparingInt(list -> list.size));
+
+			List<int[]> matches = lists.size() == queryTrigrams.length ? findExact(lists, limit) : new ArrayList<>();
+			if (matches.size() < limit && queryTrigrams.length > 2) {
+				matches = findApproximate(lists, (int) Math.ceil(queryTrigrams.length * MIN_SIMILARITY), limit);
+			}
+
+			List<SearchResult> results = new ArrayList<>(matches.size());
+			for (int[] match : matches) {
+				int slot = match[0];
+				results.add(new SearchResult(ids[slot], names[slot], usernames[slot], (double) match[1] / queryTrigrams.length));
+			}
+			return results;
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * Finds the first documents containing every query trigram. The shortest
+	 * posting list drives the intersection and the others are probed by binary
+	 * search, stopping as soon as enough documents were found.
+	 *
+	 * @param lists the posting lists of the query trigrams, shortest first
+	 * @param limit the maximum number of documents
+	 * @return the slot and matched trigram count of each document, in slot order
+	 */
+	private List<int[]> findExact(List<Postings> lists, int limit) {
+		List<int[]> matches = new ArrayList<>(limit);
+		Postings driver = lists.get(0);
+		int[] cursors = new int[lists.size()];
+		for (int position = 0; position < driver.size && matches.size() < limit; position++) {
+			int slot = driver.slots[position];
+			if (!deleted.get(slot) && containsAll(lists, cursors, slot)) {
+				matches.add(new int[] { slot, lists.size() });
+			}
+		}
+		return matches;
+	}
+
+	/**
+	 * Finds the documents containing at least the required number of query
+	 * trigrams. Such a document appears in at least one of the
+	 * {@code lists - required + 1} shortest lists, so only those are scanned for
+	 * candidates, and the other lists are probed by binary search. Once enough
+	 * documents were found, the required count rises above the worst of them,
+	 * which shrinks the set of lists that still has to be scanned.
+	 *
+	 * @param lists    the posting lists of the query trigrams found in the index, shortest first
+	 * @param required the minimum number of query trigrams a document must contain
+	 * @param limit    the maximum number of documents
+	 * @return the slot and matched trigram count of the best documents, best first
+	 */
+	private List<int[]> findApproximate(List<Postings> lists, int required, int limit) {
+		int scanned = lists.size() - required + 1;
+		if (scanned <= 0) {
+			return new ArrayList<>();
+		}
+		// Worst match first, so that it is the one replaced by a better match
+		Comparator<int[]> ranking = Comparator.<int[]>comparingInt(match -> -match[1]).thenComparingInt(match -> match[0]);
+		PriorityQueue<int[]> best = new PriorityQueue<>(limit + 1, ranking.reversed());
+		int[] positions = new int[scanned];
+		while (true) {
+			int slot = Integer.MAX_VALUE;
+			for (int i = 0; i < scanned; i++) {
+				Postings list = lists.get(i);
+				if (positions[i] < list.size && list.slots[positions[i]] < slot) {
+					slot = list.slots[positions[i]];
+				}
+			}
+			if (slot == Integer.MAX_VALUE) {
+				break;
+			}
+			int count = 0;
+			for (int i = 0; i < scanned; i++) {
+				Postings list = lists.get(i);
+				if (positions[i] < list.size && list.slots[positions[i]] == slot) {
+					count++;
+					positions[i]++;
+				}
+			}
+			if (deleted.get(slot)) {
+				continue;
+			}
+			for (int i = scanned; i < lists.size(); i++) {
+				Postings list = lists.get(i);
+				if (Arrays.binarySearch(list.slots, 0, list.size, slot) >= 0) {
+					count++;
+				}
+			}
+			if (count >= required) {
+				int[] match = { slot, count };
+				if (best.size() < limit) {
+					best.add(match);
+				} else if (ranking.compare(match, best.peek()) < 0) {
+					best.poll();
+					best.add(match);
+				}
+				if (best.size() == limit) {
+					// Later documents must now contain more trigrams than the worst kept match
+					scanned = Math.min(scanned, lists.size() - best.peek()[1]);
+					if (scanned <= 0) {
+						break;
+					}
+				}
+			}
+		}
+		List<int[]> matches = new ArrayList<>(best);
+		matches.sort(ranking);
+		return matches;
+	}
+
+	/**
+	 * Tells whether every list but the first contains the slot. Slots are probed
+	 * in increasing order, so each list is only searched from where the previous
+	 * probe stopped.
+	 */
+	private boolean containsAll(List<Postings> lists, int[] cursors, int slot) {
+		for (int i = 1; i < lists.size(); i++) {
+			Postings list = lists.get(i);
+			int position = Arrays.binarySearch(list.slots, cursors[i], list.size, slot);
+			if (position < 0) {
+				cursors[i] = -position - 1;
+				return false;
+			}
+			cursors[i] = position;
+		}
+		return true;
+	}
+
+	/**
+	 * Appends a document for the employee. Must be called with the write lock
+	 * held, after any previous document of the employee was deleted.
+	 */
+	private void add(long id, String name, String username) {
+		if (slotCount == ids.length) {
+			int capacity = ids.length * 2;
+			ids = Arrays.copyOf(ids, capacity);
+			names = Arrays.copyOf(names, capacity);
+			usernames = Arrays.copyOf(usernames, capacity);
+		}
+		int slot = slotCount++;
+		ids[slot] = id;
+		names[slot] = name;
+		usernames[slot] = username;
+		slotsById.put(id, slot);
+		for (long trigram : trigramsOf((name == null ? "" : name) + ' ' + (username == null ? "" : username), true)) {
+			postings.computeIfAbsent(trigram, key -> new Postings()).add(slot);
+		}
+	}
+
+	/**
+	 * Marks the document of the employee as deleted. Must be called with the
+	 * write lock held.
+	 */
+	private void delete(long id) {
+		Integer slot = slotsById.remove(id);
+		if (slot != null) {
+			deleted.set(slot);
+			names[slot] = null;
+			usernames[slot] = null;
+			deletedCount++;
+		}
+	}
+
+	/**
+	 * Compacts the index once deleted slots outnumber live ones. Must be called
+	 * with the write lock held.
+	 */
+	private void compactIfSparse() {
+		if (deletedCount >= MIN_COMPACTION_SLOTS && deletedCount > slotCount - deletedCount) {
+			compact();
+		}
+	}
+
+	/**
+	 * Rebuilds the index from the live documents, dropping deleted slots. Must be
+	 * called with the write lock held.
+	 */
+	private void compact() {
+		long[] liveIds = ids;
+		String[] liveNames = names;
+		String[] liveUsernames = usernames;
+		int liveCount = slotCount;
+		BitSet liveDeleted = (BitSet) deleted.clone();
+
+		int capacity = Math.max(MIN_COMPACTION_SLOTS, (liveCount - deletedCount) * 2);
+		ids = new long[capacity];
+		names = new String[capacity];
+		usernames = new String[capacity];
+		postings.clear();
+		slotsById.clear();
+		deleted.clear();
+		slotCount = 0;
+		deletedCount = 0;
+		for (int slot = 0; slot < liveCount; slot++) {
+			if (!liveDeleted.get(slot)) {
+				add(liveIds[slot], liveNames[slot], liveUsernames[slot]);
+			}
+		}
+	}
+
+	/**
+	 * Returns the distinct trigrams of the words of the given text, each packed
+	 * into a long as three 16-bit characters.
+	 *
+	 * @param text      the text to split
+	 * @param padEnd    whether words are padded at the end, which is the case for
+	 *                  indexed text but not for queries, so that a query also
+	 *                  matches longer words it is a prefix of
+	 * @return the sorted distinct trigrams
+	 */
+	static long[] trigramsOf(String text, boolean padEnd) {
+		if (text == null) {
+			return new long[0];
+		}
+		String normalized = text.toLowerCase(Locale.ROOT);
+		long[] trigrams = new long[normalized.length() * 2 + 8];
+		int count = 0;
+		int start = -1;
+		for (int i = 0; i <= normalized.length(); i++) {
+			boolean wordCharacter = i < normalized.length() && Character.isLetterOrDigit(normalized.charAt(i));
+			if (wordCharacter && start < 0) {
+				start = i;
+			} else if (!wordCharacter && start >= 0) {
+				String padded = "" + PAD + PAD + normalized.substring(start, i) + (padEnd ? String.valueOf(PAD) : "");
+				for (int j = 0; j + 3 <= padded.length(); j++) {
+					if (count == trigrams.length) {
+						trigrams = Arrays.copyOf(trigrams, count * 2);
+					}
+					trigrams[count++] = ((long) padded.charAt(j) << 32) | ((long) padded.charAt(j + 1) << 16) | padded.charAt(j + 2);
+				}
+				start = -1;
+			}
+		}
+		long[] sorted = Arrays.copyOf(trigrams, count);
+		Arrays.sort(sorted);
+		int distinct = 0;
+		for (int i = 0; i < sorted.length; i++) {
+			if (i == 0 || sorted[i] != sorted[i - 1]) {
+				sorted[distinct++] = sorted[i];
+			}
+		}
+		return Arrays.copyOf(sorted, distinct);
+	}
+
+	/**
+	 * A growable, ascending list of document slots containing a trigram. Slots
+	 * are assigned in increasing order, so appending keeps the list sorted.
+	 */
+	private static final class Postings {
+
+		private int[] slots = new int[4];
+
+		private int size;
+
+		void add(int slot) {
+			if (size == slots.length) {
+				slots = Arrays.copyOf(slots, size * 2);
+			}
+			slots[size++] = slot;
+		}
+
+	}
+
+}
@@ -0,0 +1,30 @@
+package com.task.emp.mng.sys.service;
+
+import java.time.Instant;
+
+import com.task.emp.mng.sys.entity.AuditLog;
+import com.task.emp.mng.sys.response.KeysetPage;
+
+/**
+ * This interface provides the contract for querying the audit log.
+ * 
+ * @author agent
+ * @since 2026-10-17
+ */
+public interface AuditLogService {
+
+	/**
+	 * Retrieves one page of audit log entries matching the given filters, ordered
+	 * by event time and ID. Every filter is optional.
+	 *
+	 * @param from      the inclusive lower bound of the event time, or null for no lower bound
+	 * @param to        the exclusive upper bound of the event time, or null for no upper bound
+	 * @param eventType the event type to match, or null for any type
+	 * @param entityId  the entity ID to match, or null for any entity
+	 * @param after     the cursor returned with the previous page, or null to start from the beginning
+	 * @param limit     the maximum number of entries to return, or null for the default page size
+	 * @return the page of audit log entries and the cursor for the following page
+	 */
+	public KeysetPage<AuditLog> getAuditLogs(Instant from, Instant to, String eventType, String entityId, String after, Integer limit);
+
+}
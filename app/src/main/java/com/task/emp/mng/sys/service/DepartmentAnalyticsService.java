@@ -0,0 +1,23 @@
+package com.task.emp.mng.sys.service;
+
+import java.util.List;
+
+import com.task.emp.mng.sys.response.DepartmentStatistics;
+
+/**
+ * Service interface for salary analytics aggregated per department.
+ * 
+ * @author agent
+ * @since 2026-10-17
+ */
+public interface DepartmentAnalyticsService {
+
+	/**
+	 * Retrieves the headcount and the total, lowest, highest and average salary of
+	 * every department, ordered by department name.
+	 *
+	 * @return the statistics of every department that has employees
+	 */
+	public List<DepartmentStatistics> getDepartmentStatistics();
+
+}
@@ -0,0 +1,172 @@
+package com.task.emp.mng.sys.service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import com.task.emp.mng.sys.entity.Employee;
+import com.task.emp.mng.sys.repository.EmployeeSummary;
+import com.task.emp.mng.sys.response.BulkItemResult;
+import com.task.emp.mng.sys.response.KeysetPage;
+
+/**
+ * This interface provides the contract for employee-related services. It
+ * includes methods for creating, updating, deleting, and retrieving employee
+ * information.
+ * 
+ * @author Jatin
+ * @since 2024-10-11
+ */
+public interface EmployeeService {
+
+	/**
+	 * Creates a new employee with the provided details.
+	 *
+	 * @param employee the employee object containing the details of the employee to be created
+	 * @return the created employee object
+	 * @throws com.task.emp.mng.sys.exception.DuplicateUsernameException if the username is already taken
+	 */
+	public Employee createEmployee(Employee employee);
+
+	/**
+	 * Creates several employees at once. Valid employees are inserted together as
+	 * JDBC batches; employees that are incomplete or whose username is already
+	 * taken are reported individually and skipped.
+	 *
+	 * @param employees the employees to be created
+	 * @return one result per submitted employee, in submission order
+	 */
+	public List<BulkItemResult> createEmployees(List<Employee> employees);
+
+	/**
+	 * Updates the details of an existing employee identified by the given ID.
+	 *
+	 * @param id  the ID of the employee to be updated
+	 * @param updatedEmployee the employee object containing the updated details
+	 * @return the updated employee object
+	 * @throws com.task.emp.mng.sys.exception.DuplicateUsernameException if the new username is taken by another employee
+	 */
+	public Employee updateEmployee(Long id, Employee updatedEmployee);
+
+	/**
+	 * Applies a partial update to an existing employee. The employee is read once
+	 * and its version compared with the version the client last read. Only the
+	 * fields present in the patch are then written, with a single statement
+	 * guarded by that version, and the patched employee is returned without
+	 * reading it again. Nothing is written and no event is published when the
+	 * supplied fields already hold the requested values.
+	 *
+	 * @param id    the ID of the employee to be updated
+	 * @param patch the employee object holding the fields to change and the expected version
+	 * @return the employee as stored after the update
+	 * @throws com.task.emp.mng.sys.exception.DuplicateUsernameException if the new username is taken by another employee
+	 */
+	public Employee patchEmployee(Long id, Employee patch);
+
+	/**
+	 * Deletes an employee identified by the given ID.
+	 *
+	 * @param id the ID of the employee to be deleted
+	 */
+	public void deleteEmployee(Long id);
+
+	/**
+	 * Deletes the employees with the given IDs with a single statement and
+	 * publishes their delete events together.
+	 *
+	 * @param ids the IDs of the employees to be deleted
+	 * @return one result per submitted ID, in submission order
+	 */
+	public List<BulkItemResult> deleteEmployees(List<Long> ids);
+
+	/**
+	 * Retrieves a list of all employees.
+	 *
+	 * @return a list of employee objects
+	 */
+	public List<Employee> getAllEmployees();
+
+	/**
+	 * Retrieves one page of employees ordered by ID, starting after the given
+	 * cursor.
+	 *
+	 * @param after the ID of the last employee on the previous page, or null to start from the beginning
+	 * @param limit the maximum number of employees to return, or null for the default page size
+	 * @return the page of employees and the cursor for the following page
+	 */
+	public KeysetPage<Employee> getEmployees(Long after, Integer limit);
+
+	/**
+	 * Retrieves one page of employees ordered by ID, holding only the requested
+	 * fields. The ID is always included, since it is the cursor of the next page.
+	 * Only the columns of those fields are read from the database.
+	 *
+	 * @param fields the names of the fields to return, from {@code Constants.EMPLOYEE_FIELDS}
+	 * @param after the ID of the last employee on the previous page, or null to start from the beginning
+	 * @param limit the maximum number of employees to return, or null for the default page size
+	 * @return the page of employees as maps from field name to value, and the cursor for the following page
+	 * @throws com.task.emp.mng.sys.exception.InvalidRequestException if an unknown field is requested
+	 */
+	public KeysetPage<Map<String, Object>> getEmployeeFields(List<String> fields, Long after, Integer limit);
+
+	/**
+	 * Streams every employee, in ID order, to the given consumer. Employees are
+	 * read from a forward-only cursor and released as soon as the consumer has
+	 * handled them, so memory use does not grow with the number of employees.
+	 *
+	 * @param consumer the callback receiving each employee
+	 */
+	public void exportEmployees(Consumer<Employee> consumer);
+
+	/**
+	 * Retrieves an employee identified by the given ID.
+	 *
+	 * @param id the ID of the employee to be retrieved
+	 * @return the employee object if found, or null if not found
+	 */
+	public Employee getEmployeeById(Long id);
+
+	/**
+	 * Returns the version of an employee without loading it or recording a
+	 * read. The version comes from the same source as
+	 * {@link #getEmployeeById(Long)}, so a client holding that version has the
+	 * current employee.
+	 *
+	 * @param id the ID of the employee
+	 * @return the version of the employee, or null if it does not exist
+	 */
+	public Long getEmployeeVersion(Long id);
+
+	/**
+	 * Retrieves an employee identified by the given username.
+	 *
+	 * @param username the username of the employee to be retrieved
+	 * @return the employee object if found, or null if not found
+	 */
+	public Employee getEmployeeByUsername(String username);
+
+	/**
+	 * Retrieves one page of the employees of a department, ordered by ID. Only
+	 * the identifying columns of each employee are returned, which are read from
+	 * the department index without loading the entities.
+	 *
+	 * @param department the department to list
+	 * @param after the ID of the last employee of the previous page, or null for the first page
+	 * @param limit the maximum number of employees to return, or null for the default page size
+	 * @return the page of employee summaries and the cursor of the next page, if any
+	 */
+	public KeysetPage<EmployeeSummary> getEmployeesByDepartment(String department, Long after, Integer limit);
+
+	/**
+	 * Returns an opaque version of the employee collection, used as the entity tag
+	 * of employee listings. It changes with every committed create, update and
+	 * delete on any instance. While the read model serves the listings, it is the
+	 * version of the model; otherwise it is a counter incremented by every write
+	 * and read by primary key. It must be taken before the data it describes is
+	 * read.
+	 *
+	 * @return the current collection version
+	 */
+	public String getCollectionVersion();
+
+}
@@ -0,0 +1,115 @@
+package com.task.emp.mng.sys.service.impl;
+
+import java.time.Instant;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.task.emp.mng.sys.entity.AuditLog;
+import com.task.emp.mng.sys.exception.InvalidRequestException;
+import com.task.emp.mng.sys.repository.AuditLogRepository;
+import com.task.emp.mng.sys.response.KeysetPage;
+import com.task.emp.mng.sys.service.AuditLogService;
+import com.task.emp.mng.sys.utils.Constants;
+
+import jakarta.persistence.criteria.Predicate;
+
+/**
+ * Implementation of {@link AuditLogService} paging through the audit log with
+ * a keyset cursor on {@code (eventTime, id)}.
+ * 
+ * <p>
+ * The cursor has the form {@code <eventTime>_<id>}, where the event time is an
+ * ISO-8601 instant. Only the filters supplied by the caller become part of the
+ * query, so it can be served by the index matching those filters.
+ * </p>
+ * 
+ * @author agent
+ * @since 2026-10-17
+ */
+@Service
+public class AuditLogServiceImpl implements AuditLogService {
+
+	private static final char CURSOR_SEPARATOR = '_';
+
+	private static final Sort KEYSET_ORDER = Sort.by("eventTime", "id");
+
+	@Autowired
+	private AuditLogRepository auditLogRepository;
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	@Transactional(readOnly = true)
+	public KeysetPage<AuditLog> getAuditLogs(Instant from, Instant to, String eventType, String entityId, String after, Integer limit) {
+		int pageSize = limit == null ? Constants.DEFAULT_PAGE_SIZE : Math.max(1, Math.min(limit, Constants.MAX_PAGE_SIZE));
+		Specification<AuditLog> specification = matching(from, to, eventType, entityId, after);
+
+		// Fetch one extra row to find out whether another page follows without a count query
+		List<AuditLog> logs = auditLogRepository.findBy(specification, query -> query.sortBy(KEYSET_ORDER).limit(pageSize + 1).all());
+		if (logs.size() <= pageSize) {
+			return new KeysetPage<>(logs, null);
+		}
+		List<AuditLog> page = logs.subList(0, pageSize);
+		AuditLog last = page.get(pageSize - 1);
+		return new KeysetPage<>(page, last.getEventTime().toString() + CURSOR_SEPARATOR + last.getId());
+	}
+
+	/**
+	 * Builds the query predicate from the supplied filters and cursor.
+	 *
+	 * @param from      the inclusive lower bound of the event time, or null
+	 * @param to        the exclusive upper bound of the event time, or null
+	 * @param eventType the event type to match, or null
+	 * @param entityId  the entity ID to match, or null
+	 * @param after     the cursor of the previous page, or null
+	 * @return the specification selecting the matching audit log entries
+	 */
+	private Specification<AuditLog> matching(Instant from, Instant to, String eventType, String entityId, String after) {
+		Instant afterTime;
+		Long afterId;
+		if (after == null) {
+			afterTime = null;
+			afterId = null;
+		} else {
+			int separator = after.lastIndexOf(CURSOR_SEPARATOR);
+			try {
+				afterTime = Instant.parse(after.substring(0, Math.max(separator, 0)));
+				afterId = Long.valueOf(after.substring(separator + 1));
+			} catch (DateTimeParseException | NumberFormatException e) {
+				throw new InvalidRequestException(Constants.INVALID_CURSOR);
+			}
+		}
+
+		return (root, query, builder) -> {
+			List<Predicate> predicates = new ArrayList<>();
+			if (eventType != null) {
+				predicates.add(builder.equal(root.get("eventType"), eventType));
+			}
+			if (entityId != null) {
+				predicates.add(builder.equal(root.get("entityId"), entityId));
+			}
+			if (from != null) {
+				predicates.add(builder.greaterThanOrEqualTo(root.get("eventTime"), from));
+			}
+			if (to != null) {
+				predicates.add(builder.lessThan(root.get("eventTime"), to));
+			}
+			if (afterTime != null) {
+				// (eventTime, id) > (afterTime, afterId), with a plain bound on eventTime so the index range starts at the cursor
+				predicates.add(builder.greaterThanOrEqualTo(root.get("eventTime"), afterTime));
+				predicates.add(builder.or(builder.greaterThan(root.get("eventTime"), afterTime),
+						builder.greaterThan(root.get("id"), afterId)));
+			}
+			return builder.and(predicates.toArray(new Predicate[0]));
+		};
+	}
+
+}
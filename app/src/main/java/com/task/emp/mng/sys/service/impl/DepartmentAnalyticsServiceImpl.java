@@ -0,0 +1,153 @@
+package com.task.emp.mng.sys.service.impl;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.task.emp.mng.sys.event.EmployeeChangedEvent;
+import com.task.emp.mng.sys.repository.DepartmentSalaryCount;
+import com.task.emp.mng.sys.repository.EmployeeRepository;
+import com.task.emp.mng.sys.response.DepartmentStatistics;
+import com.task.emp.mng.sys.service.DepartmentAnalyticsService;
+
+import jakarta.annotation.PostConstruct;
+
+/**
+ * Maintains the salary statistics of every department in memory.
+ * 
+ * <p>
+ * The aggregate is seeded once on startup with a single GROUP BY query, before
+ * the application accepts requests. From then on it is updated by the deltas
+ * carried by {@link EmployeeChangedEvent}s once their transaction has
+ * committed, so reads cost O(departments) and never scan the employees table.
+ * </p>
+ * 
+ * <p>
+ * Each department keeps the number of employees per distinct salary, so the
+ * lowest and highest salary stay exact when the employee holding them leaves
+ * the department. Totals are kept as {@link BigDecimal} so that repeated
+ * additions and subtractions do not accumulate rounding errors.
+ * </p>
+ * 
+ * <p>
+ * The aggregate only reflects changes made through this application instance.
+ * It is disabled with {@code employee.analytics.enabled=false}, which also
+ * spares deletes the locking read of the deleted row.
+ * </p>
+ * 
+ * @author agent
+ * @since 2026-10-17
+ */
+@Service
+@ConditionalOnProperty(name = "employee.analytics.enabled", havingValue = "true", matchIfMissing = true)
+public class DepartmentAnalyticsServiceImpl implements DepartmentAnalyticsService {
+
+	@Autowired
+	private EmployeeRepository employeeRepository;
+
+	private final Map<String, DepartmentSalaries> departments = new ConcurrentHashMap<>();
+
+	/**
+	 * Seeds the aggregate from the employees table.
+	 */
+	@PostConstruct
+	public void seed() {
+		for (DepartmentSalaryCount row : employeeRepository.countByDepartmentAndSalary()) {
+			add(row.getDepartment(), row.getSalary(), row.getHeadcount());
+		}
+	}
+
+	/**
+	 * Applies the delta of a committed employee change. The event is also applied
+	 * when it is published outside a transaction.
+	 *
+	 * @param event the change of an employee's department or salary
+	 */
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onEmployeeChanged(EmployeeChangedEvent event) {
+		if (Objects.equals(event.getOldDepartment(), event.getNewDepartment()) && Objects.equals(event.getOldSalary(), event.getNewSalary())) {
+			return;
+		}
+		if (event.getOldDepartment() != null && event.getOldSalary() != null) {
+			add(event.getOldDepartment(), event.getOldSalary(), -1);
+		}
+		if (event.getNewDepartment() != null && event.getNewSalary() != null) {
+			add(event.getNewDepartment(), event.getNewSalary(), 1);
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public List<DepartmentStatistics> getDepartmentStatistics() {
+		List<DepartmentStatistics> statistics = new ArrayList<>(departments.size());
+		departments.forEach((department, salaries) -> {
+			DepartmentStatistics snapshot = salaries.snapshot(department);
+			if (snapshot != null) {
+				statistics.add(snapshot);
+			}
+		});
+		statistics.sort(Comparator.comparing(DepartmentStatistics::getDepartment));
+		return statistics;
+	}
+
+	/**
+	 * Adds or removes employees earning the given salary to a department, dropping
+	 * the department once it has no employees left.
+	 *
+	 * @param department the department
+	 * @param salary     the salary
+	 * @param headcount  the number of employees to add, negative to remove
+	 */
+	private void add(String department, double salary, long headcount) {
+		departments.compute(department, (key, salaries) -> {
+			DepartmentSalaries result = salaries != null ? salaries : new DepartmentSalaries();
+			result.add(salary, headcount);
+			return result.isEmpty() ? null : result;
+		});
+	}
+
+	/**
+	 * The salaries of a single department.
+	 */
+	private static final class DepartmentSalaries {
+
+		private final TreeMap<Double, Long> headcountBySalary = new TreeMap<>();
+
+		private long headcount;
+
+		private BigDecimal totalSalary = BigDecimal.ZERO;
+
+		synchronized void add(double salary, long count) {
+			headcountBySalary.merge(salary, count, (current, delta) -> current + delta == 0 ? null : current + delta);
+			headcount += count;
+			totalSalary = totalSalary.add(BigDecimal.valueOf(salary).multiply(BigDecimal.valueOf(count)));
+		}
+
+		synchronized boolean isEmpty() {
+			return headcount <= 0;
+		}
+
+		synchronized DepartmentStatistics snapshot(String department) {
+			if (headcount <= 0) {
+				return null;
+			}
+			return new DepartmentStatistics(department, headcount, totalSalary.doubleValue(), headcountBySalary.firstKey(),
+					headcountBySalary.lastKey(), totalSalary.divide(BigDecimal.valueOf(headcount), MathContext.DECIMAL64).doubleValue());
+		}
+
+	}
+
+}
@@ -0,0 +1,655 @@
+package com.task.emp.mng.sys.service.impl;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.task.emp.mng.sys.cache.EmployeeCache;
+import com.task.emp.mng.sys.cache.UsernameBloomFilter;
+import com.task.emp.mng.sys.entity.Employee;
+import com.task.emp.mng.sys.entity.EmployeeCollectionVersion;
+import com.task.emp.mng.sys.entity.OutboxEvent;
+import com.task.emp.mng.sys.event.EmployeeChangedEvent;
+import com.task.emp.mng.sys.event.EmployeeEvent;
+import com.task.emp.mng.sys.event.EmployeeEventType;
+import com.task.emp.mng.sys.event.ReadEventAggregator;
+import com.task.emp.mng.sys.exception.DuplicateUsernameException;
+import com.task.emp.mng.sys.exception.InvalidRequestException;
+import com.task.emp.mng.sys.readmodel.EmployeeReadModel;
+import com.task.emp.mng.sys.repository.EmployeeCollectionVersionRepository;
+import com.task.emp.mng.sys.repository.EmployeeRepository;
+import com.task.emp.mng.sys.repository.EmployeeSalary;
+import com.task.emp.mng.sys.repository.EmployeeSummary;
+import com.task.emp.mng.sys.repository.OutboxEventRepository;
+import com.task.emp.mng.sys.response.BulkItemResult;
+import com.task.emp.mng.sys.response.KeysetPage;
+import com.task.emp.mng.sys.service.EmployeeService;
+import com.task.emp.mng.sys.utils.Constants;
+import com.task.emp.mng.sys.utils.UsernameUtils;
+
+import io.micrometer.core.annotation.Timed;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+@Service
+@Timed("employee.service")
+public class EmployeeServiceImpl implements EmployeeService {
+
+	@Autowired
+	private EmployeeRepository employeeRepository;
+
+	@Autowired
+	private EmployeeCollectionVersionRepository collectionVersionRepository;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Autowired
+	private OutboxEventRepository outboxEventRepository;
+
+	@Autowired
+	private ReadEventAggregator readEventAggregator;
+
+	@Autowired
+	private EmployeeCache employeeCache;
+
+	@Autowired
+	private UsernameBloomFilter usernameFilter;
+
+	@Autowired
+	private ApplicationEventPublisher eventPublisher;
+
+	@Autowired(required = false)
+	private EmployeeReadModel employeeReadModel;
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	@Value("${employee.analytics.enabled:true}")
+	private boolean analyticsEnabled;
+
+	/**
+	 * Creates the row of the collection version unless it exists, before any
+	 * request is served. An instance starting at the same time may create it
+	 * first, which leaves the row as it is.
+	 */
+	@PostConstruct
+	public void initCollectionVersion() {
+		try {
+			new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+				if (!collectionVersionRepository.existsById(EmployeeCollectionVersion.ID)) {
+					collectionVersionRepository.save(new EmployeeCollectionVersion(EmployeeCollectionVersion.ID, 0L));
+				}
+			});
+		} catch (DataIntegrityViolationException e) {
+			// Created concurrently by another instance
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	@Transactional
+	public Employee createEmployee(Employee employee) {
+		checkUsernameAvailable(employee.getUsername(), null);
+		Employee savedEmployee = employeeRepository.save(employee);
+		usernameFilter.add(savedEmployee.getUsername());
+		outboxEventRepository.save(new OutboxEvent(EmployeeEvent.of(EmployeeEventType.CREATE, savedEmployee.getId(), fieldsOf(savedEmployee))));
+		eventPublisher.publishEvent(EmployeeChangedEvent.created(savedEmployee));
+		markCollectionChanged();
+		return savedEmployee;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	@Transactional
+	public List<BulkItemResult> createEmployees(List<Employee> employees) {
+		if (employees.size() > Constants.MAX_BULK_SIZE) {
+			throw new InvalidRequestException(Constants.BULK_SIZE_EXCEEDED);
+		}
+
+		// Resolve every username conflict with a single indexed lookup instead of failing on the unique constraint
+		Set<String> usernames = new HashSet<>();
+		for (Employee employee : employees) {
+			if (employee != null && employee.getUsername() != null) {
+				usernames.add(employee.getUsername());
+			}
+		}
+		// Only usernames the filter might contain need to be looked up
+		usernames.removeIf(username -> !usernameFilter.mightContain(username));
+		// Usernames are compared the way the unique index compares them, ignoring case
+		Set<String> takenUsernames = new HashSet<>();
+		if (!usernames.isEmpty()) {
+			employeeRepository.findExistingUsernames(usernames).forEach(username -> takenUsernames.add(UsernameUtils.normalize(username)));
+		}
+
+		BulkItemResult[] results = new BulkItemResult[employees.size()];
+		List<Employee> employeesToSave = new ArrayList<>();
+		List<Integer> indexesToSave = new ArrayList<>();
+		for (int index = 0; index < employees.size(); index++) {
+			Employee employee = employees.get(index);
+			if (employee == null) {
+				results[index] = new BulkItemResult(index, BulkItemResult.INVALID, null, null, Constants.MANDATORY_FIELDS_MISSING);
+			} else if (isBlank(employee.getName()) || isBlank(employee.getUsername()) || isBlank(employee.getDepartment())
+					|| employee.getSalary() == null) {
+				results[index] = new BulkItemResult(index, BulkItemResult.INVALID, null, employee.getUsername(), Constants.MANDATORY_FIELDS_MISSING);
+			} else if (!takenUsernames.add(UsernameUtils.normalize(employee.getUsername()))) {
+				// Covers both usernames already stored and usernames repeated within this request
+				results[index] = new BulkItemResult(index, BulkItemResult.CONFLICT, null, employee.getUsername(), Constants.USERNAME_TAKEN);
+			} else {
+				employee.setId(null);
+				employeesToSave.add(employee);
+				indexesToSave.add(index);
+			}
+		}
+
+		List<Employee> savedEmployees = employeeRepository.saveAll(employeesToSave);
+		List<OutboxEvent> events = new ArrayList<>(savedEmployees.size());
+		for (int i = 0; i < savedEmployees.size(); i++) {
+			Employee savedEmployee = savedEmployees.get(i);
+			int index = indexesToSave.get(i);
+			results[index] = new BulkItemResult(index, BulkItemResult.CREATED, savedEmployee.getId(), savedEmployee.getUsername(), null);
+			usernameFilter.add(savedEmployee.getUsername());
+			events.add(new OutboxEvent(EmployeeEvent.of(EmployeeEventType.CREATE, savedEmployee.getId(), fieldsOf(savedEmployee))));
+			eventPublisher.publishEvent(EmployeeChangedEvent.created(savedEmployee));
+		}
+		outboxEventRepository.insertAll(events);
+		if (!savedEmployees.isEmpty()) {
+			markCollectionChanged();
+		}
+		return Arrays.asList(results);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	@Transactional
+	public Employee updateEmployee(Long id, Employee updatedEmployee) {
+		Optional<Employee> optionalEmployee = employeeRepository.findById(id);
+		Employee existingEmployee = optionalEmployee.get();
+		String oldDepartment = existingEmployee.getDepartment();
+		Double oldSalary = existingEmployee.getSalary();
+		Map<String, String> changedFields = new LinkedHashMap<>();
+		if (updatedEmployee.getName() != null && !updatedEmployee.getName().trim().isEmpty()) {
+			trackChange(changedFields, EmployeeEvent.FIELD_NAME, existingEmployee.getName(), updatedEmployee.getName());
+			existingEmployee.setName(updatedEmployee.getName());
+		}
+
+		// Update the department only if it's not null or blank
+		if (updatedEmployee.getDepartment() != null && !updatedEmployee.getDepartment().trim().isEmpty()) {
+			trackChange(changedFields, EmployeeEvent.FIELD_DEPARTMENT, existingEmployee.getDepartment(), updatedEmployee.getDepartment());
+			existingEmployee.setDepartment(updatedEmployee.getDepartment());
+		}
+
+		// Update the salary only if it's not null
+		if (updatedEmployee.getSalary() != null) {
+			trackChange(changedFields, EmployeeEvent.FIELD_SALARY, existingEmployee.getSalary(), updatedEmployee.getSalary());
+			existingEmployee.setSalary(updatedEmployee.getSalary());
+		}
+
+		// Update the username only if it's not null or blank
+		if (updatedEmployee.getUsername() != null && !updatedEmployee.getUsername().trim().isEmpty()) {
+			if (!updatedEmployee.getUsername().equals(existingEmployee.getUsername())) {
+				checkUsernameAvailable(updatedEmployee.getUsername(), id);
+				usernameFilter.add(updatedEmployee.getUsername());
+			}
+			trackChange(changedFields, EmployeeEvent.FIELD_USERNAME, existingEmployee.getUsername(), updatedEmployee.getUsername());
+			existingEmployee.setUsername(updatedEmployee.getUsername());
+		}
+
+		// Flush so the event carries the incremented version
+		Employee savedEmployee = employeeRepository.saveAndFlush(existingEmployee);
+		invalidateCache(id);
+		outboxEventRepository.save(new OutboxEvent(EmployeeEvent.of(EmployeeEventType.UPDATE, savedEmployee.getId(), fieldsOf(savedEmployee))));
+		if (!changedFields.isEmpty()) {
+			eventPublisher.publishEvent(EmployeeChangedEvent.updated(oldDepartment, oldSalary, savedEmployee));
+		}
+		markCollectionChanged();
+		return savedEmployee;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	@Transactional
+	public Employee patchEmployee(Long id, Employee patch) {
+		if (patch.getVersion() == null) {
+			throw new InvalidRequestException(Constants.VERSION_REQUIRED);
+		}
+
+		// The stored row supplies the response, the event and the old department and salary. Its version must be the one
+		// the client read, and the version guard of the update then guarantees the row is still the same when it is written.
+		Employee current = employeeRepository.findById(id).orElseThrow(() -> new NoSuchElementException(Constants.EMPLOYEE_NOT_FOUND));
+		if (!patch.getVersion().equals(current.getVersion())) {
+			throw new ObjectOptimisticLockingFailureException(Employee.class, id);
+		}
+		Employee patched = new Employee(id, supplied(patch.getName(), current.getName()), supplied(patch.getUsername(), current.getUsername()),
+				supplied(patch.getDepartment(), current.getDepartment()), patch.getSalary() != null ? patch.getSalary() : current.getSalary(),
+				current.getVersion() + 1);
+		if (Objects.equals(patched.getName(), current.getName()) && Objects.equals(patched.getUsername(), current.getUsername())
+				&& Objects.equals(patched.getDepartment(), current.getDepartment()) && Objects.equals(patched.getSalary(), current.getSalary())) {
+			// The supplied fields already hold the requested values
+			return current;
+		}
+		if (!Objects.equals(patched.getUsername(), current.getUsername())) {
+			checkUsernameAvailable(patched.getUsername(), id);
+		}
+
+		if (employeeRepository.patch(id, patch.getVersion(), patch) == 0) {
+			// The row was changed or deleted since it was read
+			if (employeeRepository.findVersionById(id).isEmpty()) {
+				throw new NoSuchElementException(Constants.EMPLOYEE_NOT_FOUND);
+			}
+			throw new ObjectOptimisticLockingFailureException(Employee.class, id);
+		}
+
+		invalidateCache(id);
+		usernameFilter.add(patched.getUsername());
+		outboxEventRepository.save(new OutboxEvent(EmployeeEvent.of(EmployeeEventType.UPDATE, id, fieldsOf(patched))));
+		eventPublisher.publishEvent(EmployeeChangedEvent.updated(current.getDepartment(), current.getSalary(), patched));
+		markCollectionChanged();
+		return patched;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	@Transactional
+	public void deleteEmployee(Long id) {
+		EmployeeChangedEvent change;
+		if (analyticsEnabled) {
+			// The locked projection supplies the department and salary removed from the analytics
+			List<EmployeeSalary> deleted = employeeRepository.lockSalariesByIdIn(List.of(id));
+			if (deleted.isEmpty() || employeeRepository.deleteByIdIn(List.of(id)) == 0) {
+				throw new NoSuchElementException(Constants.EMPLOYEE_NOT_FOUND);
+			}
+			change = EmployeeChangedEvent.deleted(deleted.get(0));
+		} else {
+			if (employeeRepository.deleteByIdIn(List.of(id)) == 0) {
+				throw new NoSuchElementException(Constants.EMPLOYEE_NOT_FOUND);
+			}
+			change = EmployeeChangedEvent.deleted(id);
+		}
+		invalidateCache(id);
+		outboxEventRepository.save(new OutboxEvent(EmployeeEvent.of(EmployeeEventType.DELETE, id)));
+		eventPublisher.publishEvent(change);
+		markCollectionChanged();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	@Transactional
+	public List<BulkItemResult> deleteEmployees(List<Long> ids) {
+		if (ids.size() > Constants.MAX_BULK_SIZE) {
+			throw new InvalidRequestException(Constants.BULK_SIZE_EXCEEDED);
+		}
+
+		// Lock the existing rows first, so the event set matches exactly the rows the DELETE removes
+		Set<Long> requestedIds = new HashSet<>();
+		for (Long id : ids) {
+			if (id != null) {
+				requestedIds.add(id);
+			}
+		}
+		Map<Long, EmployeeSalary> existing = new HashMap<>();
+		if (!requestedIds.isEmpty()) {
+			for (EmployeeSalary salary : employeeRepository.lockSalariesByIdIn(requestedIds)) {
+				existing.put(salary.getId(), salary);
+			}
+		}
+		if (!existing.isEmpty()) {
+			employeeRepository.deleteByIdIn(new HashSet<>(existing.keySet()));
+		}
+
+		List<BulkItemResult> results = new ArrayList<>(ids.size());
+		List<OutboxEvent> events = new ArrayList<>(existing.size());
+		for (int index = 0; index < ids.size(); index++) {
+			Long id = ids.get(index);
+			EmployeeSalary deleted = existing.remove(id);
+			if (deleted != null) {
+				invalidateCache(id);
+				events.add(new OutboxEvent(EmployeeEvent.of(EmployeeEventType.DELETE, id)));
+				eventPublisher.publishEvent(EmployeeChangedEvent.deleted(deleted));
+				results.add(new BulkItemResult(index, BulkItemResult.DELETED, id, null, null));
+			} else {
+				// Covers unknown IDs and IDs repeated within this request
+				results.add(new BulkItemResult(index, BulkItemResult.NOT_FOUND, id, null, Constants.EMPLOYEE_NOT_FOUND));
+			}
+		}
+		outboxEventRepository.insertAll(events);
+		if (!events.isEmpty()) {
+			markCollectionChanged();
+		}
+		return results;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	@Transactional(readOnly = true)
+	public List<Employee> getAllEmployees() {
+		if (isReadModelReady()) {
+			List<Employee> employees = new ArrayList<>();
+			employeeReadModel.forEach(employees::add);
+			return employees;
+		}
+		return employeeRepository.findAll();
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	@Transactional(readOnly = true)
+	public KeysetPage<Employee> getEmployees(Long after, Integer limit) {
+		int pageSize = pageSizeOf(limit);
+
+		// Fetch one extra row to find out whether another page follows without a count query
+		long cursor = after == null ? 0L : after;
+		List<Employee> employees = isReadModelReady() ? employeeReadModel.getPage(cursor, pageSize + 1)
+				: employeeRepository.findByIdGreaterThanOrderByIdAsc(cursor, Limit.of(pageSize + 1));
+		if (employees.size() <= pageSize) {
+			return new KeysetPage<>(employees, null);
+		}
+		List<Employee> page = employees.subList(0, pageSize);
+		return new KeysetPage<>(page, String.valueOf(page.get(pageSize - 1).getId()));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	@Transactional(readOnly = true)
+	public KeysetPage<Map<String, Object>> getEmployeeFields(List<String> fields, Long after, Integer limit) {
+		Set<String> selected = new LinkedHashSet<>();
+		selected.add("id");
+		for (String field : fields) {
+			String name = field.trim();
+			if (!Constants.EMPLOYEE_FIELDS.contains(name)) {
+				throw new InvalidRequestException(Constants.UNKNOWN_FIELD + name);
+			}
+			selected.add(name);
+		}
+		List<String> columns = new ArrayList<>(selected);
+		int pageSize = pageSizeOf(limit);
+		long cursor = after == null ? 0L : after;
+
+		List<Map<String, Object>> rows;
+		if (isReadModelReady()) {
+			rows = new ArrayList<>();
+			for (Employee employee : employeeReadModel.getPage(cursor, pageSize + 1)) {
+				rows.add(projectionOf(employee, columns));
+			}
+		} else {
+			rows = employeeRepository.findFieldsByIdGreaterThan(columns, cursor, pageSize + 1);
+		}
+		if (rows.size() <= pageSize) {
+			return new KeysetPage<>(rows, null);
+		}
+		List<Map<String, Object>> page = rows.subList(0, pageSize);
+		return new KeysetPage<>(page, String.valueOf(page.get(pageSize - 1).get("id")));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	@Transactional(readOnly = true)
+	public KeysetPage<EmployeeSummary> getEmployeesByDepartment(String department, Long after, Integer limit) {
+		int pageSize = pageSizeOf(limit);
+		List<EmployeeSummary> employees = employeeRepository.findSummariesByDepartment(department, after == null ? 0L : after, Limit.of(pageSize + 1));
+		if (employees.size() <= pageSize) {
+			return new KeysetPage<>(employees, null);
+		}
+		List<EmployeeSummary> page = employees.subList(0, pageSize);
+		return new KeysetPage<>(page, String.valueOf(page.get(pageSize - 1).getId()));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	@Transactional(readOnly = true)
+	public void exportEmployees(Consumer<Employee> consumer) {
+		if (isReadModelReady()) {
+			employeeReadModel.forEach(consumer);
+			return;
+		}
+		try (Stream<Employee> employees = employeeRepository.streamAllBy()) {
+			employees.forEach(employee -> {
+				consumer.accept(employee);
+				// Detach so the persistence context does not retain every row streamed so far
+				entityManager.detach(employee);
+			});
+		}
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	@Transactional(readOnly = true)
+	public Employee getEmployeeById(Long id) {
+		readEventAggregator.recordRead(id);
+		if (isReadModelReady()) {
+			return employeeReadModel.get(id);
+		}
+		return employeeCache.get(id, key -> employeeRepository.findById(key).orElse(null));
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	@Transactional(readOnly = true)
+	public Long getEmployeeVersion(Long id) {
+		Employee employee = isReadModelReady() ? employeeReadModel.get(id) : employeeCache.getIfPresent(id);
+		if (employee != null) {
+			return employee.getVersion();
+		}
+		return isReadModelReady() ? null : employeeRepository.findVersionById(id).orElse(null);
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	@Transactional(readOnly = true)
+	public Employee getEmployeeByUsername(String username) {
+		Employee employee = employeeRepository.findByUsername(username).orElse(null);
+		if (employee != null) {
+			readEventAggregator.recordRead(employee.getId());
+		}
+		return employee;
+	}
+
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	@Transactional(readOnly = true)
+	public String getCollectionVersion() {
+		if (isReadModelReady()) {
+			// Pages of the read model only change once it has applied the events
+			return employeeReadModel.getCollectionVersion();
+		}
+		return collectionVersionRepository.findById(EmployeeCollectionVersion.ID).map(version -> version.getVersion().toString()).orElse("0");
+	}
+
+	/**
+	 * Clamps a requested page size to the allowed range.
+	 *
+	 * @param limit the requested page size, or null for the default
+	 * @return the page size to use
+	 */
+	private int pageSizeOf(Integer limit) {
+		return limit == null ? Constants.DEFAULT_PAGE_SIZE : Math.max(1, Math.min(limit, Constants.MAX_PAGE_SIZE));
+	}
+
+	/**
+	 * Tells whether reads can be served from the event-sourced read model.
+	 *
+	 * @return true if the read model is enabled and ready
+	 */
+	private boolean isReadModelReady() {
+		return employeeReadModel != null && employeeReadModel.isReady();
+	}
+
+	/**
+	 * Evicts the employee from the cache now and again once the surrounding
+	 * transaction commits, so a concurrent read of the old row cannot leave a
+	 * stale entry behind.
+	 *
+	 * @param id the ID of the changed employee
+	 */
+	private void invalidateCache(Long id) {
+		employeeCache.invalidate(id);
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					employeeCache.invalidate(id);
+				}
+			});
+		}
+	}
+
+	/**
+	 * Rejects a username that another employee already has. Usernames the filter
+	 * does not contain are accepted without a lookup; others are checked with one
+	 * indexed existence query. The unique constraint still guards against
+	 * concurrent writes.
+	 *
+	 * @param username the requested username
+	 * @param id       the ID of the employee being renamed, or null for a new employee
+	 * @throws DuplicateUsernameException if another employee has the username
+	 */
+	private void checkUsernameAvailable(String username, Long id) {
+		if (isBlank(username) || !usernameFilter.mightContain(username)) {
+			return;
+		}
+		boolean taken = id == null ? employeeRepository.existsByUsername(username) : employeeRepository.existsByUsernameAndIdNot(username, id);
+		if (taken) {
+			throw new DuplicateUsernameException(Constants.USERNAME_TAKEN, username);
+		}
+	}
+
+	/**
+	 * Increments the collection version in the surrounding transaction, so it
+	 * changes exactly when the write commits, whichever instance made it. It is
+	 * called last, since the version row stays locked until the commit.
+	 */
+	private void markCollectionChanged() {
+		collectionVersionRepository.increment(EmployeeCollectionVersion.ID);
+	}
+
+	/**
+	 * Returns the fields of the given employee in the form carried by events.
+	 *
+	 * @param employee the employee
+	 * @return the employee fields keyed by event field name
+	 */
+	private Map<String, String> fieldsOf(Employee employee) {
+		Map<String, String> fields = new LinkedHashMap<>();
+		fields.put(EmployeeEvent.FIELD_NAME, employee.getName());
+		fields.put(EmployeeEvent.FIELD_USERNAME, employee.getUsername());
+		fields.put(EmployeeEvent.FIELD_DEPARTMENT, employee.getDepartment());
+		fields.put(EmployeeEvent.FIELD_SALARY, String.valueOf(employee.getSalary()));
+		fields.put(EmployeeEvent.FIELD_VERSION, String.valueOf(employee.getVersion()));
+		return fields;
+	}
+
+	/**
+	 * Returns the given fields of an employee, as selected by a field listing.
+	 *
+	 * @param employee the employee
+	 * @param fields   the names of the fields, from {@code Constants.EMPLOYEE_FIELDS}
+	 * @return the field values keyed by field name, in the order of the given fields
+	 */
+	private Map<String, Object> projectionOf(Employee employee, List<String> fields) {
+		Map<String, Object> projection = new LinkedHashMap<>();
+		for (String field : fields) {
+			projection.put(field, switch (field) {
+			case "id" -> employee.getId();
+			case "name" -> employee.getName();
+			case "username" -> employee.getUsername();
+			case "department" -> employee.getDepartment();
+			case "salary" -> employee.getSalary();
+			case "version" -> employee.getVersion();
+			default -> throw new IllegalArgumentException(Constants.UNKNOWN_FIELD + field);
+			});
+		}
+		return projection;
+	}
+
+	/**
+	 * Records a field in the changed fields of an update if its value differs.
+	 *
+	 * @param changedFields the changed fields collected so far
+	 * @param field         the event field name
+	 * @param oldValue      the current value of the field
+	 * @param newValue      the requested value of the field
+	 */
+	private void trackChange(Map<String, String> changedFields, String field, Object oldValue, Object newValue) {
+		if (!newValue.equals(oldValue)) {
+			changedFields.put(field, String.valueOf(newValue));
+		}
+	}
+
+	/**
+	 * Returns the supplied value of a text field, or the current value if none
+	 * was supplied.
+	 *
+	 * @param supplied the value in the patch
+	 * @param current  the stored value
+	 * @return the value after the patch
+	 */
+	private String supplied(String supplied, String current) {
+		return isBlank(supplied) ? current : supplied;
+	}
+
+	/**
+	 * Checks whether a mandatory text field is missing.
+	 *
+	 * @param value the value to check
+	 * @return true if the value is null or blank
+	 */
+	private boolean isBlank(String value) {
+		return value == null || value.trim().isEmpty();
+	}
+
+}
@@ -0,0 +1,187 @@
+package com.task.emp.mng.sys.service.impl;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Service;
+
+import com.task.emp.mng.sys.entity.AuditLog;
+import com.task.emp.mng.sys.event.EmployeeEvent;
+import com.task.emp.mng.sys.repository.AuditLogRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * This service listens to Kafka messages related to employee events and logs
+ * them as audit entries. The messages are {@link EmployeeEvent} instances,
+ * decoded from the binary event format (or from the legacy {@code "TYPE: id"}
+ * text format) by the configured Kafka value deserializer.
+ * 
+ * The service listens to the "employee_events" Kafka topic and creates an
+ * {@link AuditLog} entry with the event type and entity ID of each event. It
+ * stores the entries in the database using {@link AuditLogRepository}.
+ * 
+ * <p>
+ * Two listener modes are available, selected with the
+ * {@code audit.consumer.mode} property. In {@code batch} mode (the default)
+ * every poll is handled as one batch: all records are parsed, their audit
+ * entries are written with a single batched insert, and the offsets are
+ * committed once for the whole batch. In {@code record} mode each message is
+ * saved and committed on its own.
+ * </p>
+ * 
+ * <p>
+ * Records that could not be decoded arrive as {@code null} values and are
+ * skipped; the deserializer has already logged them. A read event whose read
+ * count is not a positive number is logged and counted as a single read.
+ * </p>
+ * 
+ * <p>
+ * The service counts the records it receives ({@code audit.consumer.records}),
+ * records the size of every batch ({@code audit.consumer.batch.size}) and
+ * times every audit insert ({@code audit.consumer.insert}). The consumer lag
+ * is reported by the Kafka client metrics as
+ * {@code kafka.consumer.fetch.manager.records.lag.max}.
+ * </p>
+ * 
+ * @author Jatin
+ * @since 2024-10-11
+ */
+@Service
+public class KafkaConsumerServiceImpl implements MeterBinder {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(KafkaConsumerServiceImpl.class);
+
+	@Autowired
+	private AuditLogRepository auditLogRepository;
+
+	private Counter recordCounter;
+
+	private DistributionSummary batchSizeSummary;
+
+	private Timer insertTimer;
+
+	/**
+	 * Registers the consumer meters.
+	 *
+	 * @param registry the registry the meters are registered with
+	 */
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		recordCounter = Counter.builder("audit.consumer.records").description("Employee event records consumed").register(registry);
+		batchSizeSummary = DistributionSummary.builder("audit.consumer.batch.size").description("Records per consumed batch").register(registry);
+		insertTimer = Timer.builder("audit.consumer.insert").description("Time to insert the audit entries of a record or batch").register(registry);
+	}
+
+	/**
+	 * Consumes Kafka messages from the "employee_events" topic one at a time. This
+	 * listener only runs when {@code audit.consumer.mode} is {@code record}.
+	 * 
+	 * <p>
+	 * An audit log entry is created with the event type and entity ID of the
+	 * event. The time at which the producer stamped the event is also recorded.
+	 * </p>
+	 * 
+	 * @param record the Kafka record holding the employee event
+	 */
+	@KafkaListener(id = "auditRecordListener", topics = "employee_events", groupId = "my-group", autoStartup = "#{'${audit.consumer.mode:batch}' == 'record'}")
+	public void consume(ConsumerRecord<String, EmployeeEvent> record) {
+		recordCounter.increment();
+		AuditLog log = toAuditLog(record);
+		if (log != null) {
+			// Save the audit log entry
+			insertTimer.record(() -> auditLogRepository.save(log));
+		}
+	}
+
+	/**
+	 * Consumes a whole poll of Kafka messages from the "employee_events" topic.
+	 * This listener only runs when {@code audit.consumer.mode} is {@code batch}.
+	 * 
+	 * <p>
+	 * Every record is handled as in {@link #consume(ConsumerRecord)}, and the resulting
+	 * audit entries are saved together so they are written as one JDBC batch in
+	 * one transaction. Offsets are committed after the batch has been handled.
+	 * The batch size and the time the broker may wait to fill it are configured
+	 * with {@code audit.consumer.max-batch-size} and
+	 * {@code audit.consumer.max-wait}.
+	 * </p>
+	 * 
+	 * @param records the records returned by one poll
+	 */
+	@KafkaListener(id = "auditBatchListener", topics = "employee_events", groupId = "my-group", batch = "true", autoStartup = "#{'${audit.consumer.mode:batch}' == 'batch'}")
+	public void consumeBatch(List<ConsumerRecord<String, EmployeeEvent>> records) {
+		recordCounter.increment(records.size());
+		batchSizeSummary.record(records.size());
+		List<AuditLog> logs = new ArrayList<>(records.size());
+		for (ConsumerRecord<String, EmployeeEvent> record : records) {
+			AuditLog log = toAuditLog(record);
+			if (log != null) {
+				logs.add(log);
+			}
+		}
+		if (!logs.isEmpty()) {
+			insertTimer.record(() -> auditLogRepository.saveAll(logs));
+		}
+	}
+
+	/**
+	 * Creates the audit log entry for the employee event held by a record. Legacy
+	 * events carry no timestamp of their own, so the Kafka record timestamp is
+	 * used for them instead.
+	 *
+	 * @param record the Kafka record holding the employee event
+	 * @return the audit log entry, or null if the record could not be decoded
+	 */
+	private AuditLog toAuditLog(ConsumerRecord<String, EmployeeEvent> record) {
+		EmployeeEvent event = record.value();
+		if (event == null) {
+			return null;
+		}
+		AuditLog log = new AuditLog();
+		log.setEventType(event.getType().name());
+		log.setEntityName("Employee");
+		log.setEntityId(String.valueOf(event.getEntityId()));
+		log.setEventTime(Instant.ofEpochMilli(event.getTimestamp() > 0 ? event.getTimestamp() : record.timestamp()));
+		log.setEventCount(eventCountOf(record));
+		return log;
+	}
+
+	/**
+	 * Returns the number of occurrences summarized by an event: the read count of
+	 * an aggregated read event, or 1 for any other event. A read count that is
+	 * not a positive number is logged and counted as 1, so that the event is
+	 * still audited.
+	 *
+	 * @param record the Kafka record holding the employee event
+	 * @return the number of occurrences
+	 */
+	private long eventCountOf(ConsumerRecord<String, EmployeeEvent> record) {
+		String readCount = record.value().getFields().get(EmployeeEvent.FIELD_READ_COUNT);
+		if (readCount == null) {
+			return 1L;
+		}
+		try {
+			long count = Long.parseLong(readCount);
+			if (count > 0) {
+				return count;
+			}
+		} catch (NumberFormatException e) {
+			// Logged below
+		}
+		LOGGER.warn("Invalid read count '{}' in event at {}-{}@{}, counting a single read", readCount, record.topic(), record.partition(),
+				record.offset());
+		return 1L;
+	}
+
+}
@@ -0,0 +1,172 @@
+package com.task.emp.mng.sys.service.impl;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Limit;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.task.emp.mng.sys.entity.OutboxEvent;
+import com.task.emp.mng.sys.event.EmployeeEvent;
+import com.task.emp.mng.sys.repository.OutboxEventRepository;
+import com.task.emp.mng.sys.utils.Constants;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * This service drains the employee outbox to the "employee_events" Kafka topic.
+ * 
+ * <p>
+ * On every run the relay reads the oldest pending {@link OutboxEvent} rows in
+ * batches, sends them keyed by employee ID, waits for the broker to acknowledge
+ * them and then deletes the acknowledged rows with a single statement. Keying
+ * by employee ID places all events of one employee on the same partition, and
+ * since each employee's rows are sent in the order they were recorded, one at
+ * a time, consumers see each employee's events in order.
+ * </p>
+ * 
+ * <p>
+ * Delivery is at least once: if the relay stops between a send and the delete,
+ * the affected events are sent again on the next run. Only one application
+ * instance should run the relay, which is controlled by the
+ * {@code outbox.relay.enabled} property.
+ * </p>
+ * 
+ * <p>
+ * The relay records the time to publish each batch, from the first send to the
+ * last acknowledgement ({@code outbox.relay.publish}), and counts published
+ * events and failed sends ({@code outbox.relay.events} and
+ * {@code outbox.relay.failures}). The latency of every single send is recorded
+ * by the Kafka template as {@code spring.kafka.template}.
+ * </p>
+ * 
+ * @author agent
+ * @since 2026-10-17
+ */
+@Service
+@ConditionalOnProperty(name = "outbox.relay.enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxRelayServiceImpl implements MeterBinder {
+
+	private static final Logger LOGGER = LoggerFactory.getLogger(OutboxRelayServiceImpl.class);
+
+	@Autowired
+	private OutboxEventRepository outboxEventRepository;
+
+	@Autowired
+	private KafkaTemplate<String, EmployeeEvent> kafkaTemplate;
+
+	@Value("${outbox.relay.batch-size:500}")
+	private int batchSize;
+
+	@Value("${outbox.relay.send-timeout-ms:10000}")
+	private long sendTimeoutMs;
+
+	private Timer publishTimer;
+
+	private Counter publishedCounter;
+
+	private Counter failureCounter;
+
+	/**
+	 * Registers the relay meters.
+	 *
+	 * @param registry the registry the meters are registered with
+	 */
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		publishTimer = Timer.builder("outbox.relay.publish").description("Time to publish a batch of outbox events").register(registry);
+		publishedCounter = Counter.builder("outbox.relay.events").description("Outbox events published to Kafka").register(registry);
+		failureCounter = Counter.builder("outbox.relay.failures").description("Outbox events that failed to publish").register(registry);
+	}
+
+	/**
+	 * Publishes pending outbox events until the outbox is empty or a send fails.
+	 */
+	@Scheduled(fixedDelayString = "${outbox.relay.interval-ms:200}")
+	public void relay() {
+		List<OutboxEvent> events;
+		do {
+			events = outboxEventRepository.findByOrderByIdAsc(Limit.of(batchSize));
+			if (events.isEmpty()) {
+				return;
+			}
+			List<Long> publishedIds = publish(events);
+			if (!publishedIds.isEmpty()) {
+				outboxEventRepository.deleteAllByIdInBatch(publishedIds);
+			}
+			if (publishedIds.size() < events.size()) {
+				// Leave the rest in place and retry from the first failed event on the next run
+				return;
+			}
+		} while (events.size() == batchSize);
+	}
+
+	/**
+	 * Sends the given events and waits for their acknowledgements.
+	 *
+	 * <p>
+	 * The events are sent in rounds holding at most one event per employee, and
+	 * each round is acknowledged before the next is sent. An event is therefore
+	 * only sent once every earlier event of its employee has been acknowledged,
+	 * so a failed send never lets a later event of the same employee reach the
+	 * topic first. After a failure, the rest of the round is still awaited and
+	 * no further round is sent.
+	 * </p>
+	 *
+	 * @param events the events to send, in outbox order
+	 * @return the IDs of the events that were acknowledged
+	 */
+	private List<Long> publish(List<OutboxEvent> events) {
+		Timer.Sample sample = Timer.start();
+		List<Long> publishedIds = new ArrayList<>(events.size());
+		boolean failed = false;
+		int start = 0;
+		while (start < events.size() && !failed) {
+			Set<Long> employeeIds = new HashSet<>();
+			int end = start;
+			while (end < events.size() && employeeIds.add(events.get(end).getAggregateId())) {
+				end++;
+			}
+
+			List<CompletableFuture<SendResult<String, EmployeeEvent>>> futures = new ArrayList<>(end - start);
+			for (int i = start; i < end; i++) {
+				OutboxEvent event = events.get(i);
+				futures.add(kafkaTemplate.send(Constants.EMPLOYEE_EVENTS, String.valueOf(event.getAggregateId()), event.getPayload()));
+			}
+			for (int i = start; i < end; i++) {
+				try {
+					futures.get(i - start).get(sendTimeoutMs, TimeUnit.MILLISECONDS);
+					publishedIds.add(events.get(i).getId());
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					failed = true;
+					break;
+				} catch (Exception e) {
+					LOGGER.warn("Failed to publish outbox event {}, will retry", events.get(i).getId(), e);
+					failureCounter.increment();
+					failed = true;
+				}
+			}
+			start = end;
+		}
+		sample.stop(publishTimer);
+		publishedCounter.increment(publishedIds.size());
+		return publishedIds;
+	}
+
+}
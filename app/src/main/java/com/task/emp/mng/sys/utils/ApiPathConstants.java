@@ -0,0 +1,71 @@
+package com.task.emp.mng.sys.utils;
+
+/**
+ * This class contains constant values representing API path constants for
+ * employee management. These constants are used to define the endpoints for
+ * employee-related operations.
+ * 
+ * @author Jatin
+ * @since 2024-10-11
+ */
+public class ApiPathConstants {
+
+	/**
+	 * The constant string representing the base path for employee-related endpoints.
+	 */
+	public static final String EMPLOYEES = "/employees";
+
+	/**
+	 * The constant string representing the base path for audit log endpoints.
+	 */
+	public static final String AUDIT_LOGS = "/audit-logs";
+
+	/**
+	 * The constant string representing a path variable for employee ID. This is
+	 * used to specify an individual employee's resource in the API.
+	 */
+	public static final String ID = "/{id}";
+
+	/**
+	 * The constant string representing a path variable for an employee's
+	 * username.
+	 */
+	public static final String BY_USERNAME = "/by-username/{username}";
+
+	/**
+	 * The constant string representing the path for streaming every employee as
+	 * newline-delimited JSON.
+	 */
+	public static final String EXPORT = "/export";
+
+	/**
+	 * The constant string representing the path for operations applied to a list
+	 * of employees in a single request.
+	 */
+	public static final String BULK = "/bulk";
+
+	/**
+	 * The constant string representing the path for the employee cache
+	 * statistics.
+	 */
+	public static final String CACHE_STATS = "/cache/stats";
+
+	/**
+	 * The constant string representing the path for the salary statistics of
+	 * every department.
+	 */
+	public static final String DEPARTMENT_ANALYTICS = "/analytics/departments";
+
+	/**
+	 * The constant string representing the path for the state of the employee
+	 * read model.
+	 */
+	public static final String READ_MODEL_STATUS = "/read-model/status";
+
+	/**
+	 * The constant string representing the path for searching employees by name
+	 * and username.
+	 */
+	public static final String SEARCH = "/search";
+
+}
@@ -0,0 +1,259 @@
+package com.task.emp.mng.sys.utils;
+
+import java.util.List;
+
+/**
+ * This class holds constant values that are used throughout the application.
+ * These constants typically represent error messages, log messages, or
+ * event-related strings. Using these constants helps in managing and
+ * standardizing messages across the system.
+ * 
+ * <p>
+ * Constants include common response messages for error handling, resource
+ * operations, and HTTP-related status descriptions.
+ * </p>
+ * 
+ * <p>
+ * This class is intended to provide easy access to reusable string values to
+ * avoid duplication and ensure consistency.
+ * </p>
+ * 
+ * <p>
+ * These constants are public, static, and final, meaning they are immutable and
+ * can be accessed without an instance of the class.
+ * </p>
+ * 
+ * <p>
+ * Example usage: {@code Constants.ERROR}
+ * </p>
+ * 
+ * @author Jatin
+ * @since 2024-10-11
+ */
+public class Constants {
+
+	/**
+	 * General error message key.
+	 */
+	public static final String ERROR = "error";
+
+	/**
+	 * Key for general message information.
+	 */
+	public static final String MESSAGE = "Message";
+
+	/**
+	 * Key for additional details in responses or logs.
+	 */
+	public static final String DETAILS = "Details";
+
+	/**
+	 * Key for logging or tracking attempted method names.
+	 */
+	public static final String ATTEMPTED_METHOD = "attempted_method";
+
+	/**
+	 * Key for the username an error refers to.
+	 */
+	public static final String USERNAME = "username";
+
+	/**
+	 * Key representing the methods supported for a given resource.
+	 */
+	public static final String SUPPORTED_METHODS = "Supported_Methods";
+
+	/**
+	 * Message indicating that the request content was invalid.
+	 */
+	public static final String INVALID_REQUEST_CONTENT = "Invalid request content";
+
+	/**
+	 * Message indicating that no object or resource was found.
+	 */
+	public static final String NO_SUCH_ELEMENT = "Object Not Found";
+
+	/**
+	 * Message indicating that no specific resource was found.
+	 */
+	public static final String NO_RESOURCE_FOUND = "Resource Not Found";
+
+	/**
+	 * Message indicating that the HTTP method used is not allowed for this
+	 * endpoint.
+	 */
+	public static final String METHOD_NOT_ALLOWED = "Method Not Allowed";
+
+	/**
+	 * Message indicating that the required request body is missing or malformed.
+	 */
+	public static final String REQUEST_BODY_MISSING = "Required request body is missing or malformed.";
+
+	/**
+	 * Message indicating that an employee was successfully created.
+	 */
+	public static final String CREATED = "Employee Successfully Created";
+
+	/**
+	 * Message indicating that an employee was successfully updated.
+	 */
+	public static final String UPDATED = "Employee Successfully Updated";
+
+	/**
+	 * Message indicating that an employee was successfully deleted.
+	 */
+	public static final String EMPLOYEE_DELETED = "Employee Deleted Successfully";
+
+	/**
+	 * Message indicating that a bulk request was processed. Individual items may
+	 * still have been rejected.
+	 */
+	public static final String BULK_PROCESSED = "Bulk Request Processed";
+
+	/**
+	 * Message indicating that a bulk item repeats a username already taken.
+	 */
+	public static final String USERNAME_TAKEN = "Username already exists";
+
+	/**
+	 * Message indicating that a bulk item is missing a mandatory field.
+	 */
+	public static final String MANDATORY_FIELDS_MISSING = "Name, username, department and salary are mandatory";
+
+	/**
+	 * Message indicating that a bulk request contains more items than allowed.
+	 */
+	public static final String BULK_SIZE_EXCEEDED = "Bulk request exceeds the maximum number of items";
+
+	/**
+	 * Message indicating that a partial update does not state the version it is
+	 * based on.
+	 */
+	public static final String VERSION_REQUIRED = "The version of the employee being updated is required";
+
+	/**
+	 * Message indicating that an update was based on an outdated version.
+	 */
+	public static final String VERSION_CONFLICT = "The employee was modified concurrently, reload it and retry";
+
+	/**
+	 * Message indicating that the requested employee does not exist.
+	 */
+	public static final String EMPLOYEE_NOT_FOUND = "Employee not found";
+
+	/**
+	 * Message indicating that the department analytics are disabled.
+	 */
+	public static final String ANALYTICS_DISABLED = "Department analytics are disabled";
+
+	/**
+	 * The number of search results returned when the request does not specify a
+	 * limit.
+	 */
+	public static final int DEFAULT_SEARCH_LIMIT = 10;
+
+	/**
+	 * The maximum number of search results returned by a single request.
+	 */
+	public static final int MAX_SEARCH_LIMIT = 100;
+
+	/**
+	 * Message indicating that a pagination cursor could not be parsed.
+	 */
+	public static final String INVALID_CURSOR = "Invalid pagination cursor";
+
+	/**
+	 * Message indicating that a resource was not found.
+	 */
+	public static final String NOT_FOUND = "Not Found";
+
+	/**
+	 * Message indicating a conflict in the request (e.g., duplicate resources).
+	 */
+	public static final String CONFLICT = "Conflict";
+
+	/**
+	 * Message indicating that the request was malformed or invalid.
+	 */
+	public static final String BAD_REQUEST = "Bad Request";
+
+	/**
+	 * Message indicating that the request was well-formed but cannot be processed.
+	 */
+	public static final String UNPROCESSABLE_ENTITY = "Unprocessable Entity";
+
+	/**
+	 * Message indicating that the service cannot handle the request right now.
+	 */
+	public static final String SERVICE_UNAVAILABLE = "Service Unavailable";
+
+	/**
+	 * Message indicating that a request was rejected because too many requests
+	 * are being handled.
+	 */
+	public static final String SERVER_BUSY = "Too many concurrent requests, retry later";
+
+	/**
+	 * Name of the event related to employee-related actions or changes.
+	 */
+	public static final String EMPLOYEE_EVENTS = "employee_events";
+
+	/**
+	 * Number of rows returned by a paginated listing when the client does not
+	 * specify a limit.
+	 */
+	public static final int DEFAULT_PAGE_SIZE = 100;
+
+	/**
+	 * Upper bound on the number of rows a client may request in a single page.
+	 */
+	public static final int MAX_PAGE_SIZE = 1000;
+
+	/**
+	 * Upper bound on the number of items accepted by a single bulk request.
+	 */
+	public static final int MAX_BULK_SIZE = 5000;
+
+	/**
+	 * Name of the request header carrying the idempotency key of a create request.
+	 */
+	public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
+	/**
+	 * The maximum length of an idempotency key.
+	 */
+	public static final int MAX_IDEMPOTENCY_KEY_LENGTH = 255;
+
+	/**
+	 * Message indicating that an idempotency key is blank or too long.
+	 */
+	public static final String INVALID_IDEMPOTENCY_KEY = "The idempotency key must be between 1 and 255 characters";
+
+	/**
+	 * Message indicating that an idempotency key was already used for a different
+	 * request.
+	 */
+	public static final String IDEMPOTENCY_KEY_REUSED = "The idempotency key was already used for a different request";
+
+	/**
+	 * Message indicating that a request with the same idempotency key is still
+	 * being processed.
+	 */
+	public static final String IDEMPOTENT_REQUEST_IN_PROGRESS = "A request with this idempotency key is still being processed, retry later";
+
+	/**
+	 * The employee fields a listing can be restricted to, in response order.
+	 */
+	public static final List<String> EMPLOYEE_FIELDS = List.of("id", "name", "username", "department", "salary", "version");
+
+	/**
+	 * Message indicating that a listing requested a field employees do not have.
+	 */
+	public static final String UNKNOWN_FIELD = "Unknown employee field: ";
+
+	/**
+	 * Name of the cookie carrying the time of the last write of a client, so
+	 * that its reads see its own writes when a read replica is used.
+	 */
+	public static final String LAST_WRITE_COOKIE = "last_write";
+
+}
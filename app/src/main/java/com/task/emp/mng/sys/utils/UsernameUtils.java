@@ -0,0 +1,33 @@
+package com.task.emp.mng.sys.utils;
+
+import java.util.Locale;
+
+/**
+ * Helpers for comparing usernames the way the database does.
+ * 
+ * <p>
+ * The unique index on the username column uses the default MySQL collation,
+ * which ignores case, so "JDoe" and "jdoe" are the same username. Usernames
+ * compared or hashed in memory must be folded the same way first.
+ * </p>
+ * 
+ * @author agent
+ * @since 2026-10-17
+ */
+public final class UsernameUtils {
+
+	private UsernameUtils() {
+	}
+
+	/**
+	 * Returns the form of a username under which the database considers it
+	 * equal to every other spelling of the same username.
+	 *
+	 * @param username the username, or null
+	 * @return the username in lower case, or null if it is null
+	 */
+	public static String normalize(String username) {
+		return username != null ? username.toLowerCase(Locale.ROOT) : null;
+	}
+
+}
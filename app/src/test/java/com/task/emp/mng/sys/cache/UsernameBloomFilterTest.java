@@ -0,0 +1,108 @@
+package com.task.emp.mng.sys.cache;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.task.emp.mng.sys.repository.EmployeeRepository;
+
+/**
+ * Unit tests for the {@link UsernameBloomFilter} class, covering how the
+ * filter is built and how it answers membership checks.
+ * 
+ * @author agent
+ * @since 2026-10-17
+ */
+class UsernameBloomFilterTest {
+
+	@Mock
+	private EmployeeRepository employeeRepository;
+
+	@Mock
+	private PlatformTransactionManager transactionManager;
+
+	private UsernameBloomFilter usernameFilter;
+
+	/**
+	 * Creates a filter sized for 10,000 usernames before each test.
+	 */
+	@BeforeEach
+	void setUp() {
+		MockitoAnnotations.openMocks(this);
+		usernameFilter = new UsernameBloomFilter(10000, 0.01);
+		ReflectionTestUtils.setField(usernameFilter, "employeeRepository", employeeRepository);
+		ReflectionTestUtils.setField(usernameFilter, "transactionManager", transactionManager);
+	}
+
+	/**
+	 * Test that every stored and added username is contained after a build,
+	 * while absent usernames are rarely reported as possibly contained.
+	 */
+	@Test
+	void rebuild_ContainsStoredUsernames() {
+		List<String> stored = new ArrayList<>();
+		for (int i = 0; i < 5000; i++) {
+			stored.add("user" + i);
+		}
+		when(employeeRepository.count()).thenReturn((long) stored.size());
+		when(employeeRepository.streamUsernamesBy()).thenReturn(stored.stream());
+
+		usernameFilter.rebuild();
+		usernameFilter.add("added");
+
+		assertTrue(stored.stream().allMatch(usernameFilter::mightContain));
+		assertTrue(usernameFilter.mightContain("added"));
+		int falsePositives = 0;
+		for (int i = 0; i < 10000; i++) {
+			if (usernameFilter.mightContain("absent" + i)) {
+				falsePositives++;
+			}
+		}
+		assertTrue(falsePositives < 200, falsePositives + " false positives");
+	}
+
+	/**
+	 * Test that a username is found in any spelling of its case, as the unique
+	 * index on the username column ignores case.
+	 */
+	@Test
+	void mightContain_IgnoresCase() {
+		when(employeeRepository.streamUsernamesBy()).thenReturn(List.of("jdoe").stream());
+		usernameFilter.rebuild();
+		usernameFilter.add("ASmith");
+
+		assertTrue(usernameFilter.mightContain("JDoe"));
+		assertTrue(usernameFilter.mightContain("JDOE"));
+		assertTrue(usernameFilter.mightContain("asmith"));
+	}
+
+	/**
+	 * Test that every username might be contained before the first build, and
+	 * that a build drops usernames that are no longer stored.
+	 */
+	@Test
+	void rebuild_ReplacesFilter() {
+		assertTrue(usernameFilter.mightContain("anyone"));
+
+		when(employeeRepository.streamUsernamesBy()).thenReturn(List.of("renamed").stream());
+		usernameFilter.rebuild();
+		usernameFilter.add("old");
+		when(employeeRepository.streamUsernamesBy()).thenReturn(List.of("renamed").stream());
+		usernameFilter.rebuild();
+
+		assertTrue(usernameFilter.mightContain("renamed"));
+		assertFalse(usernameFilter.mightContain("old"));
+		assertFalse(usernameFilter.mightContain("anyone"));
+	}
+
+}
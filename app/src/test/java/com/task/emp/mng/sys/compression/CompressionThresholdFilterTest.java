@@ -0,0 +1,124 @@
+package com.task.emp.mng.sys.compression;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Unit tests for the {@link CompressionThresholdFilter} class, covering which
+ * responses are sent with their length and which are passed on as written.
+ *
+ * @author agent
+ * @since 2026-10-17
+ */
+class CompressionThresholdFilterTest {
+
+	private CompressionThresholdFilter compressionThresholdFilter;
+
+	private MockHttpServletRequest request;
+
+	private MockHttpServletResponse response;
+
+	/**
+	 * Creates a filter with a threshold of 16 bytes before each test.
+	 */
+	@BeforeEach
+	void setUp() {
+		compressionThresholdFilter = new CompressionThresholdFilter(16);
+		request = new MockHttpServletRequest("GET", "/employees");
+		response = new MockHttpServletResponse();
+	}
+
+	/**
+	 * Test for a body below the threshold, flushed by its writer. Ensures it is
+	 * sent with its length once complete, so it is not compressed.
+	 */
+	@Test
+	void doFilter_SmallBody_SetsContentLength() throws Exception {
+		compressionThresholdFilter.doFilter(request, response, chain((req, res) -> {
+			res.getOutputStream().write("{\"id\":1}".getBytes());
+			res.flushBuffer();
+			assertFalse(res.isCommitted());
+		}));
+
+		assertEquals(8, response.getContentLength());
+		assertEquals("{\"id\":1}", response.getContentAsString());
+	}
+
+	/**
+	 * Test for a body reaching the threshold. Ensures it is passed on without a
+	 * length, so it is compressed.
+	 */
+	@Test
+	void doFilter_LargeBody_LeavesLengthUnknown() throws Exception {
+		compressionThresholdFilter.doFilter(request, response, chain((req, res) -> {
+			res.getWriter().write("[{\"id\":1},{\"id\":2},");
+			res.getWriter().write("{\"id\":3}]");
+		}));
+
+		assertNull(response.getHeader("Content-Length"));
+		assertEquals("[{\"id\":1},{\"id\":2},{\"id\":3}]", response.getContentAsString());
+	}
+
+	/**
+	 * Test for a request that goes asynchronous. Ensures the body written
+	 * afterwards is passed on as written, without a length.
+	 */
+	@Test
+	void doFilter_AsyncRequest_PassesThrough() throws Exception {
+		request.setAsyncSupported(true);
+		AtomicReference<ServletOutputStream> outputStream = new AtomicReference<>();
+		compressionThresholdFilter.doFilter(request, response, chain((req, res) -> {
+			req.startAsync();
+			outputStream.set(res.getOutputStream());
+		}));
+
+		outputStream.get().write("{\"id\":1}\n".getBytes());
+		outputStream.get().flush();
+
+		assertTrue(response.isCommitted());
+		assertNull(response.getHeader("Content-Length"));
+		assertEquals("{\"id\":1}\n", response.getContentAsString());
+	}
+
+	/**
+	 * Handler writing a response in a test.
+	 */
+	private interface Handler {
+
+		void handle(HttpServletRequest request, HttpServletResponse response) throws IOException;
+
+	}
+
+	/**
+	 * Returns a filter chain ending in the given handler.
+	 */
+	private static MockFilterChain chain(Handler handler) {
+		return new MockFilterChain(new HttpServlet() {
+
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected void service(HttpServletRequest request, HttpServletResponse response) throws IOException {
+				handler.handle(request, response);
+			}
+
+		});
+	}
+
+}
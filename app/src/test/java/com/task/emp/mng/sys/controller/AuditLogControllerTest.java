@@ -0,0 +1,80 @@
+package com.task.emp.mng.sys.controller;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.http.HttpStatus;
+
+import com.task.emp.mng.sys.entity.AuditLog;
+import com.task.emp.mng.sys.response.KeysetPage;
+import com.task.emp.mng.sys.response.ResponseContainerEntity;
+import com.task.emp.mng.sys.service.AuditLogService;
+
+/**
+ * Unit tests for the AuditLogController class, which handles HTTP requests for
+ * querying the audit log.
+ *
+ * @author agent
+ * @since 2026-10-17
+ */
+class AuditLogControllerTest {
+
+	@InjectMocks
+	private AuditLogController auditLogController;
+
+	@Mock
+	private AuditLogService auditLogService;
+
+	private final Instant from = Instant.parse("2024-10-11T00:00:00Z");
+
+	private final Instant to = Instant.parse("2024-10-12T00:00:00Z");
+
+	/**
+	 * Sets up the test environment by initializing mocks before each test.
+	 */
+	@BeforeEach
+	void setUp() {
+		MockitoAnnotations.openMocks(this);
+	}
+
+	/**
+	 * Tests the retrieval of a page of audit log entries with a next cursor.
+	 */
+	@Test
+	void getAuditLogs_Success() {
+		List<AuditLog> logs = List.of(new AuditLog(5L, "UPDATE", "Employee", "1", from.plusSeconds(60), 1L));
+		when(auditLogService.getAuditLogs(from, to, "UPDATE", "1", null, 1)).thenReturn(new KeysetPage<>(logs, "2024-10-11T00:01:00Z_5"));
+
+		ResponseContainerEntity<List<AuditLog>> response = auditLogController.getAuditLogs(from, to, "UPDATE", "1", null, 1);
+
+		assertEquals(HttpStatus.OK, response.getHttpStatus());
+		assertEquals(logs, response.getBody());
+		assertEquals("2024-10-11T00:01:00Z_5", response.getNextCursor());
+	}
+
+	/**
+	 * Tests the retrieval of audit log entries when none match.
+	 */
+	@Test
+	void getAuditLogs_NoContent() {
+		when(auditLogService.getAuditLogs(from, to, null, null, null, null)).thenReturn(new KeysetPage<>(new ArrayList<>(), null));
+
+		ResponseContainerEntity<List<AuditLog>> response = auditLogController.getAuditLogs(from, to, null, null, null, null);
+
+		assertEquals(HttpStatus.NO_CONTENT, response.getHttpStatus());
+		assertTrue(response.getBody().isEmpty());
+		assertNull(response.getNextCursor());
+	}
+
+}
@@ -0,0 +1,452 @@
+package com.task.emp.mng.sys.controller;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import com.task.emp.mng.sys.entity.Employee;
+import com.task.emp.mng.sys.idempotency.IdempotencyStore;
+import com.task.emp.mng.sys.repository.EmployeeSummary;
+import com.task.emp.mng.sys.response.BulkItemResult;
+import com.task.emp.mng.sys.response.DepartmentStatistics;
+import com.task.emp.mng.sys.response.KeysetPage;
+import com.task.emp.mng.sys.response.ResponseContainerEntity;
+import com.task.emp.mng.sys.service.DepartmentAnalyticsService;
+import com.task.emp.mng.sys.service.EmployeeService;
+import com.task.emp.mng.sys.utils.Constants;
+
+/**
+ * Unit tests for the EmployeeController class, which handles HTTP requests
+ * related to employee management.
+ *
+ * <p>
+ * This class uses Mockito to mock the EmployeeService and tests various
+ * scenarios for the endpoints, including successful operations and failure conditions.
+ * </p>
+ *
+ * @author Jatin
+ * @since 2024-10-11
+ */
+class EmployeeControllerTest {
+
+	@InjectMocks
+	private EmployeeController employeeController;
+
+	@Mock
+	private EmployeeService employeeService;
+
+	@Mock
+	private DepartmentAnalyticsService departmentAnalyticsService;
+
+	@Mock
+	private IdempotencyStore idempotencyStore;
+
+	@Spy
+	private ObjectMapper objectMapper = new ObjectMapper();
+
+	private Employee employee;
+
+	/**
+	 * Sets up the test environment by initializing mocks and creating a sample Employee object before each test.
+	 */
+	@BeforeEach
+	void setUp() {
+		MockitoAnnotations.openMocks(this);
+		employee = new Employee(1L, "John Doe", "johndoe", "IT", 1200.0);
+		employee.setVersion(3L);
+		when(employeeService.getCollectionVersion()).thenReturn("v1-7");
+	}
+
+	/**
+	 * Creates a GET request, optionally carrying an {@code If-None-Match} header.
+	 *
+	 * @param ifNoneMatch the entity tags the client holds, if any
+	 * @return the request
+	 */
+	private ServletWebRequest getRequest(String... ifNoneMatch) {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/employees");
+		for (String eTag : ifNoneMatch) {
+			request.addHeader("If-None-Match", eTag);
+		}
+		return new ServletWebRequest(request, new MockHttpServletResponse());
+	}
+
+	/**
+	 * Tests the successful creation of a new employee.
+	 */
+	@Test
+	void createEmployee_Success() {
+		when(employeeService.createEmployee(any(Employee.class))).thenReturn(employee);
+
+		ResponseContainerEntity<Employee> response = employeeController.createEmployee(null, employee);
+
+		assertEquals(HttpStatus.CREATED, response.getHttpStatus());
+		assertEquals(employee, response.getBody());
+		assertEquals(Constants.CREATED, response.getMessage());
+	}
+
+	/**
+	 * Tests the failure of creating a new employee due to a data integrity violation.
+	 */
+	@Test
+	void createEmployee_Failure() {
+		when(employeeService.createEmployee(any(Employee.class)))
+				.thenThrow(new DataIntegrityViolationException("Invalid request content"));
+
+		DataIntegrityViolationException exception = assertThrows(DataIntegrityViolationException.class,
+				() -> employeeController.createEmployee(null, employee));
+
+		assertEquals("Invalid request content", exception.getMessage());
+	}
+
+	/**
+	 * Tests that a create request with an idempotency key is executed through
+	 * the idempotency store, which returns the employee of the first attempt.
+	 */
+	@Test
+	@SuppressWarnings("unchecked")
+	void createEmployee_WithIdempotencyKey() {
+		when(idempotencyStore.execute(eq("key-1"), eq(employee), any(Supplier.class))).thenReturn(employee);
+
+		ResponseContainerEntity<Employee> response = employeeController.createEmployee("key-1", employee);
+
+		assertEquals(HttpStatus.CREATED, response.getHttpStatus());
+		assertEquals(employee, response.getBody());
+		verify(employeeService, never()).createEmployee(any(Employee.class));
+	}
+
+	/**
+	 * Tests that a bulk creation with a rejected item is reported as multi-status.
+	 */
+	@Test
+	void createEmployees_PartialSuccess() {
+		Employee duplicate = new Employee(null, "John Again", "johndoe", "IT", 1000.0);
+		List<BulkItemResult> results = List.of(new BulkItemResult(0, BulkItemResult.CREATED, 1L, "johndoe", null),
+				new BulkItemResult(1, BulkItemResult.CONFLICT, null, "johndoe", Constants.USERNAME_TAKEN));
+		when(employeeService.createEmployees(List.of(employee, duplicate))).thenReturn(results);
+
+		ResponseContainerEntity<List<BulkItemResult>> response = employeeController.createEmployees(List.of(employee, duplicate));
+
+		assertEquals(HttpStatus.MULTI_STATUS, response.getHttpStatus());
+		assertEquals(results, response.getBody());
+		assertEquals(Constants.BULK_PROCESSED, response.getMessage());
+	}
+
+	/**
+	 * Tests the successful update of an existing employee.
+	 */
+	@Test
+	void updateEmployee_Success() {
+		when(employeeService.updateEmployee(any(Long.class), any(Employee.class))).thenReturn(employee);
+
+		ResponseContainerEntity<Employee> response = employeeController.updateEmployee(1L, employee);
+
+		assertEquals(HttpStatus.CREATED, response.getHttpStatus());
+		assertEquals(employee, response.getBody());
+		assertEquals(Constants.UPDATED, response.getMessage());
+	}
+
+	/**
+	 * Tests the failure of updating an employee that does not exist.
+	 */
+	@Test
+	void updateEmployee_Failure() {
+		when(employeeService.updateEmployee(any(Long.class), any(Employee.class)))
+				.thenThrow(new NoSuchElementException("Object Not Found"));
+
+		NoSuchElementException exception = assertThrows(NoSuchElementException.class,
+				() -> employeeController.updateEmployee(1L, employee));
+
+		assertEquals("Object Not Found", exception.getMessage());
+	}
+
+	/**
+	 * Tests the successful partial update of an employee.
+	 */
+	@Test
+	void patchEmployee_Success() {
+		when(employeeService.patchEmployee(any(Long.class), any(Employee.class))).thenReturn(employee);
+
+		ResponseContainerEntity<Employee> response = employeeController.patchEmployee(1L, employee);
+
+		assertEquals(HttpStatus.OK, response.getHttpStatus());
+		assertEquals(employee, response.getBody());
+		assertEquals(Constants.UPDATED, response.getMessage());
+	}
+
+	/**
+	 * Tests the successful deletion of an employee.
+	 */
+	@Test
+	void deleteEmployee_Success() {
+		doNothing().when(employeeService).deleteEmployee(1L);
+
+		ResponseContainerEntity<Employee> response = employeeController.deleteEmployee(1L);
+
+		assertEquals(HttpStatus.NO_CONTENT, response.getHttpStatus());
+		assertEquals(Constants.EMPLOYEE_DELETED, response.getMessage());
+	}
+
+	/**
+	 * Tests the failure of deleting an employee that does not exist.
+	 */
+	@Test
+	void deleteEmployee_Failure() {
+		doThrow(new NoSuchElementException("Employee not found")).when(employeeService).deleteEmployee(1L);
+
+		NoSuchElementException exception = assertThrows(NoSuchElementException.class,
+				() -> employeeController.deleteEmployee(1L));
+
+		assertEquals("Employee not found", exception.getMessage());
+	}
+
+	/**
+	 * Tests bulk deletion where every employee was deleted.
+	 */
+	@Test
+	void deleteEmployees_Success() {
+		List<BulkItemResult> results = List.of(new BulkItemResult(0, BulkItemResult.DELETED, 1L, null, null),
+				new BulkItemResult(1, BulkItemResult.DELETED, 2L, null, null));
+		when(employeeService.deleteEmployees(List.of(1L, 2L))).thenReturn(results);
+
+		ResponseContainerEntity<List<BulkItemResult>> response = employeeController.deleteEmployees(List.of(1L, 2L));
+
+		assertEquals(HttpStatus.OK, response.getHttpStatus());
+		assertEquals(results, response.getBody());
+	}
+
+	/**
+	 * Tests the retrieval of the department salary statistics.
+	 */
+	@Test
+	void getDepartmentStatistics_Success() {
+		List<DepartmentStatistics> statistics = List.of(new DepartmentStatistics("IT", 2, 3000.0, 1000.0, 2000.0, 1500.0));
+		when(departmentAnalyticsService.getDepartmentStatistics()).thenReturn(statistics);
+
+		ResponseContainerEntity<List<DepartmentStatistics>> response = employeeController.getDepartmentStatistics();
+
+		assertEquals(HttpStatus.OK, response.getHttpStatus());
+		assertEquals(statistics, response.getBody());
+	}
+
+	/**
+	 * Tests the retrieval of the department statistics while the analytics are
+	 * disabled, which must be reported as not found.
+	 */
+	@Test
+	void getDepartmentStatistics_Disabled() {
+		ReflectionTestUtils.setField(employeeController, "departmentAnalyticsService", null);
+
+		NoSuchElementException exception = assertThrows(NoSuchElementException.class, () -> employeeController.getDepartmentStatistics());
+		assertEquals(Constants.ANALYTICS_DISABLED, exception.getMessage());
+	}
+
+	/**
+	 * Tests the successful retrieval of all employees.
+	 */
+	@Test
+	void getAllEmployees_Success() {
+		List<Employee> employees = new ArrayList<>();
+		employees.add(employee);
+		when(employeeService.getEmployees(null, null)).thenReturn(new KeysetPage<>(employees, null));
+
+		ResponseContainerEntity<List<Employee>> response = employeeController.getAllEmployees(null, null, getRequest());
+
+		assertEquals(HttpStatus.OK, response.getHttpStatus());
+		assertEquals(employees, response.getBody());
+		assertNull(response.getNextCursor());
+	}
+
+	/**
+	 * Tests that the next cursor of a page is passed through to the response.
+	 */
+	@Test
+	void getAllEmployees_WithNextCursor() {
+		List<Employee> employees = new ArrayList<>();
+		employees.add(employee);
+		when(employeeService.getEmployees(0L, 1)).thenReturn(new KeysetPage<>(employees, "1"));
+
+		ResponseContainerEntity<List<Employee>> response = employeeController.getAllEmployees(0L, 1, getRequest());
+
+		assertEquals(HttpStatus.OK, response.getHttpStatus());
+		assertEquals(employees, response.getBody());
+		assertEquals("1", response.getNextCursor());
+	}
+
+	/**
+	 * Tests that a field listing returns the projected employees and the next
+	 * cursor.
+	 */
+	@Test
+	void getEmployeeFields_Success() {
+		List<Map<String, Object>> employees = List.of(Map.of("id", 1L, "name", "John Doe"));
+		when(employeeService.getEmployeeFields(List.of("name"), null, 1)).thenReturn(new KeysetPage<>(employees, "1"));
+
+		ResponseContainerEntity<List<Map<String, Object>>> response = employeeController.getEmployeeFields(List.of("name"), null, 1, getRequest());
+
+		assertEquals(HttpStatus.OK, response.getHttpStatus());
+		assertEquals(employees, response.getBody());
+		assertEquals("1", response.getNextCursor());
+	}
+
+	/**
+	 * Tests that a department listing returns the summaries and the next cursor.
+	 */
+	@Test
+	void getEmployeesByDepartment_Success() {
+		List<EmployeeSummary> summaries = List.of(mock(EmployeeSummary.class));
+		when(employeeService.getEmployeesByDepartment("IT", null, 1)).thenReturn(new KeysetPage<>(summaries, "1"));
+
+		ResponseContainerEntity<List<EmployeeSummary>> response = employeeController.getEmployeesByDepartment("IT", null, 1);
+
+		assertEquals(HttpStatus.OK, response.getHttpStatus());
+		assertEquals(summaries, response.getBody());
+		assertEquals("1", response.getNextCursor());
+	}
+
+	/**
+	 * Tests the retrieval of an employee by username.
+	 */
+	@Test
+	void getEmployeeByUsername_Success() {
+		when(employeeService.getEmployeeByUsername("johndoe")).thenReturn(employee);
+
+		ResponseContainerEntity<Employee> response = employeeController.getEmployeeByUsername("johndoe");
+
+		assertEquals(HttpStatus.OK, response.getHttpStatus());
+		assertEquals(employee, response.getBody());
+	}
+
+	/**
+	 * Tests the retrieval of employees when no employees are found.
+	 */
+	@Test
+	void getAllEmployees_NoContent() {
+		when(employeeService.getEmployees(null, null)).thenReturn(new KeysetPage<>(new ArrayList<>(), null));
+
+		ResponseContainerEntity<List<Employee>> response = employeeController.getAllEmployees(null, null, getRequest());
+
+		assertEquals(HttpStatus.NO_CONTENT, response.getHttpStatus());
+		assertTrue(response.getBody().isEmpty());
+	}
+
+	/**
+	 * Tests that the export writes one JSON object per line for every employee.
+	 */
+	@Test
+	@SuppressWarnings("unchecked")
+	void exportEmployees_Success() throws Exception {
+		Employee second = new Employee(2L, "Jane Doe", "janedoe", "HR", 1500.0);
+		doAnswer(invocation -> {
+			Consumer<Employee> consumer = invocation.getArgument(0);
+			consumer.accept(employee);
+			consumer.accept(second);
+			return null;
+		}).when(employeeService).exportEmployees(any(Consumer.class));
+
+		ResponseEntity<StreamingResponseBody> response = employeeController.exportEmployees();
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		response.getBody().writeTo(outputStream);
+
+		assertEquals(MediaType.APPLICATION_NDJSON, response.getHeaders().getContentType());
+		String[] lines = outputStream.toString(StandardCharsets.UTF_8).split("\n");
+		assertEquals(2, lines.length);
+		assertEquals(employee, objectMapper.readValue(lines[0], Employee.class));
+		assertEquals(second, objectMapper.readValue(lines[1], Employee.class));
+	}
+
+	/**
+	 * Tests the successful retrieval of an employee by ID.
+	 */
+	@Test
+	void getEmployeeById_Success() {
+		when(employeeService.getEmployeeById(1L)).thenReturn(employee);
+
+		ResponseContainerEntity<Employee> response = employeeController.getEmployeeById(1L, getRequest());
+
+		assertEquals(HttpStatus.OK, response.getHttpStatus());
+		assertEquals(employee, response.getBody());
+	}
+
+	/**
+	 * Tests the retrieval of an employee by ID when the employee is not found.
+	 */
+	@Test
+	void getEmployeeById_NotFound() {
+		when(employeeService.getEmployeeById(1L)).thenReturn(null);
+
+		ResponseContainerEntity<Employee> response = employeeController.getEmployeeById(1L, getRequest());
+
+		assertEquals(HttpStatus.NO_CONTENT, response.getHttpStatus());
+		assertNull(response.getBody());
+	}
+
+	/**
+	 * Tests that an employee lookup carries the employee version as its entity
+	 * tag, and that a client holding that tag gets a not modified response
+	 * without the employee being loaded.
+	 */
+	@Test
+	void getEmployeeById_NotModified() {
+		when(employeeService.getEmployeeVersion(1L)).thenReturn(3L);
+		when(employeeService.getEmployeeById(1L)).thenReturn(employee);
+		ServletWebRequest fresh = getRequest();
+		ServletWebRequest current = getRequest("W/\"3\"");
+
+		assertNotNull(employeeController.getEmployeeById(1L, fresh));
+		assertEquals("W/\"3\"", fresh.getResponse().getHeader("ETag"));
+		assertNull(employeeController.getEmployeeById(1L, current));
+		assertEquals(HttpStatus.NOT_MODIFIED.value(), current.getResponse().getStatus());
+		assertNotNull(employeeController.getEmployeeById(1L, getRequest("\"2\"")));
+		verify(employeeService, times(2)).getEmployeeById(1L);
+	}
+
+	/**
+	 * Tests that a listing whose collection version is unchanged is answered with
+	 * a not modified response without reading any employees.
+	 */
+	@Test
+	void getAllEmployees_NotModified() {
+		ServletWebRequest current = getRequest("W/\"v1-7\"");
+
+		assertNull(employeeController.getAllEmployees(null, null, current));
+
+		assertEquals(HttpStatus.NOT_MODIFIED.value(), current.getResponse().getStatus());
+		verify(employeeService, never()).getEmployees(any(), any());
+	}
+}
@@ -0,0 +1,204 @@
+package com.task.emp.mng.sys.datasource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicReference;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.task.emp.mng.sys.utils.Constants;
+
+import jakarta.servlet.http.Cookie;
+
+/**
+ * Unit tests for the {@link ReplicaRoutingDataSource} and
+ * {@link ReplicaLagMonitor} classes, using two embedded databases as primary
+ * and replica. Replication is simulated by copying the heartbeat row.
+ * 
+ * @author agent
+ * @since 2026-10-17
+ */
+class ReplicaRoutingDataSourceTest {
+
+	private EmbeddedDatabase primary;
+
+	private EmbeddedDatabase replica;
+
+	private ReplicaLagMonitor lagMonitor;
+
+	private JdbcTemplate jdbcTemplate;
+
+	private TransactionTemplate readOnly;
+
+	private TransactionTemplate readWrite;
+
+	private ReadYourWritesFilter readYourWritesFilter;
+
+	/**
+	 * Creates both databases, each holding its own name, and the routing data
+	 * source over them before each test.
+	 */
+	@BeforeEach
+	void setUp() {
+		primary = new EmbeddedDatabaseBuilder().setType(EmbeddedDatabaseType.H2).setName("routing-primary").build();
+		replica = new EmbeddedDatabaseBuilder().setType(EmbeddedDatabaseType.H2).setName("routing-replica").build();
+		for (String name : new String[] { "primary", "replica" }) {
+			JdbcTemplate database = new JdbcTemplate(name.equals("primary") ? primary : replica);
+			database.execute("create table source (name varchar(16))");
+			database.update("insert into source (name) values (?)", name);
+			database.execute("create table replica_heartbeat (id int primary key, beat_time bigint not null)");
+		}
+
+		lagMonitor = new ReplicaLagMonitor(new JdbcTemplate(primary), new JdbcTemplate(replica), Duration.ofSeconds(2));
+		DataSource dataSource = ReplicaRoutingDataSource.lazy(primary, replica, lagMonitor);
+		jdbcTemplate = new JdbcTemplate(dataSource);
+		DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+		readOnly = new TransactionTemplate(transactionManager);
+		readOnly.setReadOnly(true);
+		readWrite = new TransactionTemplate(transactionManager);
+		readYourWritesFilter = new ReadYourWritesFilter(Duration.ofSeconds(2));
+	}
+
+	/**
+	 * Shuts both databases down after each test.
+	 */
+	@AfterEach
+	void tearDown() {
+		primary.shutdown();
+		replica.shutdown();
+	}
+
+	/**
+	 * Test for routing before the replica was probed. Ensures every read goes to
+	 * the primary.
+	 */
+	@Test
+	void readOnly_UsesPrimaryBeforeFirstProbe() {
+		assertEquals("primary", readOnly.execute(status -> currentSource()));
+	}
+
+	/**
+	 * Test for routing once the replica is in sync. Ensures read-only
+	 * transactions use the replica and read-write transactions the primary.
+	 */
+	@Test
+	void readOnly_UsesReplicaWhenInSync() throws InterruptedException {
+		replicate();
+
+		assertEquals("replica", readOnly.execute(status -> currentSource()));
+		assertEquals("primary", readWrite.execute(status -> currentSource()));
+	}
+
+	/**
+	 * Test for reading after a write of the same client. Ensures the write
+	 * returns its time in a cookie, and that the reads of requests carrying the
+	 * cookie stay on the primary until the replica has applied a heartbeat
+	 * written after the write, while other clients keep reading from the
+	 * replica.
+	 */
+	@Test
+	void readOnly_StaysOnPrimaryAfterOwnWrite() throws Exception {
+		replicate();
+		MockHttpServletResponse writeResponse = new MockHttpServletResponse();
+		AtomicReference<String> sourceAfterWrite = new AtomicReference<>();
+		readYourWritesFilter.doFilter(new MockHttpServletRequest(), writeResponse, (request, response) -> {
+			readWrite.executeWithoutResult(status -> jdbcTemplate.update("update source set name = name"));
+			sourceAfterWrite.set(readOnly.execute(status -> currentSource()));
+		});
+		assertEquals("primary", sourceAfterWrite.get());
+		Cookie lastWrite = writeResponse.getCookie(Constants.LAST_WRITE_COOKIE);
+		assertNotNull(lastWrite);
+		assertEquals(2, lastWrite.getMaxAge());
+
+		// The replica has not yet applied a heartbeat newer than the write
+		Thread.sleep(5);
+		lagMonitor.probe();
+		assertEquals("primary", readInRequest(lastWrite));
+		assertEquals("replica", readInRequest(null));
+
+		replicate();
+		assertEquals("replica", readInRequest(lastWrite));
+	}
+
+	/**
+	 * Test for writes made outside a request, such as those of the outbox relay.
+	 * Ensures they neither hold reads back on the primary nor set a cookie.
+	 */
+	@Test
+	void readOnly_NotPinnedByBackgroundWrites() throws Exception {
+		replicate();
+		readWrite.executeWithoutResult(status -> jdbcTemplate.update("update source set name = name"));
+		assertEquals("replica", readOnly.execute(status -> currentSource()));
+		assertEquals("replica", readInRequest(null));
+	}
+
+	/**
+	 * Test for a lagging or unreachable replica. Ensures reads fall back to the
+	 * primary.
+	 */
+	@Test
+	void readOnly_FallsBackWhenReplicaLags() throws InterruptedException {
+		replicate();
+		new JdbcTemplate(replica).update("update replica_heartbeat set beat_time = ?", System.currentTimeMillis() - 10_000);
+		lagMonitor.probe();
+		assertEquals("primary", readOnly.execute(status -> currentSource()));
+
+		new JdbcTemplate(replica).execute("drop table replica_heartbeat");
+		lagMonitor.probe();
+		assertEquals(-1, lagMonitor.getLagMillis());
+		assertEquals("primary", readOnly.execute(status -> currentSource()));
+	}
+
+	/**
+	 * Runs a read-only transaction while handling a request carrying the given
+	 * last write cookie, and returns the database it used.
+	 */
+	private String readInRequest(Cookie lastWrite) throws Exception {
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		if (lastWrite != null) {
+			request.setCookies(lastWrite);
+		}
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		AtomicReference<String> source = new AtomicReference<>();
+		readYourWritesFilter.doFilter(request, response, (filteredRequest, filteredResponse) -> source.set(readOnly.execute(status -> currentSource())));
+		assertNull(response.getCookie(Constants.LAST_WRITE_COOKIE));
+		return source.get();
+	}
+
+	/**
+	 * Writes a heartbeat, copies it to the replica as replication would, and
+	 * probes again so that the monitor reads it back.
+	 */
+	private void replicate() throws InterruptedException {
+		Thread.sleep(5);
+		lagMonitor.probe();
+		Long heartbeat = new JdbcTemplate(primary).queryForObject("select beat_time from replica_heartbeat where id = 1", Long.class);
+		JdbcTemplate database = new JdbcTemplate(replica);
+		database.update("delete from replica_heartbeat");
+		database.update("insert into replica_heartbeat (id, beat_time) values (1, ?)", heartbeat);
+		lagMonitor.probe();
+	}
+
+	/**
+	 * Returns the name of the database the current transaction uses.
+	 */
+	private String currentSource() {
+		return jdbcTemplate.queryForObject("select name from source", String.class);
+	}
+
+}
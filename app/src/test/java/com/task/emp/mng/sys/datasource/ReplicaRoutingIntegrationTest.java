@@ -0,0 +1,89 @@
+package com.task.emp.mng.sys.datasource;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.task.emp.mng.sys.EmployeeManagementSystemApplication;
+import com.task.emp.mng.sys.utils.Constants;
+
+import jakarta.servlet.http.Cookie;
+
+/**
+ * End-to-end test of the read replica routing, running the application with
+ * the replica pool opened on the primary database. The replica is probed by
+ * the test rather than on a schedule, so that the heartbeat it has applied is
+ * known at every step.
+ *
+ * @author agent
+ * @since 2026-10-17
+ */
+@SpringBootTest(classes = EmployeeManagementSystemApplication.class)
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@EmbeddedKafka(partitions = 1, topics = "employee_events", bootstrapServersProperty = "spring.kafka.bootstrap-servers")
+@TestPropertySource(properties = { "spring.datasource.url=jdbc:h2:mem:routing;DB_CLOSE_DELAY=-1",
+		"spring.datasource.replica.url=jdbc:h2:mem:routing;DB_CLOSE_DELAY=-1", "spring.datasource.replica.lag-probe-interval-ms=3600000" })
+class ReplicaRoutingIntegrationTest {
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@Autowired
+	private ReplicaLagMonitor replicaLagMonitor;
+
+	@Autowired
+	private ReplicaRoutingDataSource routingDataSource;
+
+	/**
+	 * Test for reads before and after a write through the REST API. Ensures reads
+	 * are served by the replica once it has been probed, that the client who
+	 * wrote reads from the primary until the replica has applied a later
+	 * heartbeat, and that other clients keep reading from the replica.
+	 */
+	@Test
+	void reads_FollowReplicaAndClientWrites() throws Exception {
+		replicaLagMonitor.probe();
+		assertEquals(ReplicaRoutingDataSource.REPLICA, listEmployees(null));
+
+		Cookie lastWrite = mockMvc
+				.perform(post("/employees").contentType(MediaType.APPLICATION_JSON)
+						.content("{\"name\":\"Ada Lovelace\",\"username\":\"ada\",\"department\":\"IT\",\"salary\":1000.0}"))
+				.andExpect(status().isOk()).andReturn().getResponse().getCookie(Constants.LAST_WRITE_COOKIE);
+		assertNotNull(lastWrite);
+		assertEquals(ReplicaRoutingDataSource.PRIMARY, listEmployees(lastWrite));
+		assertEquals(ReplicaRoutingDataSource.REPLICA, listEmployees(null));
+
+		Thread.sleep(5);
+		replicaLagMonitor.probe();
+		assertEquals(ReplicaRoutingDataSource.REPLICA, listEmployees(lastWrite));
+	}
+
+	/**
+	 * Lists the employees as a client sending the given last write cookie, and
+	 * returns the database the listing was read from.
+	 */
+	private String listEmployees(Cookie lastWrite) throws Exception {
+		long replicaRoutes = routingDataSource.getRouteCount(ReplicaRoutingDataSource.REPLICA);
+		if (lastWrite != null) {
+			mockMvc.perform(get("/employees").param("limit", "10").cookie(lastWrite)).andExpect(status().isOk());
+		} else {
+			mockMvc.perform(get("/employees").param("limit", "10")).andExpect(status().isOk());
+		}
+		return routingDataSource.getRouteCount(ReplicaRoutingDataSource.REPLICA) > replicaRoutes ? ReplicaRoutingDataSource.REPLICA
+				: ReplicaRoutingDataSource.PRIMARY;
+	}
+
+}
@@ -0,0 +1,98 @@
+package com.task.emp.mng.sys.event;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for the {@link EmployeeEventCodec} class, covering the binary
+ * round trip and the compatibility decoding of legacy text messages.
+ * 
+ * @author agent
+ * @since 2026-10-17
+ */
+class EmployeeEventCodecTest {
+
+	/**
+	 * Test for encoding and decoding an event with fields. Ensures every attribute
+	 * survives the round trip and the payload stays compact.
+	 */
+	@Test
+	void encodeDecode_RoundTrip() {
+		EmployeeEvent event = new EmployeeEvent(EmployeeEventType.UPDATE, 123456L, UUID.randomUUID(), 1728640000000L,
+				Map.of(EmployeeEvent.FIELD_SALARY, "1500.0"));
+
+		byte[] encoded = EmployeeEventCodec.encode(event);
+
+		assertEquals(event, EmployeeEventCodec.decode(encoded));
+		assertTrue(encoded.length < 48, "unexpected payload size " + encoded.length);
+	}
+
+	/**
+	 * Test for decoding legacy text messages. Ensures the type and entity ID are
+	 * recovered while the event ID and timestamp are left unset.
+	 */
+	@Test
+	void decode_LegacyMessage() {
+		EmployeeEvent event = EmployeeEventCodec.decode("DELETE: 42".getBytes(StandardCharsets.US_ASCII));
+
+		assertEquals(EmployeeEventType.DELETE, event.getType());
+		assertEquals(42L, event.getEntityId());
+		assertNull(event.getEventId());
+		assertEquals(0L, event.getTimestamp());
+	}
+
+	/**
+	 * Test for decoding malformed data in either format. Ensures an
+	 * {@link IllegalArgumentException} is thrown.
+	 */
+	@Test
+	void decode_Malformed() {
+		byte[] truncated = EmployeeEventCodec.encode(EmployeeEvent.of(EmployeeEventType.CREATE, 1L));
+
+		assertThrows(IllegalArgumentException.class, () -> EmployeeEventCodec.decode("CREATE 42".getBytes(StandardCharsets.US_ASCII)));
+		assertThrows(IllegalArgumentException.class, () -> EmployeeEventCodec.decode("READ: 4x".getBytes(StandardCharsets.US_ASCII)));
+		assertThrows(IllegalArgumentException.class, () -> EmployeeEventCodec.decode(Arrays.copyOf(truncated, truncated.length - 3)));
+	}
+
+	/**
+	 * Test for binary events whose field count does not fit the data. Ensures a
+	 * negative count, a count beyond the remaining bytes and a count of fields
+	 * that are not there are all rejected before any field is read.
+	 */
+	@Test
+	void decode_InvalidFieldCount() {
+		byte[] negative = withFieldCount((byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF,
+				(byte) 0xFF, (byte) 0xFF, (byte) 0x01);
+		byte[] huge = withFieldCount((byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0x07);
+		byte[] missing = withFieldCount((byte) 3, (byte) 0, (byte) 0, (byte) 0, (byte) 0);
+
+		IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () -> EmployeeEventCodec.decode(negative));
+		assertEquals("Invalid field count in employee event: -1", exception.getMessage());
+		exception = assertThrows(IllegalArgumentException.class, () -> EmployeeEventCodec.decode(huge));
+		assertEquals("Invalid field count in employee event: " + Integer.MAX_VALUE, exception.getMessage());
+		exception = assertThrows(IllegalArgumentException.class, () -> EmployeeEventCodec.decode(missing));
+		assertEquals("Invalid field count in employee event: 3", exception.getMessage());
+		assertEquals(Map.of("", ""), EmployeeEventCodec.decode(withFieldCount((byte) 1, (byte) 0, (byte) 0)).getFields());
+	}
+
+	/**
+	 * Encodes an event without fields, and replaces its field count with the
+	 * given bytes.
+	 */
+	private static byte[] withFieldCount(byte... tail) {
+		byte[] encoded = EmployeeEventCodec.encode(EmployeeEvent.of(EmployeeEventType.CREATE, 1L));
+		byte[] data = Arrays.copyOf(encoded, encoded.length - 1 + tail.length);
+		System.arraycopy(tail, 0, data, encoded.length - 1, tail.length);
+		return data;
+	}
+
+}
@@ -0,0 +1,133 @@
+package com.task.emp.mng.sys.event;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.task.emp.mng.sys.utils.Constants;
+
+/**
+ * Unit tests for the {@link ReadEventAggregator} class in both read audit
+ * modes.
+ * 
+ * @author agent
+ * @since 2026-10-17
+ */
+class ReadEventAggregatorTest {
+
+	@InjectMocks
+	private ReadEventAggregator readEventAggregator;
+
+	@Mock
+	private KafkaTemplate<String, EmployeeEvent> kafkaTemplate;
+
+	/**
+	 * Set up the mocks before each test, in aggregated mode.
+	 */
+	@BeforeEach
+	void setUp() {
+		MockitoAnnotations.openMocks(this);
+		ReflectionTestUtils.setField(readEventAggregator, "mode", "aggregated");
+	}
+
+	/**
+	 * Test for aggregated mode. Ensures reads are only published on flush, as one
+	 * event per employee carrying the read count, and that idle employees produce
+	 * no event on later flushes.
+	 */
+	@Test
+	void flush_PublishesOneEventPerEmployee() {
+		readEventAggregator.recordRead(1L);
+		readEventAggregator.recordRead(1L);
+		readEventAggregator.recordRead(1L);
+		readEventAggregator.recordRead(2L);
+		verify(kafkaTemplate, never()).send(any(), any(), any());
+
+		readEventAggregator.flush();
+
+		ArgumentCaptor<EmployeeEvent> captor = ArgumentCaptor.forClass(EmployeeEvent.class);
+		verify(kafkaTemplate).send(eq(Constants.EMPLOYEE_EVENTS), eq("1"), captor.capture());
+		assertEquals(EmployeeEventType.READ, captor.getValue().getType());
+		assertEquals("3", captor.getValue().getFields().get(EmployeeEvent.FIELD_READ_COUNT));
+		verify(kafkaTemplate).send(eq(Constants.EMPLOYEE_EVENTS), eq("2"), any(EmployeeEvent.class));
+
+		readEventAggregator.flush();
+		verify(kafkaTemplate, times(2)).send(any(), any(), any());
+	}
+
+	/**
+	 * Test for reads racing with flushes that drop idle counters. Ensures every
+	 * read is published exactly once in some window.
+	 */
+	@Test
+	void flush_ConcurrentReadsAreNotLost() throws Exception {
+		AtomicLong published = new AtomicLong();
+		when(kafkaTemplate.send(eq(Constants.EMPLOYEE_EVENTS), any(), any(EmployeeEvent.class))).thenAnswer(invocation -> {
+			EmployeeEvent event = invocation.getArgument(2);
+			published.addAndGet(Long.parseLong(event.getFields().get(EmployeeEvent.FIELD_READ_COUNT)));
+			return null;
+		});
+		int readers = 4;
+		int readsPerReader = 20_000;
+		ExecutorService executor = Executors.newFixedThreadPool(readers);
+		try {
+			List<Future<?>> futures = new ArrayList<>();
+			for (int reader = 0; reader < readers; reader++) {
+				futures.add(executor.submit(() -> {
+					for (int i = 0; i < readsPerReader; i++) {
+						// Sparse reads over few employees, so counters keep going idle and being removed
+						readEventAggregator.recordRead((long) (i % 3));
+						if (i % 64 == 0) {
+							Thread.yield();
+						}
+					}
+				}));
+			}
+			while (futures.stream().anyMatch(future -> !future.isDone())) {
+				readEventAggregator.flush();
+			}
+			for (Future<?> future : futures) {
+				future.get();
+			}
+		} finally {
+			executor.shutdown();
+		}
+		readEventAggregator.flush();
+
+		assertEquals((long) readers * readsPerReader, published.get());
+	}
+
+	/**
+	 * Test for per-read mode. Ensures every read is published immediately.
+	 */
+	@Test
+	void recordRead_PerReadModePublishesImmediately() {
+		ReflectionTestUtils.setField(readEventAggregator, "mode", ReadEventAggregator.PER_READ);
+
+		readEventAggregator.recordRead(1L);
+		readEventAggregator.recordRead(1L);
+
+		verify(kafkaTemplate, times(2)).send(eq(Constants.EMPLOYEE_EVENTS), eq("1"), any(EmployeeEvent.class));
+	}
+
+}
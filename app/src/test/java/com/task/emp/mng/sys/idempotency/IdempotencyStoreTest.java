@@ -0,0 +1,131 @@
+package com.task.emp.mng.sys.idempotency;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.task.emp.mng.sys.entity.Employee;
+import com.task.emp.mng.sys.exception.IdempotencyKeyMismatchException;
+
+/**
+ * Unit tests for the {@link IdempotencyStore} class, covering replays, reused
+ * keys, failures and concurrent requests with the same key.
+ * 
+ * @author agent
+ * @since 2026-10-17
+ */
+class IdempotencyStoreTest {
+
+	private IdempotencyStore idempotencyStore;
+
+	private final AtomicInteger executions = new AtomicInteger();
+
+	/**
+	 * Creates a store holding up to ten results before each test.
+	 */
+	@BeforeEach
+	void setUp() {
+		idempotencyStore = new IdempotencyStore(10, Duration.ofMinutes(1), Duration.ofSeconds(5));
+		ReflectionTestUtils.setField(idempotencyStore, "objectMapper", new ObjectMapper());
+	}
+
+	/**
+	 * Test that a repeated request returns the first result without executing
+	 * again, and that a different body with the same key is rejected.
+	 */
+	@Test
+	void execute_ReplaysCompletedRequest() {
+		Employee request = new Employee(null, "John Doe", "jdoe", "IT", 60000.0);
+		Employee created = new Employee(1L, "John Doe", "jdoe", "IT", 60000.0);
+
+		assertSame(created, idempotencyStore.execute("key", request, () -> create(created)));
+		assertSame(created, idempotencyStore.execute("key", new Employee(null, "John Doe", "jdoe", "IT", 60000.0), () -> create(null)));
+		assertEquals(1, executions.get());
+
+		Employee other = new Employee(null, "John Doe", "jdoe", "HR", 60000.0);
+		assertThrows(IdempotencyKeyMismatchException.class, () -> idempotencyStore.execute("key", other, () -> create(null)));
+	}
+
+	/**
+	 * Test that a failed request is not stored, so a retry with the same key
+	 * executes again.
+	 */
+	@Test
+	void execute_DoesNotStoreFailures() {
+		Employee request = new Employee(null, "John Doe", "jdoe", "IT", 60000.0);
+
+		assertThrows(IllegalStateException.class, () -> idempotencyStore.execute("key", request, () -> {
+			executions.incrementAndGet();
+			throw new IllegalStateException("database unavailable");
+		}));
+		Employee created = new Employee(1L, "John Doe", "jdoe", "IT", 60000.0);
+
+		assertSame(created, idempotencyStore.execute("key", request, () -> create(created)));
+		assertEquals(2, executions.get());
+	}
+
+	/**
+	 * Test that a request arriving while another with the same key executes
+	 * waits for it and returns its result.
+	 */
+	@Test
+	void execute_ConcurrentRequestWaits() throws Exception {
+		Employee request = new Employee(null, "John Doe", "jdoe", "IT", 60000.0);
+		Employee created = new Employee(1L, "John Doe", "jdoe", "IT", 60000.0);
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			Future<Employee> first = executor.submit(() -> idempotencyStore.execute("key", request, () -> {
+				started.countDown();
+				awaitQuietly(release);
+				return create(created);
+			}));
+			started.await();
+
+			// The second request blocks on the result of the first until it is released
+			AtomicReference<Employee> replayed = new AtomicReference<>();
+			Thread second = new Thread(() -> replayed.set(idempotencyStore.execute("key", request, () -> create(null))));
+			second.start();
+			while (second.getState() != Thread.State.TIMED_WAITING) {
+				Thread.sleep(1);
+			}
+			release.countDown();
+			second.join();
+
+			assertSame(created, replayed.get());
+			assertSame(created, first.get());
+			assertEquals(1, executions.get());
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private Employee create(Employee employee) {
+		executions.incrementAndGet();
+		return employee;
+	}
+
+	private static void awaitQuietly(CountDownLatch latch) {
+		try {
+			latch.await();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+}
@@ -0,0 +1,157 @@
+package com.task.emp.mng.sys.limiter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.task.emp.mng.sys.exception.ServiceOverloadedException;
+import com.task.emp.mng.sys.limiter.AdaptiveConcurrencyLimiter.Type;
+
+/**
+ * Unit tests for the {@link AdaptiveConcurrencyLimiter} class, covering how
+ * requests are admitted and rejected, and how the limits follow the latency.
+ * 
+ * @author agent
+ * @since 2026-10-17
+ */
+class AdaptiveConcurrencyLimiterTest {
+
+	private final AtomicLong clock = new AtomicLong();
+
+	private MockHttpServletResponse response;
+
+	/**
+	 * Resets the clock and the response before each test.
+	 */
+	@BeforeEach
+	void setUp() {
+		clock.set(0);
+		response = new MockHttpServletResponse();
+	}
+
+	/**
+	 * Test for a read arriving while the read limit is reached. Ensures it is
+	 * rejected at once, that writes are still admitted, and that reads are
+	 * admitted again once the running read has completed.
+	 */
+	@Test
+	void preHandle_RejectsWhenFull() throws Exception {
+		AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(1, 1, 10, 1.5, 0.2, Duration.ZERO, Duration.ofSeconds(1), clock::get);
+		MockHttpServletRequest first = new MockHttpServletRequest("GET", "/employees/1");
+		MockHttpServletRequest second = new MockHttpServletRequest("GET", "/employees/2");
+		assertTrue(limiter.preHandle(first, response, null));
+
+		ServiceOverloadedException exception = assertThrows(ServiceOverloadedException.class,
+				() -> limiter.preHandle(second, response, null));
+		assertEquals(1, exception.getRetryAfterSeconds());
+		assertEquals(1, limiter.getRejectedCount(Type.READ));
+		assertTrue(limiter.preHandle(new MockHttpServletRequest("POST", "/employees"), response, null));
+		assertEquals(0, limiter.getRejectedCount(Type.WRITE));
+
+		limiter.afterCompletion(first, response, null, null);
+		assertTrue(limiter.preHandle(second, response, null));
+	}
+
+	/**
+	 * Test for saturated windows of reads. Ensures the read limit grows while
+	 * the latency stays steady, shrinks once the latency rises, and that the
+	 * write limit is not affected.
+	 */
+	@Test
+	void sample_LimitFollowsLatency() throws Exception {
+		AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(10, 2, 100, 1.5, 0.2, Duration.ZERO, Duration.ofSeconds(1), clock::get);
+		for (int i = 0; i < 10; i++) {
+			runSaturatedWindow(limiter, 10);
+		}
+		int grownLimit = limiter.getLimit(Type.READ);
+		assertTrue(grownLimit > 10, "limit " + grownLimit);
+
+		for (int i = 0; i < 15; i++) {
+			runSaturatedWindow(limiter, 100);
+		}
+		int shrunkLimit = limiter.getLimit(Type.READ);
+		assertTrue(shrunkLimit < grownLimit * 2 / 3, "limit " + grownLimit + " -> " + shrunkLimit);
+		assertEquals(10, limiter.getLimit(Type.WRITE));
+	}
+
+	/**
+	 * Test for the Retry-After delay of a rejected request. Ensures it is the
+	 * configured minimum until latencies are known, and then the average latency
+	 * of the last window rounded up to whole seconds.
+	 */
+	@Test
+	void preHandle_RetryAfterFollowsLatency() throws Exception {
+		AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(10, 10, 10, 1.5, 0.2, Duration.ZERO, Duration.ofSeconds(2), clock::get);
+		assertEquals(2, rejectedRead(limiter).getRetryAfterSeconds());
+
+		runSaturatedWindow(limiter, 500);
+		assertEquals(2, rejectedRead(limiter).getRetryAfterSeconds());
+
+		runSaturatedWindow(limiter, 4200);
+		assertEquals(5, rejectedRead(limiter).getRetryAfterSeconds());
+	}
+
+	/**
+	 * Test for an asynchronous request. Ensures it leaves the limit when the
+	 * handler returns and is released exactly once.
+	 */
+	@Test
+	void asyncRequest_ReleasedWhenHandlerReturns() throws Exception {
+		AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(1, 1, 10, 1.5, 0.2, Duration.ZERO, Duration.ofSeconds(1), clock::get);
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/employees/export");
+		limiter.preHandle(request, response, null);
+		limiter.afterConcurrentHandlingStarted(request, response, null);
+		assertEquals(0, limiter.getInflight(Type.READ));
+
+		limiter.afterCompletion(request, response, null, null);
+		assertEquals(0, limiter.getInflight(Type.READ));
+	}
+
+	/**
+	 * Fills the read limit and returns the rejection of one more read, then
+	 * completes the admitted reads without advancing the clock.
+	 */
+	private ServiceOverloadedException rejectedRead(AdaptiveConcurrencyLimiter limiter) throws Exception {
+		List<MockHttpServletRequest> requests = new ArrayList<>();
+		for (int i = limiter.getLimit(Type.READ); i > 0; i--) {
+			MockHttpServletRequest request = new MockHttpServletRequest("GET", "/employees");
+			limiter.preHandle(request, response, null);
+			requests.add(request);
+		}
+		ServiceOverloadedException exception = assertThrows(ServiceOverloadedException.class,
+				() -> limiter.preHandle(new MockHttpServletRequest("GET", "/employees"), response, null));
+		for (MockHttpServletRequest request : requests) {
+			limiter.afterCompletion(request, response, null, null);
+		}
+		return exception;
+	}
+
+	/**
+	 * Admits as many reads as the current limit, then completes them all after
+	 * the given latency.
+	 */
+	private void runSaturatedWindow(AdaptiveConcurrencyLimiter limiter, long latencyMillis) throws Exception {
+		List<MockHttpServletRequest> requests = new ArrayList<>();
+		for (int i = limiter.getLimit(Type.READ); i > 0; i--) {
+			MockHttpServletRequest request = new MockHttpServletRequest("GET", "/employees");
+			limiter.preHandle(request, response, null);
+			requests.add(request);
+		}
+		clock.addAndGet(TimeUnit.MILLISECONDS.toNanos(latencyMillis));
+		for (MockHttpServletRequest request : requests) {
+			limiter.afterCompletion(request, response, null, null);
+		}
+	}
+
+}
@@ -0,0 +1,103 @@
+package com.task.emp.mng.sys.limiter;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import com.task.emp.mng.sys.exception.ServiceOverloadedException;
+
+import jakarta.servlet.AsyncContext;
+import jakarta.servlet.DispatcherType;
+
+/**
+ * Unit tests for the {@link JdbcConcurrencyLimiter} class, covering how
+ * requests are admitted, rejected and released.
+ * 
+ * @author agent
+ * @since 2026-10-17
+ */
+class JdbcConcurrencyLimiterTest {
+
+	private JdbcConcurrencyLimiter jdbcConcurrencyLimiter;
+
+	private MockHttpServletResponse response;
+
+	/**
+	 * Creates a limiter admitting a single request before each test.
+	 */
+	@BeforeEach
+	void setUp() {
+		jdbcConcurrencyLimiter = new JdbcConcurrencyLimiter(1, Duration.ofMillis(10));
+		response = new MockHttpServletResponse();
+	}
+
+	/**
+	 * Test for a request arriving while all permits are held. Ensures it is
+	 * rejected, and admitted once the running request has completed.
+	 */
+	@Test
+	void preHandle_RejectsWhenFull() throws Exception {
+		MockHttpServletRequest first = new MockHttpServletRequest();
+		MockHttpServletRequest second = new MockHttpServletRequest();
+		assertTrue(jdbcConcurrencyLimiter.preHandle(first, response, null));
+
+		ServiceOverloadedException exception = assertThrows(ServiceOverloadedException.class,
+				() -> jdbcConcurrencyLimiter.preHandle(second, response, null));
+		assertEquals(1, exception.getRetryAfterSeconds());
+		assertEquals(1, jdbcConcurrencyLimiter.getRejectedCount());
+
+		jdbcConcurrencyLimiter.afterCompletion(first, response, null, null);
+		assertTrue(jdbcConcurrencyLimiter.preHandle(second, response, null));
+	}
+
+	/**
+	 * Test for an asynchronous request such as the streaming export. Ensures it
+	 * keeps its permit while the processing runs, does not take a second one when
+	 * its result is dispatched, and releases it exactly once on completion.
+	 */
+	@Test
+	void asyncRequest_KeepsPermitUntilCompleted() throws Exception {
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		request.setAsyncSupported(true);
+		jdbcConcurrencyLimiter.preHandle(request, response, null);
+		request.startAsync();
+		jdbcConcurrencyLimiter.afterConcurrentHandlingStarted(request, response, null);
+		assertEquals(0, jdbcConcurrencyLimiter.getAvailablePermits());
+		assertThrows(ServiceOverloadedException.class, () -> jdbcConcurrencyLimiter.preHandle(new MockHttpServletRequest(), response, null));
+
+		request.setAsyncStarted(false);
+		request.setDispatcherType(DispatcherType.ASYNC);
+		assertTrue(jdbcConcurrencyLimiter.preHandle(request, response, null));
+		assertEquals(0, jdbcConcurrencyLimiter.getAvailablePermits());
+
+		jdbcConcurrencyLimiter.afterCompletion(request, response, null, null);
+		request.getAsyncContext().complete();
+		assertEquals(1, jdbcConcurrencyLimiter.getAvailablePermits());
+	}
+
+	/**
+	 * Test for an asynchronous request that ends without its result being
+	 * dispatched, for example on a timeout. Ensures the permit is released when
+	 * the processing ends.
+	 */
+	@Test
+	void asyncRequest_ReleasesPermitWithoutDispatch() throws Exception {
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		request.setAsyncSupported(true);
+		jdbcConcurrencyLimiter.preHandle(request, response, null);
+		AsyncContext asyncContext = request.startAsync();
+		jdbcConcurrencyLimiter.afterConcurrentHandlingStarted(request, response, null);
+		assertEquals(0, jdbcConcurrencyLimiter.getAvailablePermits());
+
+		asyncContext.complete();
+		assertEquals(1, jdbcConcurrencyLimiter.getAvailablePermits());
+	}
+
+}
@@ -0,0 +1,336 @@
+package com.task.emp.mng.sys.load;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.kafka.test.context.EmbeddedKafka;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * End-to-end load test of the employee API. The application runs on a random
+ * port against the embedded H2 databases of the test profile and an embedded
+ * Kafka broker, and many concurrent clients send a weighted mix of create,
+ * update, read and delete requests for a fixed time.
+ * 
+ * <p>
+ * The test reports the throughput and latency percentiles of every operation,
+ * and the end-to-end audit lag: the time from the response of a create
+ * request until its {@code CREATE} row exists in {@code audit_logs}, which
+ * covers the outbox relay, Kafka and the audit consumer. The lag is measured
+ * for every {@code load.audit-sample-rate}-th create.
+ * </p>
+ * 
+ * <p>
+ * The test is tagged {@code load} and only runs with the {@code load-test}
+ * profile, for example:
+ * {@code mvn test -Pload-test -Dload.clients=64 -Dload.duration=60s -Dload.mix=POST:10,PUT:20,GET:65,DELETE:5}.
+ * Application properties such as {@code spring.threads.virtual.enabled} can be
+ * passed the same way to compare configurations.
+ * </p>
+ * 
+ * @author agent
+ * @since 2026-10-17
+ */
+@Tag("load")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+@EmbeddedKafka(partitions = 3, topics = "employee_events", bootstrapServersProperty = "spring.kafka.bootstrap-servers")
+class EmployeeLoadTest {
+
+	/**
+	 * The operations sent by the clients.
+	 */
+	private enum Operation {
+		POST, PUT, GET, DELETE
+	}
+
+	private static final int CLIENTS = Integer.getInteger("load.clients", 32);
+
+	private static final Duration DURATION = Duration.parse("PT" + System.getProperty("load.duration", "20s"));
+
+	private static final String MIX = System.getProperty("load.mix", "POST:20,PUT:20,GET:50,DELETE:10");
+
+	private static final int SEED_EMPLOYEES = Integer.getInteger("load.seed-employees", 1000);
+
+	private static final int AUDIT_SAMPLE_RATE = Integer.getInteger("load.audit-sample-rate", 10);
+
+	private static final Duration AUDIT_TIMEOUT = Duration.ofSeconds(30);
+
+	@LocalServerPort
+	private int port;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	private final HttpClient httpClient = HttpClient.newBuilder().executor(Executors.newVirtualThreadPerTaskExecutor()).build();
+
+	private final List<Long> liveIds = new ArrayList<>();
+
+	private final AtomicLong usernames = new AtomicLong();
+
+	private final Map<Operation, Histogram> latencies = new EnumMap<>(Operation.class);
+
+	private final Map<Operation, LongAdder> misses = new EnumMap<>(Operation.class);
+
+	private final LongAdder rejected = new LongAdder();
+
+	private final LongAdder errors = new LongAdder();
+
+	private final Histogram auditLag = new ConcurrentHistogram(3);
+
+	private final Map<Long, Long> pendingAudits = new ConcurrentHashMap<>();
+
+	/**
+	 * Runs the load and prints the report.
+	 */
+	@Test
+	void load() throws Exception {
+		for (Operation operation : Operation.values()) {
+			latencies.put(operation, new ConcurrentHistogram(3));
+			misses.put(operation, new LongAdder());
+		}
+		Map<Operation, Integer> mix = parseMix(MIX);
+		for (int i = 0; i < SEED_EMPLOYEES; i++) {
+			addLiveId(create());
+		}
+
+		ExecutorService auditPoller = Executors.newSingleThreadExecutor();
+		auditPoller.submit(this::pollAudits);
+		long start = System.nanoTime();
+		long end = start + DURATION.toNanos();
+		try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+			for (int i = 0; i < CLIENTS; i++) {
+				clients.submit(() -> runClient(mix, end));
+			}
+		}
+		double seconds = (System.nanoTime() - start) / 1e9;
+
+		long auditDeadline = System.nanoTime() + AUDIT_TIMEOUT.toNanos();
+		while (!pendingAudits.isEmpty() && System.nanoTime() < auditDeadline) {
+			Thread.sleep(50);
+		}
+		auditPoller.shutdownNow();
+
+		printReport(seconds);
+		assertEquals(0, errors.sum(), "requests failed");
+		assertTrue(pendingAudits.isEmpty(), pendingAudits.size() + " audit rows did not appear within " + AUDIT_TIMEOUT);
+	}
+
+	/**
+	 * Sends requests of randomly chosen operations until the end time.
+	 */
+	private Void runClient(Map<Operation, Integer> mix, long end) throws Exception {
+		int total = mix.values().stream().mapToInt(Integer::intValue).sum();
+		while (System.nanoTime() < end) {
+			int pick = ThreadLocalRandom.current().nextInt(total);
+			Operation operation = null;
+			for (Map.Entry<Operation, Integer> entry : mix.entrySet()) {
+				pick -= entry.getValue();
+				if (pick < 0) {
+					operation = entry.getKey();
+					break;
+				}
+			}
+			execute(operation);
+		}
+		return null;
+	}
+
+	/**
+	 * Sends one request of the given operation and records its outcome.
+	 */
+	private void execute(Operation operation) throws Exception {
+		long id = operation == Operation.POST ? 0 : operation == Operation.DELETE ? takeLiveId() : randomLiveId();
+		if (id < 0) {
+			return;
+		}
+		HttpRequest request = switch (operation) {
+		case POST -> json(HttpRequest.newBuilder(uri("/employees")), "POST", newEmployee());
+		case PUT -> json(HttpRequest.newBuilder(uri("/employees/" + id)), "PUT", Map.of("salary", ThreadLocalRandom.current().nextInt(30000, 150000)));
+		case GET -> HttpRequest.newBuilder(uri("/employees/" + id)).GET().build();
+		case DELETE -> HttpRequest.newBuilder(uri("/employees/" + id)).DELETE().build();
+		};
+
+		long started = System.nanoTime();
+		HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+		long finished = System.nanoTime();
+		int status = response.statusCode();
+		if (status >= 200 && status < 300) {
+			latencies.get(operation).recordValue((finished - started) / 1000);
+			if (operation == Operation.POST) {
+				long created = idOf(response);
+				addLiveId(created);
+				if (created % AUDIT_SAMPLE_RATE == 0) {
+					pendingAudits.put(created, finished);
+				}
+			}
+		} else if (status == 404 || status == 409) {
+			// Another client deleted the employee first
+			misses.get(operation).increment();
+		} else if (status == 503) {
+			rejected.increment();
+		} else {
+			errors.increment();
+		}
+	}
+
+	/**
+	 * Checks which sampled creates have reached the audit log, until interrupted.
+	 */
+	private void pollAudits() {
+		NamedParameterJdbcTemplate audits = new NamedParameterJdbcTemplate(jdbcTemplate);
+		while (!Thread.currentThread().isInterrupted()) {
+			if (!pendingAudits.isEmpty()) {
+				List<String> ids = pendingAudits.keySet().stream().map(String::valueOf).toList();
+				List<String> audited = audits.queryForList("select entity_id from audit_logs where event_type = 'CREATE' and entity_id in (:ids)",
+						Map.of("ids", ids), String.class);
+				long now = System.nanoTime();
+				for (String id : audited) {
+					Long sent = pendingAudits.remove(Long.valueOf(id));
+					if (sent != null) {
+						auditLag.recordValue((now - sent) / 1000);
+					}
+				}
+			}
+			try {
+				Thread.sleep(5);
+			} catch (InterruptedException e) {
+				return;
+			}
+		}
+	}
+
+	/**
+	 * Prints the throughput, the latency percentiles per operation and the audit
+	 * lag.
+	 */
+	private void printReport(double seconds) {
+		StringBuilder report = new StringBuilder();
+		report.append(String.format(Locale.ROOT, "%nLoad test: %d clients for %.1f s, mix %s, virtual threads %s%n", CLIENTS, seconds, MIX,
+				System.getProperty("spring.threads.virtual.enabled", "false")));
+		report.append(String.format(Locale.ROOT, "%-8s %10s %10s %9s %9s %9s %9s %9s %7s%n", "op", "count", "req/s", "p50 ms", "p90 ms", "p99 ms",
+				"p999 ms", "max ms", "misses"));
+		long totalCount = 0;
+		for (Operation operation : Operation.values()) {
+			Histogram histogram = latencies.get(operation);
+			totalCount += histogram.getTotalCount();
+			report.append(row(operation.name(), histogram, seconds)).append(String.format(Locale.ROOT, " %7d%n", misses.get(operation).sum()));
+		}
+		report.append(String.format(Locale.ROOT, "total    %10d %10.1f    rejected %d, errors %d%n", totalCount, totalCount / seconds, rejected.sum(),
+				errors.sum()));
+		report.append(row("audit", auditLag, 0)).append(String.format(Locale.ROOT, "   (create response until audit row)%n"));
+		System.out.println(report);
+	}
+
+	/**
+	 * Formats the count, rate and percentiles of a histogram in microseconds.
+	 */
+	private static String row(String name, Histogram histogram, double seconds) {
+		return String.format(Locale.ROOT, "%-8s %10d %10s %9.2f %9.2f %9.2f %9.2f %9.2f", name, histogram.getTotalCount(),
+				seconds > 0 ? String.format(Locale.ROOT, "%.1f", histogram.getTotalCount() / seconds) : "-", histogram.getValueAtPercentile(50) / 1000.0,
+				histogram.getValueAtPercentile(90) / 1000.0, histogram.getValueAtPercentile(99) / 1000.0, histogram.getValueAtPercentile(99.9) / 1000.0,
+				histogram.getMaxValue() / 1000.0);
+	}
+
+	/**
+	 * Parses an operation mix such as {@code POST:20,GET:80}.
+	 */
+	private static Map<Operation, Integer> parseMix(String mix) {
+		Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+		for (String part : mix.split(",")) {
+			String[] weight = part.trim().split(":");
+			weights.put(Operation.valueOf(weight[0].trim().toUpperCase(Locale.ROOT)), Integer.parseInt(weight[1].trim()));
+		}
+		return weights;
+	}
+
+	/**
+	 * Creates an employee directly, for seeding.
+	 */
+	private long create() throws Exception {
+		HttpRequest request = json(HttpRequest.newBuilder(uri("/employees")), "POST", newEmployee());
+		return idOf(httpClient.send(request, HttpResponse.BodyHandlers.ofString()));
+	}
+
+	private Map<String, Object> newEmployee() {
+		long number = usernames.incrementAndGet();
+		Map<String, Object> employee = new HashMap<>();
+		employee.put("name", "Load Employee " + number);
+		employee.put("username", "load" + number);
+		employee.put("department", "Department " + number % 20);
+		employee.put("salary", 50000 + number % 1000);
+		return employee;
+	}
+
+	private HttpRequest json(HttpRequest.Builder builder, String method, Object body) throws Exception {
+		return builder.header("Content-Type", "application/json").method(method, HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body)))
+				.build();
+	}
+
+	private long idOf(HttpResponse<String> response) throws Exception {
+		JsonNode body = objectMapper.readTree(response.body());
+		return body.path("body").path("id").asLong();
+	}
+
+	private URI uri(String path) {
+		return URI.create("http://localhost:" + port + path);
+	}
+
+	private void addLiveId(long id) {
+		synchronized (liveIds) {
+			liveIds.add(id);
+		}
+	}
+
+	private long randomLiveId() {
+		synchronized (liveIds) {
+			return liveIds.isEmpty() ? -1 : liveIds.get(ThreadLocalRandom.current().nextInt(liveIds.size()));
+		}
+	}
+
+	private long takeLiveId() {
+		synchronized (liveIds) {
+			if (liveIds.isEmpty()) {
+				return -1;
+			}
+			int index = ThreadLocalRandom.current().nextInt(liveIds.size());
+			long id = liveIds.get(index);
+			liveIds.set(index, liveIds.get(liveIds.size() - 1));
+			liveIds.remove(liveIds.size() - 1);
+			return id;
+		}
+	}
+
+}
@@ -0,0 +1,96 @@
+package com.task.emp.mng.sys.migration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.sql.Connection;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+
+/**
+ * Unit tests for the {@link SequenceSeedMigration} class, run against an
+ * embedded database holding a table whose IDs were generated by the database.
+ *
+ * @author agent
+ * @since 2026-10-17
+ */
+class SequenceSeedMigrationTest {
+
+	private EmbeddedDatabase database;
+
+	private JdbcTemplate jdbcTemplate;
+
+	/**
+	 * Creates a database with employees up to ID 120 before each test.
+	 */
+	@BeforeEach
+	void setUp() {
+		database = new EmbeddedDatabaseBuilder().setType(EmbeddedDatabaseType.H2).setName("sequence-seed").build();
+		jdbcTemplate = new JdbcTemplate(database);
+		jdbcTemplate.execute("create table employees (id bigint primary key)");
+		jdbcTemplate.update("insert into employees (id) values (1), (7), (120)");
+	}
+
+	/**
+	 * Shuts the database down after each test.
+	 */
+	@AfterEach
+	void tearDown() {
+		database.shutdown();
+	}
+
+	/**
+	 * Test for a database without the sequence table. Ensures it is created more
+	 * than one allocation block above the highest ID, and that running the
+	 * migration again changes nothing.
+	 */
+	@Test
+	void seed_CreatesSequenceAboveHighestId() throws Exception {
+		try (Connection connection = database.getConnection()) {
+			SequenceSeedMigration.seedTableSequence(connection, "employees", "employee_seq", 50);
+			SequenceSeedMigration.seedTableSequence(connection, "employees", "employee_seq", 50);
+		}
+		assertEquals(171L, jdbcTemplate.queryForObject("select next_val from employee_seq", Long.class));
+		assertEquals(1, jdbcTemplate.queryForObject("select count(*) from employee_seq", Integer.class));
+	}
+
+	/**
+	 * Test for a sequence table created by Hibernate at 1 before the migration
+	 * ran. Ensures it is raised above the highest ID, while a sequence already
+	 * above it is left alone.
+	 */
+	@Test
+	void seed_RaisesLowSequenceOnly() throws Exception {
+		jdbcTemplate.execute("create table employee_seq (next_val bigint)");
+		jdbcTemplate.update("insert into employee_seq (next_val) values (1)");
+		try (Connection connection = database.getConnection()) {
+			SequenceSeedMigration.seedTableSequence(connection, "employees", "employee_seq", 50);
+		}
+		assertEquals(171L, jdbcTemplate.queryForObject("select next_val from employee_seq", Long.class));
+
+		jdbcTemplate.update("update employee_seq set next_val = 1000");
+		try (Connection connection = database.getConnection()) {
+			SequenceSeedMigration.seedTableSequence(connection, "employees", "employee_seq", 50);
+		}
+		assertEquals(1000L, jdbcTemplate.queryForObject("select next_val from employee_seq", Long.class));
+	}
+
+	/**
+	 * Test for a new database. Ensures nothing is created, leaving the schema to
+	 * Hibernate.
+	 */
+	@Test
+	void seed_SkipsMissingTable() throws Exception {
+		try (Connection connection = database.getConnection()) {
+			SequenceSeedMigration.seedTableSequence(connection, "audit_logs", "audit_log_seq", 100);
+			assertFalse(Schema.tableExists(connection, "audit_log_seq"));
+		}
+	}
+
+}
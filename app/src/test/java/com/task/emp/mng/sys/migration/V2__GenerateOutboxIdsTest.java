@@ -0,0 +1,77 @@
+package com.task.emp.mng.sys.migration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+/**
+ * Unit tests for the {@link V2__GenerateOutboxIds} migration, run against an
+ * embedded database in MySQL mode holding an outbox with sequence IDs.
+ *
+ * @author agent
+ * @since 2026-10-17
+ */
+class V2__GenerateOutboxIdsTest {
+
+	private DriverManagerDataSource dataSource;
+
+	private JdbcTemplate jdbcTemplate;
+
+	/**
+	 * Creates the outbox table as it was while its IDs came from a sequence.
+	 */
+	@BeforeEach
+	void setUp() {
+		dataSource = new DriverManagerDataSource("jdbc:h2:mem:outbox-ids;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1");
+		jdbcTemplate = new JdbcTemplate(dataSource);
+		jdbcTemplate.execute("create table employee_outbox (id bigint not null primary key, aggregate_id bigint not null)");
+		jdbcTemplate.update("insert into employee_outbox (id, aggregate_id) values (120, 7)");
+	}
+
+	/**
+	 * Drops the database after each test.
+	 */
+	@AfterEach
+	void tearDown() {
+		jdbcTemplate.execute("drop all objects");
+	}
+
+	/**
+	 * Test for an outbox with sequence IDs. Ensures the IDs become generated,
+	 * keeping the pending row, and that running the migration again changes
+	 * nothing.
+	 */
+	@Test
+	void generateIds_MakesIdGenerated() throws SQLException {
+		try (Connection connection = dataSource.getConnection()) {
+			assertTrue(V2__GenerateOutboxIds.generateIds(connection));
+			assertFalse(V2__GenerateOutboxIds.generateIds(connection));
+		}
+		jdbcTemplate.update("insert into employee_outbox (aggregate_id) values (8)");
+
+		assertEquals(7L, jdbcTemplate.queryForObject("select aggregate_id from employee_outbox where id = 120", Long.class));
+		assertEquals(2, jdbcTemplate.queryForObject("select count(*) from employee_outbox", Integer.class));
+	}
+
+	/**
+	 * Test for a new database. Ensures nothing is changed, leaving the schema to
+	 * Hibernate.
+	 */
+	@Test
+	void generateIds_SkipsMissingTable() throws SQLException {
+		jdbcTemplate.execute("drop table employee_outbox");
+		try (Connection connection = dataSource.getConnection()) {
+			assertFalse(V2__GenerateOutboxIds.generateIds(connection));
+		}
+	}
+
+}
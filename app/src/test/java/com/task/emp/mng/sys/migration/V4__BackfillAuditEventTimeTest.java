@@ -0,0 +1,104 @@
+package com.task.emp.mng.sys.migration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+/**
+ * Unit tests for the {@link V4__BackfillAuditEventTime} migration, run against
+ * an embedded database in MySQL mode holding audit logs with text times.
+ *
+ * @author agent
+ * @since 2026-10-17
+ */
+class V4__BackfillAuditEventTimeTest {
+
+	private static final ZoneId ZONE = ZoneId.of("Asia/Kolkata");
+
+	private DriverManagerDataSource dataSource;
+
+	private JdbcTemplate jdbcTemplate;
+
+	/**
+	 * Creates the audit log table as it was before the event time existed.
+	 */
+	@BeforeEach
+	void setUp() {
+		dataSource = new DriverManagerDataSource("jdbc:h2:mem:audit-backfill;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1");
+		jdbcTemplate = new JdbcTemplate(dataSource);
+		jdbcTemplate.execute("create table audit_logs (id bigint primary key, event_type varchar(255), `timestamp` varchar(255))");
+	}
+
+	/**
+	 * Drops the database after each test.
+	 */
+	@AfterEach
+	void tearDown() {
+		jdbcTemplate.execute("drop all objects");
+	}
+
+	/**
+	 * Test for a table with more rows than one batch. Ensures every text time is
+	 * converted from the zone it was recorded in, unreadable times become the
+	 * epoch, and the column no longer accepts nulls.
+	 */
+	@Test
+	void backfill_ConvertsTextTimes() throws SQLException {
+		LocalDateTime first = LocalDateTime.parse("2024-10-11T10:15:30.123456");
+		for (int id = 1; id <= V4__BackfillAuditEventTime.BATCH_SIZE + 10; id++) {
+			jdbcTemplate.update("insert into audit_logs (id, event_type, `timestamp`) values (?, 'CREATE', ?)", id,
+					first.plusSeconds(id).toString());
+		}
+		jdbcTemplate.update("insert into audit_logs (id, event_type, `timestamp`) values (5000, 'DELETE', 'yesterday'), (5001, 'READ', null)");
+
+		int unparsable;
+		try (Connection connection = dataSource.getConnection()) {
+			unparsable = V4__BackfillAuditEventTime.backfillEventTime(connection, ZONE);
+		}
+
+		assertEquals(2, unparsable);
+		assertEquals(first.plusSeconds(1).atZone(ZONE).toInstant(), eventTimeOf(1));
+		assertEquals(first.plusSeconds(1010).atZone(ZONE).toInstant(), eventTimeOf(1010));
+		assertEquals(Instant.EPOCH, eventTimeOf(5000));
+		assertEquals(Instant.EPOCH, eventTimeOf(5001));
+		assertEquals(0, jdbcTemplate.queryForObject("select count(*) from audit_logs where event_time is null", Integer.class));
+		assertThrows(Exception.class, () -> jdbcTemplate.update("insert into audit_logs (id, event_type) values (6000, 'CREATE')"));
+	}
+
+	/**
+	 * Test for a table created with the event time only. Ensures the migration
+	 * leaves it alone.
+	 */
+	@Test
+	void backfill_SkipsTableWithoutTextTimes() throws SQLException {
+		jdbcTemplate.execute("drop table audit_logs");
+		jdbcTemplate.execute("create table audit_logs (id bigint primary key, event_time datetime(6))");
+		jdbcTemplate.update("insert into audit_logs (id) values (1)");
+
+		try (Connection connection = dataSource.getConnection()) {
+			assertEquals(0, V4__BackfillAuditEventTime.backfillEventTime(connection, ZONE));
+		}
+		assertEquals(1, jdbcTemplate.queryForObject("select count(*) from audit_logs where event_time is null", Integer.class));
+	}
+
+	/**
+	 * Returns the event time of an audit log, read back as UTC the way
+	 * Hibernate reads it.
+	 */
+	private Instant eventTimeOf(long id) {
+		return jdbcTemplate.queryForObject("select event_time from audit_logs where id = ?", LocalDateTime.class, id).toInstant(ZoneOffset.UTC);
+	}
+
+}
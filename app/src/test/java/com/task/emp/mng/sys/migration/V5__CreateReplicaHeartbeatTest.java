@@ -0,0 +1,63 @@
+package com.task.emp.mng.sys.migration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+/**
+ * Unit tests for the {@link V5__CreateReplicaHeartbeat} migration, run against
+ * an embedded database in MySQL mode.
+ *
+ * @author agent
+ * @since 2026-10-17
+ */
+class V5__CreateReplicaHeartbeatTest {
+
+	private DriverManagerDataSource dataSource;
+
+	private JdbcTemplate jdbcTemplate;
+
+	/**
+	 * Creates an empty database before each test.
+	 */
+	@BeforeEach
+	void setUp() {
+		dataSource = new DriverManagerDataSource("jdbc:h2:mem:replica-heartbeat;MODE=MySQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1");
+		jdbcTemplate = new JdbcTemplate(dataSource);
+	}
+
+	/**
+	 * Drops the database after each test.
+	 */
+	@AfterEach
+	void tearDown() {
+		jdbcTemplate.execute("drop all objects");
+	}
+
+	/**
+	 * Test for a database without the table. Ensures it is created, and that
+	 * running the migration again keeps the stored heartbeat.
+	 */
+	@Test
+	void createTable_CreatesOnce() throws SQLException {
+		try (Connection connection = dataSource.getConnection()) {
+			assertTrue(V5__CreateReplicaHeartbeat.createTable(connection));
+		}
+		jdbcTemplate.update("insert into replica_heartbeat (id, beat_time) values (1, 42)");
+		try (Connection connection = dataSource.getConnection()) {
+			assertFalse(V5__CreateReplicaHeartbeat.createTable(connection));
+		}
+
+		assertEquals(42L, jdbcTemplate.queryForObject("select beat_time from replica_heartbeat where id = 1", Long.class));
+	}
+
+}
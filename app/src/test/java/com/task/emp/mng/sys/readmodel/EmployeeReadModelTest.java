@@ -0,0 +1,223 @@
+package com.task.emp.mng.sys.readmodel;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.common.KafkaException;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import com.task.emp.mng.sys.entity.Employee;
+import com.task.emp.mng.sys.event.EmployeeEvent;
+import com.task.emp.mng.sys.event.EmployeeEventType;
+import com.task.emp.mng.sys.repository.EmployeeRepository;
+import com.task.emp.mng.sys.utils.Constants;
+
+/**
+ * Unit tests for the {@link EmployeeReadModel} class, covering how events are
+ * applied and how the model is queried.
+ * 
+ * @author agent
+ * @since 2026-10-17
+ */
+class EmployeeReadModelTest {
+
+	private EmployeeReadModel employeeReadModel;
+
+	/**
+	 * Creates an empty read model before each test.
+	 */
+	@BeforeEach
+	void setUp() {
+		employeeReadModel = new EmployeeReadModel();
+	}
+
+	/**
+	 * Test for applying events out of version order. Ensures an older or
+	 * redelivered event never replaces a newer state, and that a delete removes
+	 * the employee.
+	 */
+	@Test
+	void apply_KeepsNewestVersion() {
+		employeeReadModel.apply(event(EmployeeEventType.CREATE, 1L, "IT", 0L));
+		employeeReadModel.apply(event(EmployeeEventType.UPDATE, 1L, "Finance", 2L));
+		employeeReadModel.apply(event(EmployeeEventType.UPDATE, 1L, "HR", 1L));
+		assertEquals("Finance", employeeReadModel.get(1L).getDepartment());
+		assertEquals(2L, employeeReadModel.get(1L).getVersion());
+
+		employeeReadModel.apply(event(EmployeeEventType.DELETE, 1L, null, null));
+		assertNull(employeeReadModel.get(1L));
+	}
+
+	/**
+	 * Test for the collection version. Ensures it is made of the employee count,
+	 * version sum and highest ID like the version read from the database, and
+	 * that ignored events do not change it.
+	 */
+	@Test
+	void getCollectionVersion_FollowsEmployees() {
+		assertEquals("0-0-0", employeeReadModel.getCollectionVersion());
+		employeeReadModel.apply(event(EmployeeEventType.CREATE, 1L, "IT", 0L));
+		employeeReadModel.apply(event(EmployeeEventType.CREATE, 2L, "IT", 0L));
+		assertEquals("2-0-2", employeeReadModel.getCollectionVersion());
+
+		employeeReadModel.apply(event(EmployeeEventType.UPDATE, 1L, "HR", 1L));
+		employeeReadModel.apply(event(EmployeeEventType.UPDATE, 1L, "Finance", 0L));
+		assertEquals("2-1-2", employeeReadModel.getCollectionVersion());
+
+		employeeReadModel.apply(event(EmployeeEventType.DELETE, 2L, null, null));
+		employeeReadModel.apply(event(EmployeeEventType.UPDATE, 2L, "HR", 1L));
+		assertEquals("1-1-1", employeeReadModel.getCollectionVersion());
+	}
+
+	/**
+	 * Test for events without the full employee state, such as legacy events.
+	 * Ensures they are ignored.
+	 */
+	@Test
+	void apply_IgnoresPartialEvents() {
+		employeeReadModel.apply(new EmployeeEvent(EmployeeEventType.CREATE, 1L, null, 0L, null));
+		employeeReadModel.apply(null);
+		assertNull(employeeReadModel.get(1L));
+	}
+
+	/**
+	 * Test for keyset pages. Ensures employees after the cursor are returned in ID
+	 * order up to the limit.
+	 */
+	@Test
+	void getPage_ReturnsEmployeesAfterCursor() {
+		for (long id = 1; id <= 5; id++) {
+			employeeReadModel.apply(event(EmployeeEventType.CREATE, id, "IT", 0L));
+		}
+
+		List<Employee> page = employeeReadModel.getPage(2L, 2);
+		assertEquals(2, page.size());
+		assertEquals(3L, page.get(0).getId());
+		assertEquals(4L, page.get(1).getId());
+	}
+
+	/**
+	 * Test for create and update events arriving after the delete of the
+	 * employee, as redelivered or reordered events do. Ensures the deleted
+	 * employee does not come back, whatever the version of the event.
+	 */
+	@Test
+	void apply_RejectsEventsAfterDelete() {
+		employeeReadModel.apply(event(EmployeeEventType.CREATE, 1L, "IT", 0L));
+		employeeReadModel.apply(event(EmployeeEventType.DELETE, 1L, null, null));
+		employeeReadModel.apply(event(EmployeeEventType.UPDATE, 1L, "HR", 1L));
+		employeeReadModel.apply(event(EmployeeEventType.CREATE, 1L, "HR", 0L));
+		assertNull(employeeReadModel.get(1L));
+
+		employeeReadModel.apply(event(EmployeeEventType.DELETE, 2L, null, null));
+		employeeReadModel.apply(event(EmployeeEventType.CREATE, 2L, "IT", 0L));
+		assertNull(employeeReadModel.get(2L));
+		assertTrue(employeeReadModel.getPage(0L, 10).isEmpty());
+		assertEquals(0, employeeReadModel.getStatus().get("size"));
+	}
+
+	/**
+	 * Test for many employees arriving out of ID order, some of them deleted.
+	 * Ensures lookups, pages and the full iteration see exactly the live
+	 * employees in ID order.
+	 */
+	@Test
+	void getPage_ManyEmployeesOutOfOrder() {
+		for (long id = 5000; id >= 1; id--) {
+			employeeReadModel.apply(event(EmployeeEventType.CREATE, id, "IT", 0L));
+		}
+		for (long id = 2; id <= 5000; id += 2) {
+			employeeReadModel.apply(event(EmployeeEventType.DELETE, id, null, null));
+		}
+
+		assertEquals(4999L, employeeReadModel.get(4999L).getId());
+		assertNull(employeeReadModel.get(5000L));
+		List<Employee> page = employeeReadModel.getPage(10L, 3);
+		assertEquals(List.of(11L, 13L, 15L), page.stream().map(Employee::getId).toList());
+		List<Long> ids = new ArrayList<>();
+		employeeReadModel.forEach(employee -> ids.add(employee.getId()));
+		assertEquals(2500, ids.size());
+		assertEquals(1L, ids.get(0));
+		assertEquals(4999L, ids.get(2499));
+	}
+
+	/**
+	 * Test for a bootstrap failing because the topic cannot be read. Ensures the
+	 * model reports not ready, and bootstraps again and becomes ready once the
+	 * topic is available.
+	 */
+	@Test
+	@SuppressWarnings("unchecked")
+	void start_RetriesAfterFailure() throws Exception {
+		ConsumerFactory<String, EmployeeEvent> consumerFactory = mock(ConsumerFactory.class);
+		Consumer<String, EmployeeEvent> failing = mock(Consumer.class);
+		Consumer<String, EmployeeEvent> working = mock(Consumer.class);
+		when(consumerFactory.createConsumer(any(), any(), any(), any())).thenReturn(failing, working);
+		when(failing.partitionsFor(Constants.EMPLOYEE_EVENTS)).thenThrow(new KafkaException("broker unavailable"));
+		TopicPartition partition = new TopicPartition(Constants.EMPLOYEE_EVENTS, 0);
+		when(working.partitionsFor(Constants.EMPLOYEE_EVENTS)).thenReturn(List.of(new PartitionInfo(Constants.EMPLOYEE_EVENTS, 0, null, null, null)));
+		when(working.endOffsets(anyList())).thenReturn(Map.of(partition, 0L));
+		when(working.poll(any(Duration.class))).thenReturn(ConsumerRecords.empty());
+		when(working.currentLag(partition)).thenReturn(OptionalLong.of(0));
+		EmployeeRepository employeeRepository = mock(EmployeeRepository.class);
+		when(employeeRepository.streamAllBy()).thenReturn(Stream.empty());
+
+		ReflectionTestUtils.setField(employeeReadModel, "consumerFactory", consumerFactory);
+		ReflectionTestUtils.setField(employeeReadModel, "employeeRepository", employeeRepository);
+		ReflectionTestUtils.setField(employeeReadModel, "transactionManager", mock(PlatformTransactionManager.class));
+		ReflectionTestUtils.setField(employeeReadModel, "pollTimeout", Duration.ofMillis(10));
+		try {
+			ReflectionTestUtils.setField(employeeReadModel, "retryBackoff", Duration.ofSeconds(1));
+			employeeReadModel.start();
+			long deadline = System.currentTimeMillis() + 5000;
+			while (employeeReadModel.getStatus().get("failures").equals(0) && System.currentTimeMillis() < deadline) {
+				Thread.sleep(10);
+			}
+			assertEquals(1, employeeReadModel.getStatus().get("failures"));
+			assertFalse(employeeReadModel.isReady());
+
+			while (!employeeReadModel.isReady() && System.currentTimeMillis() < deadline) {
+				Thread.sleep(10);
+			}
+			assertTrue(employeeReadModel.isReady());
+			assertEquals(0, employeeReadModel.getStatus().get("failures"));
+		} finally {
+			employeeReadModel.stop();
+		}
+	}
+
+	/**
+	 * Creates an employee event carrying the full state of an employee, or no
+	 * fields if no version is given.
+	 */
+	private EmployeeEvent event(EmployeeEventType type, long id, String department, Long version) {
+		Map<String, String> fields = version == null ? null
+				: Map.of(EmployeeEvent.FIELD_NAME, "Employee " + id, EmployeeEvent.FIELD_USERNAME, "employee" + id,
+						EmployeeEvent.FIELD_DEPARTMENT, department, EmployeeEvent.FIELD_SALARY, "1000.0", EmployeeEvent.FIELD_VERSION,
+						String.valueOf(version));
+		return new EmployeeEvent(type, id, UUID.randomUUID(), System.currentTimeMillis(), fields);
+	}
+
+}
@@ -0,0 +1,116 @@
+package com.task.emp.mng.sys.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import com.task.emp.mng.sys.response.SearchResult;
+
+/**
+ * Unit tests for the {@link EmployeeSearchIndex} class, covering prefix and
+ * fuzzy matching, ranking and index updates.
+ * 
+ * @author agent
+ * @since 2026-10-17
+ */
+class EmployeeSearchIndexTest {
+
+	private EmployeeSearchIndex employeeSearchIndex;
+
+	/**
+	 * Creates an index holding a few employees before each test.
+	 */
+	@BeforeEach
+	void setUp() {
+		employeeSearchIndex = new EmployeeSearchIndex();
+		employeeSearchIndex.put(1L, "Johnathan Smith", "jsmith");
+		employeeSearchIndex.put(2L, "John Doe", "jdoe");
+		employeeSearchIndex.put(3L, "Jane Doe", "jane");
+		employeeSearchIndex.put(4L, "Mary Major", "mmajor");
+	}
+
+	/**
+	 * Test for a prefix query. Ensures every word starting with the query matches
+	 * and equal matches are returned in index order.
+	 */
+	@Test
+	void search_Prefix() {
+		List<SearchResult> results = employeeSearchIndex.search("joh", 10);
+		assertEquals(2, results.size());
+		assertEquals(1L, results.get(0).getId());
+		assertEquals(2L, results.get(1).getId());
+		assertEquals(1.0, results.get(0).getScore());
+	}
+
+	/**
+	 * Test for a misspelled query. Ensures approximate matches are found and
+	 * ranked below exact ones.
+	 */
+	@Test
+	void search_Fuzzy() {
+		List<SearchResult> results = employeeSearchIndex.search("mayjor", 10);
+		assertEquals(4L, results.get(0).getId());
+		assertTrue(results.get(0).getScore() < 1.0);
+	}
+
+	/**
+	 * Test for the result limit and for queries on the username and several words.
+	 */
+	@Test
+	void search_LimitAndUsername() {
+		assertEquals(1, employeeSearchIndex.search("doe", 1).size());
+		assertEquals(3L, employeeSearchIndex.search("jane doe", 10).get(0).getId());
+		assertEquals(1L, employeeSearchIndex.search("jsmi", 10).get(0).getId());
+		assertTrue(employeeSearchIndex.search("  ", 10).isEmpty());
+	}
+
+	/**
+	 * Test for updates and removals. Ensures old names no longer match and
+	 * removed employees disappear, also after the index has been compacted.
+	 */
+	@Test
+	void putAndRemove_UpdateResults() {
+		employeeSearchIndex.put(2L, "Peter Doe", "pdoe");
+		assertEquals(1, employeeSearchIndex.search("john", 10).size());
+		assertEquals(2L, employeeSearchIndex.search("peter", 10).get(0).getId());
+
+		for (long id = 100; id < 3100; id++) {
+			employeeSearchIndex.put(id, "Temp " + id, "temp" + id);
+		}
+		for (long id = 100; id < 3100; id++) {
+			employeeSearchIndex.remove(id);
+		}
+		employeeSearchIndex.remove(3L);
+		assertTrue(employeeSearchIndex.search("temp", 10).isEmpty());
+		assertTrue(employeeSearchIndex.search("jane", 10).isEmpty());
+		assertEquals(2L, employeeSearchIndex.search("peter", 10).get(0).getId());
+	}
+
+	/**
+	 * Test for repeated updates of the same employees. Ensures updates leaving
+	 * the name and username unchanged do not touch the index, and that renames
+	 * are compacted away so the index does not grow with the number of updates.
+	 */
+	@Test
+	void put_UpdatesDoNotGrowIndex() {
+		int slots = employeeSearchIndex.getSlotCount();
+		for (int i = 0; i < 10_000; i++) {
+			employeeSearchIndex.put(1L, "Johnathan Smith", "jsmith");
+		}
+		assertEquals(slots, employeeSearchIndex.getSlotCount());
+
+		for (int i = 0; i < 100_000; i++) {
+			employeeSearchIndex.put(4L, "Mary Major " + i, "mmajor");
+		}
+		assertTrue(employeeSearchIndex.getSlotCount() <= 2 * 1024 + slots, "slots " + employeeSearchIndex.getSlotCount());
+		List<SearchResult> results = employeeSearchIndex.search("mary", 10);
+		assertEquals(1, results.size());
+		assertEquals("Mary Major 99999", results.get(0).getName());
+		assertEquals(1L, employeeSearchIndex.search("johnathan", 10).get(0).getId());
+	}
+
+}
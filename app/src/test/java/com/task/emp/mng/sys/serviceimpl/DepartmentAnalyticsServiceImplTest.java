@@ -0,0 +1,100 @@
+package com.task.emp.mng.sys.serviceimpl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import com.task.emp.mng.sys.event.EmployeeChangedEvent;
+import com.task.emp.mng.sys.repository.DepartmentSalaryCount;
+import com.task.emp.mng.sys.repository.EmployeeRepository;
+import com.task.emp.mng.sys.response.DepartmentStatistics;
+import com.task.emp.mng.sys.service.impl.DepartmentAnalyticsServiceImpl;
+
+/**
+ * Unit tests for the {@link DepartmentAnalyticsServiceImpl} class, covering the
+ * seeding of the aggregate and the deltas applied by employee changes.
+ * 
+ * @author agent
+ * @since 2026-10-17
+ */
+class DepartmentAnalyticsServiceImplTest {
+
+	@InjectMocks
+	private DepartmentAnalyticsServiceImpl departmentAnalyticsService;
+
+	@Mock
+	private EmployeeRepository employeeRepository;
+
+	/**
+	 * Set up the mocks and seed the aggregate with two IT salaries, one of them
+	 * earned by two employees, and one HR salary.
+	 */
+	@BeforeEach
+	void setUp() {
+		MockitoAnnotations.openMocks(this);
+		List<DepartmentSalaryCount> rows = List.of(row("IT", 1000.0, 2L), row("IT", 4000.0, 1L), row("HR", 2000.0, 1L));
+		when(employeeRepository.countByDepartmentAndSalary()).thenReturn(rows);
+		departmentAnalyticsService.seed();
+	}
+
+	/**
+	 * Test for the seeded statistics. Ensures every department is reported in
+	 * name order with its headcount and salary figures.
+	 */
+	@Test
+	void getDepartmentStatistics_Seeded() {
+		List<DepartmentStatistics> statistics = departmentAnalyticsService.getDepartmentStatistics();
+		assertEquals(2, statistics.size());
+		assertEquals("HR", statistics.get(0).getDepartment());
+
+		DepartmentStatistics it = statistics.get(1);
+		assertEquals(3, it.getHeadcount());
+		assertEquals(6000.0, it.getTotalSalary());
+		assertEquals(1000.0, it.getMinSalary());
+		assertEquals(4000.0, it.getMaxSalary());
+		assertEquals(2000.0, it.getAverageSalary());
+	}
+
+	/**
+	 * Test for the deltas of employee changes. Ensures the highest salary is
+	 * recomputed when its only holder moves department, and that a department
+	 * without employees is dropped.
+	 */
+	@Test
+	void onEmployeeChanged_AppliesDeltas() {
+		departmentAnalyticsService.onEmployeeChanged(new EmployeeChangedEvent(3L, "IT", 4000.0, "Finance", 4500.0, "Jane Doe", "jdoe"));
+		departmentAnalyticsService.onEmployeeChanged(new EmployeeChangedEvent(4L, "HR", 2000.0, null, null, null, null));
+		departmentAnalyticsService.onEmployeeChanged(new EmployeeChangedEvent(5L, null, null, "IT", 500.0, "John Doe", "john"));
+
+		List<DepartmentStatistics> statistics = departmentAnalyticsService.getDepartmentStatistics();
+		assertEquals(2, statistics.size());
+		assertEquals("Finance", statistics.get(0).getDepartment());
+		assertEquals(4500.0, statistics.get(0).getMaxSalary());
+
+		DepartmentStatistics it = statistics.get(1);
+		assertEquals(3, it.getHeadcount());
+		assertEquals(2500.0, it.getTotalSalary());
+		assertEquals(500.0, it.getMinSalary());
+		assertEquals(1000.0, it.getMaxSalary());
+	}
+
+	/**
+	 * Creates a row of the seeding query.
+	 */
+	private DepartmentSalaryCount row(String department, Double salary, Long headcount) {
+		DepartmentSalaryCount row = mock(DepartmentSalaryCount.class);
+		when(row.getDepartment()).thenReturn(department);
+		when(row.getSalary()).thenReturn(salary);
+		when(row.getHeadcount()).thenReturn(headcount);
+		return row;
+	}
+
+}
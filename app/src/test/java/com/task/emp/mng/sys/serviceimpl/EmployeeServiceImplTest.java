@@ -0,0 +1,691 @@
+package com.task.emp.mng.sys.serviceimpl;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.task.emp.mng.sys.cache.EmployeeCache;
+import com.task.emp.mng.sys.cache.UsernameBloomFilter;
+import com.task.emp.mng.sys.entity.Employee;
+import com.task.emp.mng.sys.entity.EmployeeCollectionVersion;
+import com.task.emp.mng.sys.entity.OutboxEvent;
+import com.task.emp.mng.sys.event.EmployeeChangedEvent;
+import com.task.emp.mng.sys.event.EmployeeEvent;
+import com.task.emp.mng.sys.event.EmployeeEventType;
+import com.task.emp.mng.sys.event.ReadEventAggregator;
+import com.task.emp.mng.sys.exception.DuplicateUsernameException;
+import com.task.emp.mng.sys.exception.InvalidRequestException;
+import com.task.emp.mng.sys.readmodel.EmployeeReadModel;
+import com.task.emp.mng.sys.repository.EmployeeCollectionVersionRepository;
+import com.task.emp.mng.sys.repository.EmployeeRepository;
+import com.task.emp.mng.sys.repository.EmployeeSalary;
+import com.task.emp.mng.sys.repository.EmployeeSummary;
+import com.task.emp.mng.sys.repository.OutboxEventRepository;
+import com.task.emp.mng.sys.response.BulkItemResult;
+import com.task.emp.mng.sys.response.KeysetPage;
+import com.task.emp.mng.sys.service.impl.EmployeeServiceImpl;
+import com.task.emp.mng.sys.utils.Constants;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Unit tests for the {@link EmployeeServiceImpl} class. This class uses Mockito
+ * to mock the dependencies of {@link EmployeeServiceImpl}, such as
+ * {@link EmployeeRepository} and {@link OutboxEventRepository}, and tests the
+ * core functionality.
+ * 
+ * @author Jatin
+ * @since 2024-10-11
+ */
+class EmployeeServiceImplTest {
+
+	@InjectMocks
+	private EmployeeServiceImpl employeeService;
+
+	@Mock
+	private EmployeeRepository employeeRepository;
+
+	@Mock
+	private EmployeeCollectionVersionRepository collectionVersionRepository;
+
+	@Mock
+	private OutboxEventRepository outboxEventRepository;
+
+	@Mock
+	private ReadEventAggregator readEventAggregator;
+
+	@Mock
+	private EntityManager entityManager;
+
+	@Mock
+	private ApplicationEventPublisher eventPublisher;
+
+	@Mock
+	private EmployeeReadModel employeeReadModel;
+
+	@Spy
+	private EmployeeCache employeeCache = new EmployeeCache(100, Duration.ofMinutes(1));
+
+	@Spy
+	private UsernameBloomFilter usernameFilter = new UsernameBloomFilter(100, 0.01);
+
+	/**
+	 * Set up the mocks before each test.
+	 */
+	@BeforeEach
+	void setUp() {
+		MockitoAnnotations.openMocks(this);
+		ReflectionTestUtils.setField(employeeService, "analyticsEnabled", true);
+	}
+
+	/**
+	 * Test for successful employee creation. Verifies the saved employee and the
+	 * event recorded in the outbox.
+	 */
+	@Test
+	void createEmployee_Success() {
+		Employee employee = new Employee(null, "John Doe", "jdoe", "IT", 60000.0);
+		Employee savedEmployee = new Employee(1L, "John Doe", "jdoe", "IT", 60000.0);
+
+		when(employeeRepository.save(employee)).thenReturn(savedEmployee);
+
+		Employee createdEmployee = employeeService.createEmployee(employee);
+		assertEquals("John Doe", createdEmployee.getName());
+		assertEquals("jdoe", createdEmployee.getUsername()); // Added username verification
+		assertEquals(1L, createdEmployee.getId());
+		verify(outboxEventRepository).save(any(OutboxEvent.class));
+
+		ArgumentCaptor<EmployeeChangedEvent> captor = ArgumentCaptor.forClass(EmployeeChangedEvent.class);
+		verify(eventPublisher).publishEvent(captor.capture());
+		assertNull(captor.getValue().getOldDepartment());
+		assertEquals("IT", captor.getValue().getNewDepartment());
+		assertEquals(60000.0, captor.getValue().getNewSalary());
+	}
+
+	/**
+	 * Test that a username the filter might contain is looked up, and a taken one
+	 * is rejected before anything is saved.
+	 */
+	@Test
+	void createEmployee_DuplicateUsername() {
+		Employee employee = new Employee(null, "John Doe", "jdoe", "IT", 60000.0);
+		when(employeeRepository.existsByUsername("jdoe")).thenReturn(true);
+
+		assertThrows(DuplicateUsernameException.class, () -> employeeService.createEmployee(employee));
+
+		verify(employeeRepository, never()).save(any(Employee.class));
+		verify(outboxEventRepository, never()).save(any(OutboxEvent.class));
+	}
+
+	/**
+	 * Test that a username the filter certainly does not contain is created
+	 * without an existence query, and is contained afterwards.
+	 */
+	@Test
+	void createEmployee_FilterMissSkipsLookup() {
+		when(usernameFilter.mightContain("jdoe")).thenReturn(false);
+		Employee employee = new Employee(null, "John Doe", "jdoe", "IT", 60000.0);
+		when(employeeRepository.save(employee)).thenReturn(new Employee(1L, "John Doe", "jdoe", "IT", 60000.0));
+
+		employeeService.createEmployee(employee);
+
+		verify(employeeRepository, never()).existsByUsername(any());
+		verify(usernameFilter).add("jdoe");
+	}
+
+	/**
+	 * Test that writes increment the collection version and reads do not, that
+	 * the version is read by primary key, and that it follows the read model
+	 * while it serves reads.
+	 */
+	@Test
+	void getCollectionVersion_ChangesOnWrite() {
+		Employee employee = new Employee(null, "John Doe", "jdoe", "IT", 60000.0);
+		when(employeeRepository.save(employee)).thenReturn(new Employee(1L, "John Doe", "jdoe", "IT", 60000.0));
+		when(employeeRepository.findById(1L)).thenReturn(Optional.of(new Employee(1L, "John Doe", "jdoe", "IT", 60000.0)));
+		when(collectionVersionRepository.findById(EmployeeCollectionVersion.ID))
+				.thenReturn(Optional.of(new EmployeeCollectionVersion(EmployeeCollectionVersion.ID, 42L)));
+
+		assertEquals("42", employeeService.getCollectionVersion());
+		employeeService.getEmployeeById(1L);
+		verify(collectionVersionRepository, never()).increment(any());
+		employeeService.createEmployee(employee);
+		verify(collectionVersionRepository).increment(EmployeeCollectionVersion.ID);
+
+		when(employeeReadModel.isReady()).thenReturn(true);
+		when(employeeReadModel.getCollectionVersion()).thenReturn("1-0-1");
+		assertEquals("1-0-1", employeeService.getCollectionVersion());
+	}
+
+	/**
+	 * Test that the version of an employee is looked up without loading the
+	 * employee or recording a read, and is taken from the cache once the
+	 * employee is cached.
+	 */
+	@Test
+	void getEmployeeVersion_DoesNotLoadEmployee() {
+		when(employeeRepository.findVersionById(1L)).thenReturn(Optional.of(3L));
+		assertEquals(3L, employeeService.getEmployeeVersion(1L));
+		verify(employeeRepository, never()).findById(any());
+		verify(readEventAggregator, never()).recordRead(any());
+
+		Employee cached = new Employee(1L, "John Doe", "jdoe", "IT", 60000.0);
+		cached.setVersion(4L);
+		when(employeeRepository.findById(1L)).thenReturn(Optional.of(cached));
+		employeeService.getEmployeeById(1L);
+		assertEquals(4L, employeeService.getEmployeeVersion(1L));
+		verify(employeeRepository, times(1)).findVersionById(1L);
+
+		when(employeeRepository.findVersionById(2L)).thenReturn(Optional.empty());
+		assertNull(employeeService.getEmployeeVersion(2L));
+	}
+
+	/**
+	 * Test that a field listing always selects the ID first, passes the
+	 * requested fields to the projection query and returns the next cursor.
+	 */
+	@Test
+	void getEmployeeFields_SelectsRequestedColumns() {
+		Map<String, Object> first = Map.of("id", 1L, "name", "John Doe");
+		Map<String, Object> second = Map.of("id", 2L, "name", "Jane Doe");
+		when(employeeRepository.findFieldsByIdGreaterThan(List.of("id", "name"), 0L, 2)).thenReturn(new ArrayList<>(List.of(first, second)));
+
+		KeysetPage<Map<String, Object>> page = employeeService.getEmployeeFields(List.of("name", "id"), null, 1);
+
+		assertEquals(List.of(first), page.getContent());
+		assertEquals("1", page.getNextCursor());
+		verify(employeeRepository, never()).findByIdGreaterThanOrderByIdAsc(any(), any());
+	}
+
+	/**
+	 * Test that a field listing served by the read model only holds the requested
+	 * fields, and that unknown fields are rejected.
+	 */
+	@Test
+	void getEmployeeFields_FromReadModel() {
+		when(employeeReadModel.isReady()).thenReturn(true);
+		when(employeeReadModel.getPage(0L, 101)).thenReturn(List.of(new Employee(1L, "John Doe", "jdoe", "IT", 60000.0)));
+
+		KeysetPage<Map<String, Object>> page = employeeService.getEmployeeFields(List.of("salary"), null, null);
+
+		assertEquals(List.of(Map.of("id", 1L, "salary", 60000.0)), page.getContent());
+		assertNull(page.getNextCursor());
+		assertThrows(InvalidRequestException.class, () -> employeeService.getEmployeeFields(List.of("password"), null, null));
+	}
+
+	/**
+	 * Test for bulk creation. Ensures valid employees are saved together while
+	 * incomplete employees and username conflicts, both against stored employees
+	 * and within the request, are reported per item.
+	 */
+	@Test
+	void createEmployees_ReportsPerItemResults() {
+		Employee valid = new Employee(null, "John Doe", "jdoe", "IT", 60000.0);
+		Employee taken = new Employee(null, "Jane Doe", "taken", "HR", 70000.0);
+		Employee repeated = new Employee(null, "John Again", "jdoe", "IT", 50000.0);
+		Employee incomplete = new Employee(null, "No Salary", "nosalary", "IT", null);
+
+		when(employeeRepository.findExistingUsernames(Set.of("jdoe", "taken", "nosalary"))).thenReturn(Set.of("taken"));
+		when(employeeRepository.saveAll(List.of(valid))).thenReturn(List.of(new Employee(7L, "John Doe", "jdoe", "IT", 60000.0)));
+
+		List<BulkItemResult> results = employeeService.createEmployees(Arrays.asList(valid, taken, repeated, incomplete));
+		assertEquals(4, results.size());
+		assertEquals(BulkItemResult.CREATED, results.get(0).getStatus());
+		assertEquals(7L, results.get(0).getId());
+		assertEquals(BulkItemResult.CONFLICT, results.get(1).getStatus());
+		assertEquals(BulkItemResult.CONFLICT, results.get(2).getStatus());
+		assertEquals(BulkItemResult.INVALID, results.get(3).getStatus());
+		verify(outboxEventRepository).insertAll(anyList());
+	}
+
+	/**
+	 * Test for bulk creation with usernames differing only in case, which the
+	 * unique index treats as the same, and with a missing item. Ensures they are
+	 * reported as conflicts and as invalid rather than failing the whole batch.
+	 */
+	@Test
+	void createEmployees_ComparesUsernamesIgnoringCase() {
+		Employee stored = new Employee(null, "John Doe", "JDoe", "IT", 60000.0);
+		Employee first = new Employee(null, "New Hire", "New", "HR", 50000.0);
+		Employee second = new Employee(null, "New Hire", "NEW", "HR", 50000.0);
+
+		when(employeeRepository.findExistingUsernames(Set.of("JDoe", "New", "NEW"))).thenReturn(Set.of("jdoe"));
+		when(employeeRepository.saveAll(List.of(first))).thenReturn(List.of(new Employee(8L, "New Hire", "New", "HR", 50000.0)));
+
+		List<BulkItemResult> results = employeeService.createEmployees(Arrays.asList(stored, first, second, null));
+		assertEquals(BulkItemResult.CONFLICT, results.get(0).getStatus());
+		assertEquals(BulkItemResult.CREATED, results.get(1).getStatus());
+		assertEquals(BulkItemResult.CONFLICT, results.get(2).getStatus());
+		assertEquals(BulkItemResult.INVALID, results.get(3).getStatus());
+		verify(employeeRepository).saveAll(List.of(first));
+	}
+
+	/**
+	 * Test for a bulk creation above the size limit. Ensures it is rejected as an
+	 * invalid request before anything is looked up or saved.
+	 */
+	@Test
+	void createEmployees_RejectsOversizedRequest() {
+		List<Employee> employees = Collections.nCopies(Constants.MAX_BULK_SIZE + 1, new Employee(null, "John Doe", "jdoe", "IT", 60000.0));
+
+		InvalidRequestException exception = assertThrows(InvalidRequestException.class, () -> employeeService.createEmployees(employees));
+		assertEquals(Constants.BULK_SIZE_EXCEEDED, exception.getMessage());
+		verify(employeeRepository, never()).saveAll(anyList());
+	}
+
+	/**
+	 * Test for successful employee update. Ensures the employee data is updated and
+	 * the event is recorded in the outbox.
+	 */
+	@Test
+	void updateEmployee_Success() {
+		Employee existingEmployee = new Employee(1L, "John Doe", "jdoe", "IT", 60000.0, 1L);
+		Employee updatedEmployee = new Employee(null, "Jane Doe", "jdoe2", "HR", 70000.0); // Included username
+
+		when(employeeRepository.findById(1L)).thenReturn(Optional.of(existingEmployee));
+		when(employeeRepository.saveAndFlush(existingEmployee)).thenReturn(existingEmployee);
+
+		Employee result = employeeService.updateEmployee(1L, updatedEmployee);
+		assertEquals("Jane Doe", result.getName());
+		assertEquals("jdoe2", result.getUsername()); // Added username verification
+		assertEquals("HR", result.getDepartment());
+
+		ArgumentCaptor<OutboxEvent> captor = ArgumentCaptor.forClass(OutboxEvent.class);
+		verify(outboxEventRepository).save(captor.capture());
+		EmployeeEvent event = captor.getValue().getPayload();
+		assertEquals(EmployeeEventType.UPDATE, event.getType());
+		assertEquals(1L, event.getEntityId());
+		assertEquals(Map.of(EmployeeEvent.FIELD_NAME, "Jane Doe", EmployeeEvent.FIELD_USERNAME, "jdoe2", EmployeeEvent.FIELD_DEPARTMENT, "HR",
+				EmployeeEvent.FIELD_SALARY, "70000.0", EmployeeEvent.FIELD_VERSION, "1"), event.getFields());
+	}
+
+	/**
+	 * Test for a successful partial update. Ensures the employee is read once, the
+	 * patched state is returned without reading it again, and the outbox event
+	 * carries the state after the update, including the new version.
+	 */
+	@Test
+	void patchEmployee_Success() {
+		Employee patch = new Employee(null, null, null, "HR", null, 0L);
+		when(employeeRepository.findById(1L)).thenReturn(Optional.of(new Employee(1L, "John Doe", "jdoe", "IT", 60000.0, 0L)));
+		when(employeeRepository.patch(1L, 0L, patch)).thenReturn(1);
+
+		Employee result = employeeService.patchEmployee(1L, patch);
+		assertEquals("HR", result.getDepartment());
+		assertEquals("John Doe", result.getName());
+		assertEquals(60000.0, result.getSalary());
+		assertEquals(1L, result.getVersion());
+		verify(employeeRepository, times(1)).findById(1L);
+		verify(employeeRepository, never()).findSalaryById(any());
+
+		ArgumentCaptor<OutboxEvent> captor = ArgumentCaptor.forClass(OutboxEvent.class);
+		verify(outboxEventRepository).save(captor.capture());
+		assertEquals("HR", captor.getValue().getPayload().getFields().get(EmployeeEvent.FIELD_DEPARTMENT));
+		assertEquals("1", captor.getValue().getPayload().getFields().get(EmployeeEvent.FIELD_VERSION));
+
+		ArgumentCaptor<EmployeeChangedEvent> changeCaptor = ArgumentCaptor.forClass(EmployeeChangedEvent.class);
+		verify(eventPublisher).publishEvent(changeCaptor.capture());
+		assertEquals("IT", changeCaptor.getValue().getOldDepartment());
+		assertEquals("HR", changeCaptor.getValue().getNewDepartment());
+	}
+
+	/**
+	 * Test for a partial update that would not change anything. Ensures nothing
+	 * is written and no event is recorded.
+	 */
+	@Test
+	void patchEmployee_Unchanged() {
+		Employee patch = new Employee(null, null, null, "IT", null, 0L);
+		when(employeeRepository.findById(1L)).thenReturn(Optional.of(new Employee(1L, "John Doe", "jdoe", "IT", 60000.0, 0L)));
+
+		assertEquals("IT", employeeService.patchEmployee(1L, patch).getDepartment());
+		verify(employeeRepository, never()).patch(any(), any(), any());
+		verify(outboxEventRepository, never()).save(any(OutboxEvent.class));
+	}
+
+	/**
+	 * Test for a partial update based on an outdated version. Ensures that an
+	 * {@link OptimisticLockingFailureException} is thrown before anything is
+	 * written.
+	 */
+	@Test
+	void patchEmployee_Failure_VersionConflict() {
+		Employee patch = new Employee(null, null, null, "HR", null, 0L);
+		when(employeeRepository.findById(1L)).thenReturn(Optional.of(new Employee(1L, "John Doe", "jdoe", "IT", 60000.0, 3L)));
+
+		assertThrows(OptimisticLockingFailureException.class, () -> employeeService.patchEmployee(1L, patch));
+		verify(employeeRepository, never()).patch(any(), any(), any());
+		verify(outboxEventRepository, never()).save(any(OutboxEvent.class));
+	}
+
+	/**
+	 * Test for a partial update racing with another update that commits between
+	 * the read and the write. Ensures the guarded update's miss is reported as a
+	 * conflict, and no event is recorded with the outdated old values.
+	 */
+	@Test
+	void patchEmployee_Failure_ConcurrentUpdate() {
+		Employee patch = new Employee(null, null, null, "HR", null, 0L);
+		when(employeeRepository.findById(1L)).thenReturn(Optional.of(new Employee(1L, "John Doe", "jdoe", "IT", 60000.0, 0L)));
+		when(employeeRepository.patch(1L, 0L, patch)).thenReturn(0);
+		when(employeeRepository.findVersionById(1L)).thenReturn(Optional.of(1L));
+
+		assertThrows(OptimisticLockingFailureException.class, () -> employeeService.patchEmployee(1L, patch));
+		verify(outboxEventRepository, never()).save(any(OutboxEvent.class));
+		verify(eventPublisher, never()).publishEvent(any(EmployeeChangedEvent.class));
+	}
+
+	/**
+	 * Test for a partial update whose value only differs in case, which a
+	 * case-insensitive collation compares as equal. Ensures the change is still
+	 * written and published rather than silently dropped.
+	 */
+	@Test
+	void patchEmployee_CaseOnlyChange() {
+		Employee patch = new Employee(null, "john doe", null, null, null, 0L);
+		when(employeeRepository.findById(1L)).thenReturn(Optional.of(new Employee(1L, "John Doe", "jdoe", "IT", 60000.0, 0L)));
+		when(employeeRepository.patch(1L, 0L, patch)).thenReturn(1);
+
+		Employee patched = employeeService.patchEmployee(1L, patch);
+		assertEquals("john doe", patched.getName());
+		assertEquals(1L, patched.getVersion());
+		verify(outboxEventRepository).save(any(OutboxEvent.class));
+	}
+
+	/**
+	 * Test for a partial update racing with a delete of the employee. Ensures the
+	 * guarded update's miss is reported as not found.
+	 */
+	@Test
+	void patchEmployee_Failure_ConcurrentDelete() {
+		Employee patch = new Employee(null, null, null, "HR", null, 0L);
+		when(employeeRepository.findById(1L)).thenReturn(Optional.of(new Employee(1L, "John Doe", "jdoe", "IT", 60000.0, 0L)));
+		when(employeeRepository.patch(1L, 0L, patch)).thenReturn(0);
+		when(employeeRepository.findVersionById(1L)).thenReturn(Optional.empty());
+
+		assertThrows(NoSuchElementException.class, () -> employeeService.patchEmployee(1L, patch));
+		verify(outboxEventRepository, never()).save(any(OutboxEvent.class));
+	}
+
+	/**
+	 * Test for failed employee update when the employee is not found. Ensures that
+	 * a {@link NoSuchElementException} is thrown.
+	 */
+	@Test
+	void updateEmployee_Failure_NotFound() {
+		Employee updatedEmployee = new Employee(null, "Jane Doe", "jdoe2", "HR", 70000.0);
+		when(employeeRepository.findById(1L)).thenReturn(Optional.empty());
+
+		assertThrows(NoSuchElementException.class, () -> {
+			employeeService.updateEmployee(1L, updatedEmployee);
+		});
+	}
+
+	/**
+	 * Test for successful employee deletion. Ensures the employee is deleted and the
+	 * event is recorded in the outbox.
+	 */
+	@Test
+	void deleteEmployee_Success() {
+		List<EmployeeSalary> deleted = List.of(salary(1L, "IT", 60000.0));
+		when(employeeRepository.lockSalariesByIdIn(List.of(1L))).thenReturn(deleted);
+		when(employeeRepository.deleteByIdIn(List.of(1L))).thenReturn(1);
+
+		assertDoesNotThrow(() -> employeeService.deleteEmployee(1L));
+		verify(employeeRepository, never()).findById(1L);
+		verify(outboxEventRepository).save(any(OutboxEvent.class));
+	}
+
+	/**
+	 * Test for deletion with the department analytics disabled. Ensures the
+	 * employee is removed by the DELETE statement alone, without a locking read.
+	 */
+	@Test
+	void deleteEmployee_AnalyticsDisabled() {
+		ReflectionTestUtils.setField(employeeService, "analyticsEnabled", false);
+		when(employeeRepository.deleteByIdIn(List.of(1L))).thenReturn(1);
+
+		employeeService.deleteEmployee(1L);
+
+		verify(employeeRepository, never()).lockSalariesByIdIn(any());
+		verify(outboxEventRepository).save(any(OutboxEvent.class));
+		ArgumentCaptor<EmployeeChangedEvent> captor = ArgumentCaptor.forClass(EmployeeChangedEvent.class);
+		verify(eventPublisher).publishEvent(captor.capture());
+		assertEquals(1L, captor.getValue().getId());
+		assertTrue(captor.getValue().isDeleted());
+
+		when(employeeRepository.deleteByIdIn(List.of(2L))).thenReturn(0);
+		assertThrows(NoSuchElementException.class, () -> employeeService.deleteEmployee(2L));
+	}
+
+	/**
+	 * Test for failed employee deletion when the employee is not found. Ensures
+	 * that a {@link NoSuchElementException} is thrown.
+	 */
+	@Test
+	void deleteEmployee_Failure_NotFound() {
+		when(employeeRepository.lockSalariesByIdIn(List.of(1L))).thenReturn(List.of());
+
+		assertThrows(NoSuchElementException.class, () -> {
+			employeeService.deleteEmployee(1L);
+		});
+		verify(outboxEventRepository, never()).save(any(OutboxEvent.class));
+	}
+
+	/**
+	 * Test for bulk deletion. Ensures existing employees are deleted with one
+	 * statement and their events recorded together, while unknown and repeated IDs
+	 * are reported as not found.
+	 */
+	@Test
+	void deleteEmployees_ReportsPerItemResults() {
+		List<EmployeeSalary> existing = List.of(salary(1L, "IT", 60000.0), salary(3L, "HR", 70000.0));
+		when(employeeRepository.lockSalariesByIdIn(Set.of(1L, 2L, 3L))).thenReturn(existing);
+
+		List<BulkItemResult> results = employeeService.deleteEmployees(Arrays.asList(1L, 2L, 3L, 1L));
+		assertEquals(BulkItemResult.DELETED, results.get(0).getStatus());
+		assertEquals(BulkItemResult.NOT_FOUND, results.get(1).getStatus());
+		assertEquals(BulkItemResult.DELETED, results.get(2).getStatus());
+		assertEquals(BulkItemResult.NOT_FOUND, results.get(3).getStatus());
+		verify(employeeRepository).deleteByIdIn(Set.of(1L, 3L));
+		verify(eventPublisher, times(2)).publishEvent(any(EmployeeChangedEvent.class));
+
+		@SuppressWarnings("unchecked")
+		ArgumentCaptor<List<OutboxEvent>> captor = ArgumentCaptor.forClass(List.class);
+		verify(outboxEventRepository).insertAll(captor.capture());
+		assertEquals(2, captor.getValue().size());
+	}
+
+	/**
+	 * Test for successfully retrieving all employees. Ensures the list of employees
+	 * returned matches the expected data.
+	 */
+	@Test
+	void getAllEmployees_Success() {
+		Employee emp1 = new Employee(1L, "John Doe", "jdoe", "IT", 60000.0);
+		Employee emp2 = new Employee(2L, "Jane Doe", "jdoe2", "HR", 70000.0);
+		when(employeeRepository.findAll()).thenReturn(Arrays.asList(emp1, emp2));
+
+		List<Employee> employees = employeeService.getAllEmployees();
+		assertEquals(2, employees.size());
+		assertEquals("John Doe", employees.get(0).getName());
+		assertEquals("jdoe", employees.get(0).getUsername()); // Added username verification
+		assertEquals("Jane Doe", employees.get(1).getName());
+		assertEquals("jdoe2", employees.get(1).getUsername()); // Added username verification
+	}
+
+	/**
+	 * Test for retrieving a page of employees when more rows follow. Ensures the
+	 * extra look-ahead row is dropped and its predecessor becomes the next cursor.
+	 */
+	@Test
+	void getEmployees_HasNextPage() {
+		Employee emp1 = new Employee(1L, "John Doe", "jdoe", "IT", 60000.0);
+		Employee emp2 = new Employee(2L, "Jane Doe", "jdoe2", "HR", 70000.0);
+		when(employeeRepository.findByIdGreaterThanOrderByIdAsc(0L, Limit.of(2))).thenReturn(Arrays.asList(emp1, emp2));
+
+		KeysetPage<Employee> page = employeeService.getEmployees(null, 1);
+		assertEquals(1, page.getContent().size());
+		assertEquals("jdoe", page.getContent().get(0).getUsername());
+		assertEquals("1", page.getNextCursor());
+	}
+
+	/**
+	 * Test for retrieving the last page of employees. Ensures no next cursor is
+	 * returned.
+	 */
+	@Test
+	void getEmployees_LastPage() {
+		Employee emp2 = new Employee(2L, "Jane Doe", "jdoe2", "HR", 70000.0);
+		when(employeeRepository.findByIdGreaterThanOrderByIdAsc(1L, Limit.of(11))).thenReturn(Arrays.asList(emp2));
+
+		KeysetPage<Employee> page = employeeService.getEmployees(1L, 10);
+		assertEquals(1, page.getContent().size());
+		assertNull(page.getNextCursor());
+	}
+
+	/**
+	 * Test for a page of a department listing. Ensures the summaries are read
+	 * with the keyset query and the next cursor is the last ID of the page.
+	 */
+	@Test
+	void getEmployeesByDepartment_HasNextPage() {
+		List<EmployeeSummary> summaries = List.of(summary(3L), summary(5L));
+		when(employeeRepository.findSummariesByDepartment("IT", 0L, Limit.of(2))).thenReturn(summaries);
+
+		KeysetPage<EmployeeSummary> page = employeeService.getEmployeesByDepartment("IT", null, 1);
+		assertEquals(1, page.getContent().size());
+		assertEquals("3", page.getNextCursor());
+	}
+
+	/**
+	 * Test for retrieving an employee by username. Ensures the read is audited.
+	 */
+	@Test
+	void getEmployeeByUsername_Success() {
+		when(employeeRepository.findByUsername("jdoe")).thenReturn(Optional.of(new Employee(1L, "John Doe", "jdoe", "IT", 60000.0)));
+
+		assertEquals(1L, employeeService.getEmployeeByUsername("jdoe").getId());
+		verify(readEventAggregator).recordRead(1L);
+		assertNull(employeeService.getEmployeeByUsername("unknown"));
+	}
+
+	/**
+	 * Test for exporting all employees. Ensures every streamed employee reaches
+	 * the consumer and is detached from the persistence context afterwards.
+	 */
+	@Test
+	void exportEmployees_Success() {
+		Employee emp1 = new Employee(1L, "John Doe", "jdoe", "IT", 60000.0);
+		Employee emp2 = new Employee(2L, "Jane Doe", "jdoe2", "HR", 70000.0);
+		when(employeeRepository.streamAllBy()).thenReturn(Stream.of(emp1, emp2));
+
+		List<Employee> exported = new ArrayList<>();
+		employeeService.exportEmployees(exported::add);
+		assertEquals(Arrays.asList(emp1, emp2), exported);
+		verify(entityManager).detach(emp1);
+		verify(entityManager).detach(emp2);
+	}
+
+	/**
+	 * Test for successfully retrieving an employee by ID. Ensures the returned
+	 * employee matches the expected data.
+	 */
+	@Test
+	void getEmployeeById_Success() {
+		Employee employee = new Employee(1L, "John Doe", "jdoe", "IT", 60000.0);
+		when(employeeRepository.findById(1L)).thenReturn(Optional.of(employee));
+
+		Employee foundEmployee = employeeService.getEmployeeById(1L);
+		assertEquals("John Doe", foundEmployee.getName());
+		assertEquals("jdoe", foundEmployee.getUsername()); // Added username verification
+		verify(readEventAggregator).recordRead(1L);
+	}
+
+	/**
+	 * Test for retrieval of an employee by ID while the read model is ready.
+	 * Ensures the database is not queried.
+	 */
+	@Test
+	void getEmployeeById_FromReadModel() {
+		when(employeeReadModel.isReady()).thenReturn(true);
+		when(employeeReadModel.get(1L)).thenReturn(new Employee(1L, "John Doe", "jdoe", "IT", 60000.0, 0L));
+
+		assertEquals("John Doe", employeeService.getEmployeeById(1L).getName());
+		verify(employeeRepository, never()).findById(1L);
+		verify(readEventAggregator).recordRead(1L);
+	}
+
+	/**
+	 * Test for repeated retrieval of an employee by ID. Ensures the second lookup
+	 * is served from the cache while an update invalidates the cached entry.
+	 */
+	@Test
+	void getEmployeeById_CachedUntilUpdated() {
+		Employee employee = new Employee(1L, "John Doe", "jdoe", "IT", 60000.0);
+		when(employeeRepository.findById(1L)).thenReturn(Optional.of(employee));
+		when(employeeRepository.saveAndFlush(employee)).thenReturn(employee);
+
+		employeeService.getEmployeeById(1L);
+		employeeService.getEmployeeById(1L);
+		verify(employeeRepository, times(1)).findById(1L);
+
+		employeeService.updateEmployee(1L, new Employee(null, "Jane Doe", null, null, null));
+		assertEquals("Jane Doe", employeeService.getEmployeeById(1L).getName());
+		verify(employeeRepository, times(3)).findById(1L);
+	}
+
+	/**
+	 * Creates the salary projection of an employee.
+	 */
+	private EmployeeSalary salary(Long id, String department, Double salary) {
+		EmployeeSalary projection = mock(EmployeeSalary.class);
+		when(projection.getId()).thenReturn(id);
+		when(projection.getDepartment()).thenReturn(department);
+		when(projection.getSalary()).thenReturn(salary);
+		return projection;
+	}
+
+	/**
+	 * Creates the summary projection of an employee.
+	 */
+	private EmployeeSummary summary(Long id) {
+		EmployeeSummary projection = mock(EmployeeSummary.class);
+		when(projection.getId()).thenReturn(id);
+		return projection;
+	}
+
+}
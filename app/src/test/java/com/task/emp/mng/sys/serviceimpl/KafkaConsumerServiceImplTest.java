@@ -0,0 +1,149 @@
+package com.task.emp.mng.sys.serviceimpl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.record.TimestampType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import com.task.emp.mng.sys.entity.AuditLog;
+import com.task.emp.mng.sys.event.EmployeeEvent;
+import com.task.emp.mng.sys.event.EmployeeEventCodec;
+import com.task.emp.mng.sys.event.EmployeeEventType;
+import com.task.emp.mng.sys.repository.AuditLogRepository;
+import com.task.emp.mng.sys.service.impl.KafkaConsumerServiceImpl;
+import com.task.emp.mng.sys.utils.Constants;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Unit tests for the {@link KafkaConsumerServiceImpl} class. The
+ * {@link AuditLogRepository} is mocked to verify which audit entries are
+ * written for the consumed messages.
+ * 
+ * @author agent
+ * @since 2026-10-17
+ */
+class KafkaConsumerServiceImplTest {
+
+	@InjectMocks
+	private KafkaConsumerServiceImpl kafkaConsumerService;
+
+	@Mock
+	private AuditLogRepository auditLogRepository;
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	/**
+	 * Set up the mocks and meters before each test.
+	 */
+	@BeforeEach
+	void setUp() {
+		MockitoAnnotations.openMocks(this);
+		kafkaConsumerService.bindTo(meterRegistry);
+	}
+
+	/**
+	 * Test for consuming a single event. Ensures one audit entry is saved with the
+	 * event type and entity ID.
+	 */
+	@Test
+	void consume_Success() {
+		EmployeeEvent event = EmployeeEvent.of(EmployeeEventType.CREATE, 42L);
+		kafkaConsumerService.consume(new ConsumerRecord<>(Constants.EMPLOYEE_EVENTS, 0, 0L, "42", event));
+
+		ArgumentCaptor<AuditLog> captor = ArgumentCaptor.forClass(AuditLog.class);
+		verify(auditLogRepository).save(captor.capture());
+		assertEquals("CREATE", captor.getValue().getEventType());
+		assertEquals("42", captor.getValue().getEntityId());
+		assertEquals(Instant.ofEpochMilli(event.getTimestamp()), captor.getValue().getEventTime());
+	}
+
+	/**
+	 * Test for consuming a legacy event without a timestamp. Ensures the Kafka
+	 * record timestamp is used as the event time.
+	 */
+	@Test
+	void consume_LegacyEventUsesRecordTimestamp() {
+		EmployeeEvent legacy = EmployeeEventCodec.decode("UPDATE: 7".getBytes(StandardCharsets.US_ASCII));
+		kafkaConsumerService.consume(new ConsumerRecord<>(Constants.EMPLOYEE_EVENTS, 0, 0L, 1728640000000L, TimestampType.CREATE_TIME, 0, 0, "7", legacy, new RecordHeaders(), Optional.empty()));
+
+		ArgumentCaptor<AuditLog> captor = ArgumentCaptor.forClass(AuditLog.class);
+		verify(auditLogRepository).save(captor.capture());
+		assertEquals(Instant.ofEpochMilli(1728640000000L), captor.getValue().getEventTime());
+	}
+
+	/**
+	 * Test for consuming a batch. Ensures the decoded events are saved with a
+	 * single call and records that could not be decoded are skipped.
+	 */
+	@Test
+	@SuppressWarnings("unchecked")
+	void consumeBatch_SavesAllWellFormedMessages() {
+		List<ConsumerRecord<String, EmployeeEvent>> records = List.of(
+				new ConsumerRecord<>(Constants.EMPLOYEE_EVENTS, 0, 0L, "1", EmployeeEvent.of(EmployeeEventType.CREATE, 1L)),
+				new ConsumerRecord<>(Constants.EMPLOYEE_EVENTS, 0, 1L, "1", (EmployeeEvent) null),
+				new ConsumerRecord<>(Constants.EMPLOYEE_EVENTS, 0, 2L, "2", EmployeeEvent.of(EmployeeEventType.DELETE, 2L)));
+
+		kafkaConsumerService.consumeBatch(records);
+
+		ArgumentCaptor<List<AuditLog>> captor = ArgumentCaptor.forClass(List.class);
+		verify(auditLogRepository).saveAll(captor.capture());
+		assertEquals(2, captor.getValue().size());
+		assertEquals("CREATE", captor.getValue().get(0).getEventType());
+		assertEquals("2", captor.getValue().get(1).getEntityId());
+		assertEquals(3.0, meterRegistry.counter("audit.consumer.records").count());
+		assertEquals(3.0, meterRegistry.summary("audit.consumer.batch.size").totalAmount());
+		assertEquals(1L, meterRegistry.timer("audit.consumer.insert").count());
+	}
+
+	/**
+	 * Test for consuming read events with valid and invalid read counts. Ensures
+	 * valid counts are stored, while invalid ones are stored as a single read
+	 * without failing the batch.
+	 */
+	@Test
+	@SuppressWarnings("unchecked")
+	void consumeBatch_InvalidReadCountCountsOneRead() {
+		List<ConsumerRecord<String, EmployeeEvent>> records = List.of(readRecord(0L, "12"), readRecord(1L, "many"), readRecord(2L, "-3"),
+				readRecord(3L, "99999999999999999999"));
+
+		kafkaConsumerService.consumeBatch(records);
+
+		ArgumentCaptor<List<AuditLog>> captor = ArgumentCaptor.forClass(List.class);
+		verify(auditLogRepository).saveAll(captor.capture());
+		assertEquals(List.of(12L, 1L, 1L, 1L), captor.getValue().stream().map(AuditLog::getEventCount).toList());
+	}
+
+	/**
+	 * Test for consuming a batch without any decodable record. Ensures nothing is
+	 * written.
+	 */
+	@Test
+	void consumeBatch_NothingToSave() {
+		kafkaConsumerService.consumeBatch(List.of(new ConsumerRecord<>(Constants.EMPLOYEE_EVENTS, 0, 0L, "1", (EmployeeEvent) null)));
+
+		verify(auditLogRepository, never()).saveAll(any());
+	}
+
+	private ConsumerRecord<String, EmployeeEvent> readRecord(long offset, String readCount) {
+		EmployeeEvent event = EmployeeEvent.of(EmployeeEventType.READ, 5L, Map.of(EmployeeEvent.FIELD_READ_COUNT, readCount));
+		return new ConsumerRecord<>(Constants.EMPLOYEE_EVENTS, 0, offset, "5", event);
+	}
+
+}
@@ -0,0 +1,131 @@
+package com.task.emp.mng.sys.serviceimpl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.Limit;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.task.emp.mng.sys.entity.OutboxEvent;
+import com.task.emp.mng.sys.event.EmployeeEvent;
+import com.task.emp.mng.sys.event.EmployeeEventType;
+import com.task.emp.mng.sys.repository.OutboxEventRepository;
+import com.task.emp.mng.sys.service.impl.OutboxRelayServiceImpl;
+import com.task.emp.mng.sys.utils.Constants;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Unit tests for the {@link OutboxRelayServiceImpl} class. The outbox
+ * repository and {@link KafkaTemplate} are mocked to verify that only
+ * acknowledged events are removed from the outbox.
+ * 
+ * @author agent
+ * @since 2026-10-17
+ */
+class OutboxRelayServiceImplTest {
+
+	@InjectMocks
+	private OutboxRelayServiceImpl outboxRelayService;
+
+	@Mock
+	private OutboxEventRepository outboxEventRepository;
+
+	@Mock
+	private KafkaTemplate<String, EmployeeEvent> kafkaTemplate;
+
+	private final EmployeeEvent created = EmployeeEvent.of(EmployeeEventType.CREATE, 7L);
+
+	private final EmployeeEvent updated = EmployeeEvent.of(EmployeeEventType.UPDATE, 7L);
+
+	private final OutboxEvent create = new OutboxEvent(1L, 7L, created, Instant.now());
+
+	private final OutboxEvent update = new OutboxEvent(2L, 7L, updated, Instant.now());
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+	/**
+	 * Set up the mocks, meters and relay settings before each test.
+	 */
+	@BeforeEach
+	void setUp() {
+		MockitoAnnotations.openMocks(this);
+		outboxRelayService.bindTo(meterRegistry);
+		ReflectionTestUtils.setField(outboxRelayService, "batchSize", 10);
+		ReflectionTestUtils.setField(outboxRelayService, "sendTimeoutMs", 1000L);
+		when(outboxEventRepository.findByOrderByIdAsc(Limit.of(10))).thenReturn(List.of(create, update));
+	}
+
+	/**
+	 * Test for a batch that is fully acknowledged. Ensures events are keyed by
+	 * employee ID and removed from the outbox with a single batch delete.
+	 */
+	@Test
+	void relay_AllAcknowledged() {
+		when(kafkaTemplate.send(Constants.EMPLOYEE_EVENTS, "7", created)).thenReturn(acknowledged());
+		when(kafkaTemplate.send(Constants.EMPLOYEE_EVENTS, "7", updated)).thenReturn(acknowledged());
+
+		outboxRelayService.relay();
+
+		verify(outboxEventRepository).deleteAllByIdInBatch(List.of(1L, 2L));
+		assertEquals(2.0, meterRegistry.counter("outbox.relay.events").count());
+		assertEquals(1L, meterRegistry.timer("outbox.relay.publish").count());
+	}
+
+	/**
+	 * Test for a batch whose first send fails. Ensures nothing is removed so the
+	 * events are retried in order on the next run.
+	 */
+	@Test
+	void relay_FailedSendKeepsEvents() {
+		when(kafkaTemplate.send(Constants.EMPLOYEE_EVENTS, "7", created)).thenReturn(CompletableFuture.failedFuture(new IllegalStateException("broker down")));
+		when(kafkaTemplate.send(Constants.EMPLOYEE_EVENTS, "7", updated)).thenReturn(acknowledged());
+
+		outboxRelayService.relay();
+
+		verify(kafkaTemplate, never()).send(Constants.EMPLOYEE_EVENTS, "7", updated);
+		verify(outboxEventRepository, never()).deleteAllByIdInBatch(any());
+		assertEquals(1.0, meterRegistry.counter("outbox.relay.failures").count());
+	}
+
+	/**
+	 * Test for a failed send followed by events of the same and of another
+	 * employee. Ensures the later event of the failed employee is not sent before
+	 * the failed one, while the acknowledged event of the other employee is
+	 * removed.
+	 */
+	@Test
+	void relay_FailedSendHoldsBackLaterEventsOfEmployee() {
+		EmployeeEvent otherCreated = EmployeeEvent.of(EmployeeEventType.CREATE, 8L);
+		when(outboxEventRepository.findByOrderByIdAsc(Limit.of(10)))
+				.thenReturn(List.of(create, new OutboxEvent(3L, 8L, otherCreated, Instant.now()), update));
+		when(kafkaTemplate.send(Constants.EMPLOYEE_EVENTS, "7", created)).thenReturn(CompletableFuture.failedFuture(new IllegalStateException("broker down")));
+		when(kafkaTemplate.send(Constants.EMPLOYEE_EVENTS, "8", otherCreated)).thenReturn(acknowledged());
+		when(kafkaTemplate.send(Constants.EMPLOYEE_EVENTS, "7", updated)).thenReturn(acknowledged());
+
+		outboxRelayService.relay();
+
+		verify(kafkaTemplate, never()).send(Constants.EMPLOYEE_EVENTS, "7", updated);
+		verify(outboxEventRepository).deleteAllByIdInBatch(List.of(3L));
+		assertEquals(1.0, meterRegistry.counter("outbox.relay.events").count());
+	}
+
+	private CompletableFuture<SendResult<String, EmployeeEvent>> acknowledged() {
+		return CompletableFuture.completedFuture(null);
+	}
+
+}
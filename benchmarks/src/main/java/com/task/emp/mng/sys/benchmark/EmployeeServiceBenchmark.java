@@ -0,0 +1,165 @@
+package com.task.emp.mng.sys.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.task.emp.mng.sys.EmployeeManagementSystemApplication;
+import com.task.emp.mng.sys.entity.Employee;
+import com.task.emp.mng.sys.response.BulkItemResult;
+import com.task.emp.mng.sys.response.KeysetPage;
+import com.task.emp.mng.sys.service.EmployeeService;
+
+/**
+ * Benchmarks the CRUD operations of the employee service against an embedded
+ * H2 database.
+ * 
+ * <p>
+ * The whole application context is started without a web server, with the
+ * datasource pointed at an in-memory database seeded with the given number of
+ * employees. Kafka is not needed: the outbox relay and the audit consumer are
+ * disabled, so events only accumulate in the outbox table. The numbers
+ * therefore measure the service, JPA and JDBC overhead, not MySQL or network
+ * latency.
+ * </p>
+ * 
+ * @author agent
+ * @since 2026-10-17
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EmployeeServiceBenchmark {
+
+	/**
+	 * The arguments overriding the application configuration, which take
+	 * precedence over the bundled {@code application.properties}.
+	 */
+	private static final String[] ARGUMENTS = {
+			"--spring.datasource.url=jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1",
+			"--spring.datasource.username=sa",
+			"--spring.datasource.password=",
+			"--spring.jpa.hibernate.ddl-auto=create-drop",
+			"--outbox.relay.enabled=false",
+			"--audit.consumer.mode=none",
+			"--logging.level.root=WARN" };
+
+	@Param({ "10000" })
+	private int employees;
+
+	private ConfigurableApplicationContext context;
+
+	private EmployeeService employeeService;
+
+	private final List<Long> ids = new ArrayList<>();
+
+	private final AtomicLong sequence = new AtomicLong();
+
+	/**
+	 * Starts the application and seeds the database.
+	 */
+	@Setup
+	public void setUp() {
+		context = new SpringApplicationBuilder(EmployeeManagementSystemApplication.class).web(WebApplicationType.NONE).logStartupInfo(false)
+				.run(ARGUMENTS);
+		employeeService = context.getBean(EmployeeService.class);
+		List<Employee> batch = new ArrayList<>();
+		for (int i = 0; i < employees; i++) {
+			batch.add(newEmployee());
+			if (batch.size() == 1000 || i == employees - 1) {
+				for (BulkItemResult result : employeeService.createEmployees(batch)) {
+					ids.add(result.getId());
+				}
+				batch.clear();
+			}
+		}
+	}
+
+	/**
+	 * Stops the application.
+	 */
+	@TearDown
+	public void tearDown() {
+		context.close();
+	}
+
+	/**
+	 * Looks up a random employee by ID, mostly served by the employee cache.
+	 *
+	 * @return the employee
+	 */
+	@Benchmark
+	public Employee getEmployeeById() {
+		return employeeService.getEmployeeById(randomId());
+	}
+
+	/**
+	 * Reads a page of 100 employees after a random ID.
+	 *
+	 * @return the page
+	 */
+	@Benchmark
+	public KeysetPage<Employee> getEmployees() {
+		return employeeService.getEmployees(randomId(), 100);
+	}
+
+	/**
+	 * Changes the salary of a random employee.
+	 *
+	 * @return the updated employee
+	 */
+	@Benchmark
+	public Employee updateEmployee() {
+		return employeeService.updateEmployee(randomId(), new Employee(null, null, null, null, ThreadLocalRandom.current().nextDouble(30000, 150000)));
+	}
+
+	/**
+	 * Creates an employee and deletes it again, which keeps the table size
+	 * constant.
+	 *
+	 * @return the created employee
+	 */
+	@Benchmark
+	public Employee createAndDeleteEmployee() {
+		Employee created = employeeService.createEmployee(newEmployee());
+		employeeService.deleteEmployee(created.getId());
+		return created;
+	}
+
+	/**
+	 * Returns the ID of a random seeded employee.
+	 */
+	private Long randomId() {
+		return ids.get(ThreadLocalRandom.current().nextInt(ids.size()));
+	}
+
+	/**
+	 * Creates a new employee with a unique username.
+	 */
+	private Employee newEmployee() {
+		long number = sequence.incrementAndGet();
+		return new Employee(null, "Employee " + number, "employee" + number, "Department " + number % 20, 50000.0 + number % 1000);
+	}
+
+}
@@ -0,0 +1,120 @@
+package com.task.emp.mng.sys.benchmark;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.task.emp.mng.sys.entity.AuditLog;
+import com.task.emp.mng.sys.event.EmployeeEvent;
+import com.task.emp.mng.sys.event.EmployeeEventCodec;
+import com.task.emp.mng.sys.event.EmployeeEventDeserializer;
+import com.task.emp.mng.sys.event.EmployeeEventType;
+import com.task.emp.mng.sys.repository.AuditLogRepository;
+import com.task.emp.mng.sys.service.impl.KafkaConsumerServiceImpl;
+import com.task.emp.mng.sys.utils.Constants;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Benchmarks the consumer side of employee events: decoding a record value
+ * and turning it into an audit log entry in
+ * {@link KafkaConsumerServiceImpl#consume(ConsumerRecord)}.
+ * 
+ * <p>
+ * Both the binary event format and the legacy {@code "TYPE: id"} text format
+ * are measured. The audit log repository is replaced by a stub that keeps the
+ * saved entry, so the database is not part of the measurement.
+ * </p>
+ * 
+ * @author agent
+ * @since 2026-10-17
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EventConsumeBenchmark {
+
+	@Param({ "binary", "legacy" })
+	private String format;
+
+	private byte[] value;
+
+	private EmployeeEventDeserializer deserializer;
+
+	private KafkaConsumerServiceImpl consumerService;
+
+	private AuditLog saved;
+
+	/**
+	 * Encodes an update event in the chosen format and creates the consumer
+	 * service with a stub repository.
+	 *
+	 * @throws ReflectiveOperationException if the repository cannot be injected
+	 */
+	@Setup
+	public void setUp() throws ReflectiveOperationException {
+		if (format.equals("binary")) {
+			value = EmployeeEventCodec.encode(EmployeeEvent.of(EmployeeEventType.UPDATE, 42L, Map.of(EmployeeEvent.FIELD_NAME, "John Doe",
+					EmployeeEvent.FIELD_USERNAME, "jdoe", EmployeeEvent.FIELD_DEPARTMENT, "Engineering", EmployeeEvent.FIELD_SALARY, "85000.0",
+					EmployeeEvent.FIELD_VERSION, "7")));
+		} else {
+			value = "UPDATE: 42".getBytes(StandardCharsets.UTF_8);
+		}
+		deserializer = new EmployeeEventDeserializer();
+
+		consumerService = new KafkaConsumerServiceImpl();
+		consumerService.bindTo(new SimpleMeterRegistry());
+		Field repository = KafkaConsumerServiceImpl.class.getDeclaredField("auditLogRepository");
+		repository.setAccessible(true);
+		repository.set(consumerService, Proxy.newProxyInstance(AuditLogRepository.class.getClassLoader(), new Class<?>[] { AuditLogRepository.class },
+				(proxy, method, args) -> {
+					if (method.getName().equals("save")) {
+						saved = (AuditLog) args[0];
+						return saved;
+					}
+					return method.getName().equals("saveAll") ? List.of() : null;
+				}));
+	}
+
+	/**
+	 * Decodes the record value.
+	 *
+	 * @return the decoded event
+	 */
+	@Benchmark
+	public EmployeeEvent decode() {
+		return deserializer.deserialize(Constants.EMPLOYEE_EVENTS, value);
+	}
+
+	/**
+	 * Decodes the record value and consumes the record.
+	 *
+	 * @return the audit log entry that was saved
+	 */
+	@Benchmark
+	public AuditLog decodeAndConsume() {
+		EmployeeEvent event = deserializer.deserialize(Constants.EMPLOYEE_EVENTS, value);
+		consumerService.consume(new ConsumerRecord<>(Constants.EMPLOYEE_EVENTS, 0, 0L, "42", event));
+		return saved;
+	}
+
+}
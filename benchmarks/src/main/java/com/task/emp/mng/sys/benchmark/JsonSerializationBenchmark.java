@@ -0,0 +1,79 @@
+package com.task.emp.mng.sys.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.task.emp.mng.sys.entity.Employee;
+import com.task.emp.mng.sys.response.ApiResponseContainer;
+import com.task.emp.mng.sys.response.ResponseContainerEntity;
+
+/**
+ * Benchmarks the JSON serialization of an employee list response, as written
+ * by the list endpoint, for several list sizes.
+ * 
+ * <p>
+ * The object mapper is built with {@link Jackson2ObjectMapperBuilder}, which
+ * applies the same defaults as the one used by Spring MVC.
+ * </p>
+ * 
+ * @author agent
+ * @since 2026-10-17
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonSerializationBenchmark {
+
+	@Param({ "1", "100", "1000", "10000" })
+	private int size;
+
+	private ObjectMapper objectMapper;
+
+	private ResponseContainerEntity<List<Employee>> response;
+
+	/**
+	 * Builds the object mapper and a response holding the given number of
+	 * employees.
+	 */
+	@Setup
+	public void setUp() {
+		objectMapper = Jackson2ObjectMapperBuilder.json().build();
+		List<Employee> employees = new ArrayList<>(size);
+		for (long id = 1; id <= size; id++) {
+			employees.add(new Employee(id, "Employee " + id, "employee" + id, "Department " + id % 20, 50000.0 + id, 3L));
+		}
+		response = ApiResponseContainer.getResponse("Success", employees, HttpStatus.OK, String.valueOf(size));
+	}
+
+	/**
+	 * Serializes the response to UTF-8 JSON.
+	 *
+	 * @return the serialized response
+	 * @throws JsonProcessingException if serialization fails
+	 */
+	@Benchmark
+	public byte[] serialize() throws JsonProcessingException {
+		return objectMapper.writeValueAsBytes(response);
+	}
+
+}
@@ -1,24 +0,0 @@
-package com.task.emp.mng.sys.utils;
-
-/**
- * This class contains constant values representing API path constants for
- * employee management. These constants are used to define the endpoints for
- * employee-related operations.
- * 
- * @author Jatin
- * @since 2024-10-11
- */
-public class ApiPathConstants {
-
-	/**
-	 * The constant string representing the base path for employee-related endpoints.
-	 */
-	public static final String EMPLOYEES = "/employees";
-
-	/**
-	 * The constant string representing a path variable for employee ID. This is
-	 * used to specify an individual employee's resource in the API.
-	 */
-	public static final String ID = "/{id}";
-
-}
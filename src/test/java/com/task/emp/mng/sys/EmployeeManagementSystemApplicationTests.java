@@ -1,13 +0,0 @@
-package com.task.emp.mng.sys;
-
-import org.junit.jupiter.api.Test;
-import org.springframework.boot.test.context.SpringBootTest;
-
-@SpringBootTest
-class EmployeeManagementSystemApplicationTests {
-
-	@Test
-	void contextLoads() {
-	}
-
-}